@@ -0,0 +1,111 @@
+package io.fjsn.chirp;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class BufferStats {
+
+    private final String format;
+
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder allocations = new LongAdder();
+    private final LongAdder growths = new LongAdder();
+    private final LongAdder discards = new LongAdder();
+
+    private final AtomicInteger pooledBuffers = new AtomicInteger();
+    private final AtomicLong retainedBytes = new AtomicLong();
+
+    private final Map<String, AtomicInteger> sizeEstimates = new ConcurrentHashMap<>();
+
+    public BufferStats(String format) {
+        this.format = format;
+    }
+
+    public void recordAcquisition() {
+        acquisitions.increment();
+    }
+
+    public void recordAllocation() {
+        allocations.increment();
+    }
+
+    public void recordGrowth() {
+        growths.increment();
+    }
+
+    public void recordPooled(int capacity) {
+        pooledBuffers.incrementAndGet();
+        retainedBytes.addAndGet(capacity);
+    }
+
+    public void recordRetainedGrowth(int extra) {
+        retainedBytes.addAndGet(extra);
+    }
+
+    public void recordDiscard(int capacity) {
+        discards.increment();
+        pooledBuffers.decrementAndGet();
+        retainedBytes.addAndGet(-capacity);
+    }
+
+    public AtomicInteger sizeEstimate(String type) {
+        return sizeEstimates.computeIfAbsent(type, key -> new AtomicInteger());
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public long getAcquisitions() {
+        return acquisitions.sum();
+    }
+
+    public long getAllocations() {
+        return allocations.sum();
+    }
+
+    public long getGrowths() {
+        return growths.sum();
+    }
+
+    public long getDiscards() {
+        return discards.sum();
+    }
+
+    public int getPooledBuffers() {
+        return pooledBuffers.get();
+    }
+
+    public long getRetainedBytes() {
+        return retainedBytes.get();
+    }
+
+    public Map<String, Integer> getSizeEstimates() {
+        Map<String, Integer> estimates = new TreeMap<>();
+        sizeEstimates.forEach((type, estimate) -> estimates.put(type, estimate.get()));
+        return estimates;
+    }
+
+    @Override
+    public String toString() {
+        return format
+                + ": pooled="
+                + getPooledBuffers()
+                + ", retained="
+                + getRetainedBytes()
+                + "B, acquisitions="
+                + getAcquisitions()
+                + ", allocations="
+                + getAllocations()
+                + ", growths="
+                + getGrowths()
+                + ", discards="
+                + getDiscards()
+                + ", estimates="
+                + getSizeEstimates();
+    }
+}
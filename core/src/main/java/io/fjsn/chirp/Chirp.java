@@ -0,0 +1,628 @@
+package io.fjsn.chirp;
+
+import io.fjsn.chirp.converter.FieldConverter;
+import io.fjsn.chirp.converter.StreamingFieldConverter;
+import io.fjsn.chirp.internal.handler.EventDispatcher;
+import io.fjsn.chirp.internal.redis.BinaryJedisSubscriber;
+import io.fjsn.chirp.internal.redis.LargePacketHandler;
+import io.fjsn.chirp.internal.redis.PacketReceiver;
+import io.fjsn.chirp.internal.redis.PacketTypeNegotiator;
+import io.fjsn.chirp.internal.schema.PacketSchema;
+import io.fjsn.chirp.internal.serialization.BinaryPacketSerializer;
+import io.fjsn.chirp.internal.serialization.PacketBuffers;
+import io.fjsn.chirp.internal.serialization.PacketCompressor;
+import io.fjsn.chirp.internal.serialization.PacketDeltas;
+import io.fjsn.chirp.internal.serialization.PacketSerializer;
+import io.fjsn.chirp.internal.serialization.PacketWarmup;
+import io.fjsn.chirp.internal.serialization.StreamingPacketSerializer;
+import io.fjsn.chirp.internal.util.ChirpLogger;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public class Chirp {
+
+    public static ChirpBuilder builder() {
+        return new ChirpBuilder();
+    }
+
+    private static final String CHANNEL_PREFIX = "chirp:";
+
+    private final String channel;
+    private final String origin;
+
+    private JedisPool jedisPool;
+    private final ChirpRegistry registry;
+    private final EventDispatcher eventDispatcher;
+    private final PacketReceiver packetReceiver;
+    private final PacketTypeNegotiator packetTypeNegotiator;
+    private final PacketCompressor packetCompressor;
+    private final LargePacketHandler largePackets;
+    private final PacketDeltas packetDeltas;
+    private final Map<String, byte[]> channelBytes = new ConcurrentHashMap<>();
+
+    private PacketFormat format = PacketFormat.JSON;
+    private boolean streaming = true;
+
+    private Thread mainSubscriberThread;
+    private Thread serviceSubscriberThread;
+    private final CompletableFuture<Void> mainSubscribed = new CompletableFuture<>();
+    private final CompletableFuture<Void> serviceSubscribed = new CompletableFuture<>();
+
+    public Chirp(String channel) {
+        this(channel, generateRandomHex(16));
+    }
+
+    public Chirp(String channel, String origin) {
+        this.channel = CHANNEL_PREFIX + channel;
+        this.origin = origin;
+        this.registry = new ChirpRegistry();
+        this.registry.registerDefaultConverters();
+        this.eventDispatcher = new EventDispatcher(registry);
+        this.packetReceiver = new PacketReceiver(this, eventDispatcher);
+        this.packetTypeNegotiator = new PacketTypeNegotiator(registry, this.channel, origin);
+        this.packetCompressor = new PacketCompressor(registry);
+        this.largePackets = new LargePacketHandler(this.channel, () -> jedisPool.getResource());
+        this.packetDeltas = new PacketDeltas(packetReceiver::dropStats);
+        ChirpLogger.debug(
+                "Chirp initialized with channel: " + this.channel + " and origin: " + this.origin);
+    }
+
+    Chirp(String channel, String origin, ChirpRegistry registry, JedisPool jedisPool) {
+        this.channel = CHANNEL_PREFIX + channel;
+        this.origin = origin;
+        this.registry = registry;
+        this.jedisPool = jedisPool;
+        this.eventDispatcher = new EventDispatcher(registry);
+        this.packetReceiver = new PacketReceiver(this, eventDispatcher);
+        this.packetTypeNegotiator = new PacketTypeNegotiator(registry, this.channel, origin);
+        this.packetCompressor = new PacketCompressor(registry);
+        this.largePackets = new LargePacketHandler(this.channel, () -> jedisPool.getResource());
+        this.packetDeltas = new PacketDeltas(packetReceiver::dropStats);
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public ChirpRegistry getRegistry() {
+        return registry;
+    }
+
+    public PacketFormat getFormat() {
+        return format;
+    }
+
+    public void setFormat(PacketFormat format) {
+        if (format == null) {
+            throw new IllegalArgumentException("Packet format cannot be null");
+        }
+        this.format = format;
+    }
+
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public int getCompressionThreshold() {
+        return packetCompressor.getThreshold();
+    }
+
+    public void setCompressionThreshold(int compressionThreshold) {
+        packetCompressor.setThreshold(compressionThreshold);
+    }
+
+    public Map<String, CompressionStats> getCompressionStats() {
+        return packetCompressor.getStats();
+    }
+
+    public LargePacketStrategy getLargePacketStrategy() {
+        return largePackets.getStrategy();
+    }
+
+    public int getLargePacketThreshold() {
+        return largePackets.getThreshold();
+    }
+
+    public void setLargePackets(LargePacketStrategy strategy, int thresholdBytes) {
+        largePackets.configure(strategy, thresholdBytes);
+    }
+
+    public Map<String, LargePacketStats> getLargePacketStats() {
+        return largePackets.getStats();
+    }
+
+    public Map<String, PacketDropStats> getPacketDropStats() {
+        return packetReceiver.getDropStats();
+    }
+
+    public Map<String, PacketCacheStats> getPacketCacheStats() {
+        Map<String, PacketCacheStats> stats = new TreeMap<>();
+        for (PacketSchema schema : registry.getPacketSchemaRegistry().values()) {
+            if (schema.bodyCache != null) {
+                stats.put(
+                        ChirpRegistry.packetTypeName(schema.packetClass),
+                        schema.bodyCache.getStats());
+            }
+        }
+        return Collections.unmodifiableMap(stats);
+    }
+
+    public BufferStats getBufferStats() {
+        return format == PacketFormat.BINARY
+                ? PacketBuffers.BINARY.getStats()
+                : PacketBuffers.JSON.getStats();
+    }
+
+    public void connect(String redisHost, int redisPort) {
+        connect(redisHost, redisPort, null);
+    }
+
+    public void connect(String redisHost, int redisPort, String redisPassword) {
+        long startTime = System.currentTimeMillis();
+        JedisPoolConfig redisConfig = new JedisPoolConfig();
+
+        if (redisPassword == null || redisPassword.isEmpty()) {
+            this.jedisPool = new JedisPool(redisConfig, redisHost, redisPort, 2000);
+        } else {
+            this.jedisPool = new JedisPool(redisConfig, redisHost, redisPort, 2000, redisPassword);
+        }
+
+        try (Jedis jedis = jedisPool.getResource()) {
+            String response = jedis.ping();
+            if ("PONG".equals(response)) {
+                ChirpLogger.info("Connected to Redis");
+            } else {
+                throw new RuntimeException(
+                        "Failed to connect to Redis: Unexpected response " + response);
+            }
+        } catch (Exception e) {
+            long endTime = System.currentTimeMillis();
+            ChirpLogger.severe(
+                    "Error connecting to Redis in "
+                            + (endTime - startTime)
+                            + "ms: "
+                            + e.getMessage());
+            throw new RuntimeException("Error connecting to Redis: " + e.getMessage(), e);
+        }
+        long endTime = System.currentTimeMillis();
+        ChirpLogger.info("Connected to Redis in " + (endTime - startTime) + "ms.");
+    }
+
+    public void cleanup() {
+        if (jedisPool != null) {
+            try (Jedis jedis = jedisPool.getResource()) {
+                packetTypeNegotiator.cleanup(jedis);
+            } catch (Exception e) {
+                packetTypeNegotiator.cleanup(null);
+                ChirpLogger.warning("Failed to leave packet type negotiation: " + e.getMessage());
+            }
+            jedisPool.close();
+            jedisPool = null;
+        }
+
+        if (mainSubscriberThread != null && mainSubscriberThread.isAlive()) {
+            mainSubscriberThread.interrupt();
+            ChirpLogger.info("Main subscriber thread interrupted.");
+        }
+
+        if (serviceSubscriberThread != null && serviceSubscriberThread.isAlive()) {
+            serviceSubscriberThread.interrupt();
+            ChirpLogger.info("Service subscriber thread interrupted.");
+        }
+
+        largePackets.cleanup();
+        registry.cleanup();
+    }
+
+    public void registerPacket(Class<?> packetClass) {
+        registry.registerPacket(packetClass);
+        if (mainSubscriberThread != null) {
+            negotiatePacketTypes();
+        }
+    }
+
+    public void registerSubtypes(Class<?> baseClass, Class<?>... subtypes) {
+        registry.registerSubtypes(baseClass, subtypes);
+    }
+
+    public void registerListener(Object listenerObject) {
+        registry.registerListener(listenerObject);
+    }
+
+    public void registerConverter(Class<?> genericType, FieldConverter<?> converter) {
+        registry.registerConverter(genericType, converter);
+    }
+
+    public void registerConverter(Class<?> genericType, StreamingFieldConverter<?> converter) {
+        registry.registerConverter(genericType, converter);
+    }
+
+    public void warmup(int iterations) {
+        if (iterations < 0) {
+            throw new IllegalArgumentException("Warm-up iterations cannot be negative");
+        }
+        PacketWarmup.run(this, iterations);
+    }
+
+    public void setupCallbackRemoverThread() {
+        registry.setupCallbackRemoverThread();
+    }
+
+    private void negotiatePacketTypes() {
+        try (Jedis jedis = jedisPool.getResource()) {
+            packetTypeNegotiator.negotiate(jedis);
+        } catch (Exception e) {
+            ChirpLogger.severe(
+                    "Failed to negotiate packet type ids, falling back to type names: "
+                            + e.getMessage());
+        }
+    }
+
+    // Completes once Redis has confirmed both subscriptions, not merely once the subscriber
+    // threads have started.
+    public CompletableFuture<Void> whenSubscribed() {
+        return CompletableFuture.allOf(mainSubscribed, serviceSubscribed);
+    }
+
+    private Thread startSubscriberThread(
+            String channel, String threadName, CompletableFuture<Void> subscribed) {
+        Thread thread =
+                new Thread(
+                        () -> {
+                            while (!Thread.currentThread().isInterrupted()) {
+                                try (Jedis jedis = jedisPool.getResource()) {
+                                    ChirpLogger.info(
+                                            "Attempting to subscribe to channel: " + channel);
+                                    // Messages are received as raw bytes whatever the format,
+                                    // so JSON is parsed without first building a String.
+                                    jedis.subscribe(
+                                            new BinaryJedisSubscriber(
+                                                    registry,
+                                                    packetCompressor,
+                                                    largePackets,
+                                                    packetDeltas,
+                                                    packetReceiver,
+                                                    streaming,
+                                                    () -> subscribed.complete(null)),
+                                            channelBytes(channel));
+                                } catch (JedisConnectionException e) {
+                                    ChirpLogger.warning(
+                                            "Redis connection lost or refused for subscriber on"
+                                                    + " channel '"
+                                                    + channel
+                                                    + "'. Retrying in 5 seconds...");
+                                    try {
+                                        TimeUnit.SECONDS.sleep(5);
+                                    } catch (InterruptedException ie) {
+                                        Thread.currentThread().interrupt();
+                                        ChirpLogger.info(
+                                                "Subscriber reconnection thread interrupted for"
+                                                        + " channel "
+                                                        + channel
+                                                        + ".");
+                                        break;
+                                    }
+                                } catch (Exception e) {
+                                    ChirpLogger.severe(
+                                            "Unexpected error in Redis subscriber for channel '"
+                                                    + channel
+                                                    + "': "
+                                                    + e.getMessage());
+                                    e.printStackTrace();
+                                    try {
+                                        TimeUnit.SECONDS.sleep(5);
+                                    } catch (InterruptedException ie) {
+                                        Thread.currentThread().interrupt();
+                                        break;
+                                    }
+                                }
+                            }
+                        },
+                        threadName);
+
+        thread.start();
+        return thread;
+    }
+
+    public void subscribe() {
+        long startTime = System.nanoTime();
+        if (jedisPool == null) {
+            throw new IllegalStateException("JedisPool not initialized. Call connect() first.");
+        }
+
+        negotiatePacketTypes();
+        packetTypeNegotiator.setupHeartbeatThread(() -> jedisPool.getResource());
+
+        mainSubscriberThread =
+                startSubscriberThread(channel, "Chirp-Subscriber-Main", mainSubscribed);
+        serviceSubscriberThread =
+                startSubscriberThread(
+                        channel + ":" + origin, "Chirp-Subscriber-Service", serviceSubscribed);
+
+        long endTime = System.nanoTime();
+        ChirpLogger.info(
+                "Subscribed to channels: "
+                        + channel
+                        + " and "
+                        + channel
+                        + ":"
+                        + origin
+                        + " in "
+                        + (endTime - startTime) / 1_000_000.0
+                        + "ms.");
+    }
+
+    public void publish(Object packet) {
+        publish(packet, (String) null, false, null);
+    }
+
+    public void publish(Object packet, String destination) {
+        publish(packet, destination, false, null);
+    }
+
+    public void publish(Object packet, boolean self) {
+        publish(packet, (String) null, self, null);
+    }
+
+    public <T> void publish(Object packet, ChirpCallback<T> callback) {
+        publish(packet, (String) null, false, callback);
+    }
+
+    public void publish(Object packet, String destination, boolean self) {
+        publish(packet, destination, false, null);
+    }
+
+    public <T> void publish(Object packet, String destination, ChirpCallback<T> callback) {
+        publish(packet, destination, false, callback);
+    }
+
+    public <T> void publish(Object packet, boolean self, ChirpCallback<T> callback) {
+        publish(packet, (String) null, self, callback);
+    }
+
+    private <T> void publishPacket(
+            Object packet,
+            List<String> finalChannels,
+            boolean isResponse,
+            UUID respondingTo,
+            boolean self,
+            ChirpCallback<T> callback) {
+        long startTime = System.nanoTime();
+
+        if (jedisPool == null) {
+            throw new IllegalStateException("JedisPool not initialized. Call setup() first.");
+        }
+        if (packet == null) {
+            throw new IllegalArgumentException("Packet cannot be null");
+        }
+
+        String type = ChirpRegistry.packetTypeName(packet.getClass());
+
+        if (!registry.getPacketRegistry().containsKey(type)) {
+            long endTime = System.nanoTime();
+            String action = isResponse ? "respond" : "publish";
+            ChirpLogger.severe(
+                    "Failed to "
+                            + action
+                            + " (type not registered) in "
+                            + (endTime - startTime) / 1_000_000.0
+                            + "ms: Packet type "
+                            + type
+                            + " is not registered");
+            throw new IllegalArgumentException("Packet type " + type + " is not registered");
+        }
+
+        UUID packetId = UUID.randomUUID();
+
+        if (callback != null) {
+            registry.registerCallback(packetId, callback);
+        }
+
+        try (Jedis jedis = jedisPool.getResource()) {
+            long sent = System.currentTimeMillis();
+
+            // The payload is serialized once and reused for every channel it is published to.
+            // Keyed binary packets are diffed per channel instead, and channels that are in step
+            // share a frame.
+            List<PacketDeltas.Frame> frames;
+            if (format == PacketFormat.BINARY
+                    && registry.getPacketSchema(packet.getClass()).isKeyed()) {
+                frames =
+                        packetDeltas.encode(
+                                packet,
+                                registry.getPacketSchema(packet.getClass()),
+                                finalChannels,
+                                packetId,
+                                origin,
+                                isResponse,
+                                respondingTo,
+                                self,
+                                sent,
+                                registry);
+            } else if (format == PacketFormat.BINARY) {
+                frames =
+                        List.of(
+                                new PacketDeltas.Frame(
+                                        finalChannels,
+                                        BinaryPacketSerializer.serialize(
+                                                packet,
+                                                packetId,
+                                                origin,
+                                                isResponse,
+                                                respondingTo,
+                                                self,
+                                                sent,
+                                                registry)));
+            } else if (streaming) {
+                frames =
+                        List.of(
+                                new PacketDeltas.Frame(
+                                        finalChannels,
+                                        StreamingPacketSerializer.toJsonBytes(
+                                                packet,
+                                                packetId,
+                                                origin,
+                                                isResponse,
+                                                respondingTo,
+                                                self,
+                                                sent,
+                                                registry)));
+            } else {
+                frames =
+                        List.of(
+                                new PacketDeltas.Frame(
+                                        finalChannels,
+                                        PacketSerializer.toJsonString(
+                                                        packet,
+                                                        packetId,
+                                                        origin,
+                                                        isResponse,
+                                                        respondingTo,
+                                                        self,
+                                                        sent,
+                                                        registry)
+                                                .getBytes(StandardCharsets.UTF_8)));
+            }
+
+            // Oversized payloads are replaced by their chunks or a claim-check reference before
+            // anything is published.
+            List<List<byte[]>> messages = new ArrayList<>(frames.size());
+            for (PacketDeltas.Frame frame : frames) {
+                byte[] payload = packetCompressor.compress(packet.getClass(), frame.payload());
+                messages.add(largePackets.split(jedis, packet.getClass(), payload));
+            }
+
+            if (finalChannels.size() == 1 && messages.get(0).size() == 1) {
+                jedis.publish(channelBytes(finalChannels.get(0)), messages.get(0).get(0));
+            } else {
+                Pipeline pipeline = jedis.pipelined();
+                for (int i = 0; i < frames.size(); i++) {
+                    for (String finalChannel : frames.get(i).channels()) {
+                        for (byte[] message : messages.get(i)) {
+                            pipeline.publish(channelBytes(finalChannel), message);
+                        }
+                    }
+                }
+                pipeline.sync();
+            }
+
+            long endTime = System.nanoTime();
+            String actionLog = isResponse ? "response" : "packet";
+            ChirpLogger.debug(
+                    "Published "
+                            + actionLog
+                            + " to "
+                            + (finalChannels.size() == 1 ? "channel: " : "channels: ")
+                            + String.join(", ", finalChannels)
+                            + " in "
+                            + (endTime - startTime) / 1_000_000.0
+                            + "ms.");
+            if (ChirpLogger.debug) {
+                ChirpLogger.debug(
+                        "Raw packet: "
+                                + PacketSerializer.toPrettyJsonString(
+                                        packet,
+                                        packetId,
+                                        origin,
+                                        isResponse,
+                                        respondingTo,
+                                        self,
+                                        sent,
+                                        registry));
+            }
+        } catch (Exception e) {
+            long endTime = System.nanoTime();
+            String actionLog = isResponse ? "respond to event" : "publish packet";
+            ChirpLogger.severe(
+                    "Failed to "
+                            + actionLog
+                            + " in "
+                            + (endTime - startTime) / 1_000_000.0
+                            + "ms: "
+                            + e.getMessage());
+        }
+    }
+
+    public <T> void publish(
+            Object packet, String destination, boolean self, ChirpCallback<T> callback) {
+        String finalChannel = destination == null ? channel : channel + ":" + destination;
+        publishPacket(packet, List.of(finalChannel), false, null, self, callback);
+    }
+
+    public void publish(Object packet, Collection<String> destinations) {
+        publish(packet, destinations, false, null);
+    }
+
+    public void publish(Object packet, Collection<String> destinations, boolean self) {
+        publish(packet, destinations, self, null);
+    }
+
+    public <T> void publish(
+            Object packet, Collection<String> destinations, ChirpCallback<T> callback) {
+        publish(packet, destinations, false, callback);
+    }
+
+    public <T> void publish(
+            Object packet,
+            Collection<String> destinations,
+            boolean self,
+            ChirpCallback<T> callback) {
+        if (destinations == null || destinations.isEmpty()) {
+            throw new IllegalArgumentException("Destinations cannot be empty");
+        }
+
+        Set<String> finalChannels = new LinkedHashSet<>();
+        for (String destination : destinations) {
+            if (destination == null) {
+                throw new IllegalArgumentException("Destination cannot be null");
+            }
+            finalChannels.add(channel + ":" + destination);
+        }
+        publishPacket(packet, List.copyOf(finalChannels), false, null, self, callback);
+    }
+
+    public void respond(ChirpPacketEvent<?> event, Object response, boolean self) {
+        String finalChannel = channel + ":" + event.getOrigin();
+        publishPacket(response, List.of(finalChannel), true, event.getPacketId(), self, null);
+    }
+
+    // Destinations are a small, stable set of node names, so their encoded form is kept.
+    private byte[] channelBytes(String finalChannel) {
+        return channelBytes.computeIfAbsent(
+                finalChannel, name -> name.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String generateRandomHex(int length) {
+        StringBuilder sb = new StringBuilder(length);
+        while (sb.length() < length) {
+            sb.append(Integer.toHexString((int) (Math.random() * 16)));
+        }
+        return sb.toString();
+    }
+}
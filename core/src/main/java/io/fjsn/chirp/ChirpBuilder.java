@@ -0,0 +1,310 @@
+package io.fjsn.chirp;
+
+import io.fjsn.chirp.converter.FieldConverter;
+import io.fjsn.chirp.converter.StreamingFieldConverter;
+import io.fjsn.chirp.internal.util.AnnotationScanner;
+import io.fjsn.chirp.internal.util.ChirpLogger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+public class ChirpBuilder {
+
+    private String channel;
+    private String origin;
+    private String scanPackageName;
+    private PacketFormat format = PacketFormat.JSON;
+    private boolean streaming = true;
+    private int compressionThreshold = -1;
+    private int warmupIterations;
+    private LargePacketStrategy largePacketStrategy = LargePacketStrategy.CHUNK;
+    private int largePacketThreshold = -1;
+
+    private Map<Class<?>, FieldConverter<?>> converters;
+    private List<Class<?>> packetClasses;
+    private Map<Class<?>, Class<?>[]> subtypes;
+    private ArrayList<Object> listenerObjects;
+
+    private String redisUsername;
+    private int redisPort;
+    private String redisPassword;
+
+    public ChirpBuilder() {
+        packetClasses = new ArrayList<>();
+        listenerObjects = new ArrayList<>();
+        converters = new HashMap<>();
+        subtypes = new LinkedHashMap<>();
+    }
+
+    public ChirpBuilder channel(String channel) {
+        this.channel = channel;
+        return this;
+    }
+
+    public ChirpBuilder origin(String origin) {
+        this.origin = origin;
+        return this;
+    }
+
+    public ChirpBuilder scan(String packageName) {
+        this.scanPackageName = packageName;
+        return this;
+    }
+
+    public ChirpBuilder format(PacketFormat format) {
+        this.format = format;
+        return this;
+    }
+
+    public ChirpBuilder streaming(boolean streaming) {
+        this.streaming = streaming;
+        return this;
+    }
+
+    public ChirpBuilder compression(int thresholdBytes) {
+        if (thresholdBytes < 0) {
+            throw new IllegalArgumentException("Compression threshold cannot be negative");
+        }
+        this.compressionThreshold = thresholdBytes;
+        return this;
+    }
+
+    public ChirpBuilder largePackets(LargePacketStrategy strategy, int thresholdBytes) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Large packet strategy cannot be null");
+        }
+        if (thresholdBytes < 0) {
+            throw new IllegalArgumentException("Large packet threshold cannot be negative");
+        }
+        this.largePacketStrategy = strategy;
+        this.largePacketThreshold = thresholdBytes;
+        return this;
+    }
+
+    public ChirpBuilder warmup(int iterations) {
+        if (iterations < 0) {
+            throw new IllegalArgumentException("Warm-up iterations cannot be negative");
+        }
+        this.warmupIterations = iterations;
+        return this;
+    }
+
+    public ChirpBuilder converter(Class<?> genericType, FieldConverter<?> converter) {
+        converters.put(genericType, converter);
+        return this;
+    }
+
+    public ChirpBuilder converter(Class<?> genericType, StreamingFieldConverter<?> converter) {
+        return converter(genericType, ChirpRegistry.adaptConverter(converter));
+    }
+
+    public ChirpBuilder converters(Map<Class<?>, FieldConverter<?>> converters) {
+        for (Entry<Class<?>, FieldConverter<?>> entry : converters.entrySet())
+            this.converter(entry.getKey(), entry.getValue());
+        return this;
+    }
+
+    public ChirpBuilder packet(Class<?> packetClass) {
+        packetClasses.add(packetClass);
+        return this;
+    }
+
+    public ChirpBuilder packets(Class<?>... packetClasses) {
+        for (Class<?> packetClass : packetClasses) this.packet(packetClass);
+        return this;
+    }
+
+    public ChirpBuilder packets(List<Class<?>> packetClasses) {
+        for (Class<?> packetClass : packetClasses) this.packet(packetClass);
+        return this;
+    }
+
+    public ChirpBuilder subtypes(Class<?> baseClass, Class<?>... subtypes) {
+        this.subtypes.put(baseClass, subtypes);
+        return this;
+    }
+
+    public ChirpBuilder listener(Object listenerObject) {
+        listenerObjects.add(listenerObject);
+        return this;
+    }
+
+    public ChirpBuilder listeners(Object... listenerObjects) {
+        for (Object listenerObject : listenerObjects) this.listener(listenerObject);
+        return this;
+    }
+
+    public ChirpBuilder listeners(List<Object> listenerObjects) {
+        for (Object listenerObject : listenerObjects) this.listener(listenerObject);
+        return this;
+    }
+
+    public ChirpBuilder redis(String username, int port) {
+        return redis(username, port, null);
+    }
+
+    public ChirpBuilder redis(String username, int port, String password) {
+        this.redisUsername = username;
+        this.redisPort = port;
+        this.redisPassword = password;
+        return this;
+    }
+
+    public ChirpBuilder debug(boolean debug) {
+        ChirpLogger.debug = debug;
+        return this;
+    }
+
+    public Chirp build() {
+        long startTime = System.currentTimeMillis();
+        Chirp chirp = create();
+        register(chirp, false);
+        if (warmupIterations > 0) chirp.warmup(warmupIterations);
+
+        long connectStart = System.nanoTime();
+        chirp.connect(redisUsername, redisPort, redisPassword);
+        long connectEnd = System.nanoTime();
+        ChirpLogger.debug(
+                "ChirpBuilder: Redis connection completed in "
+                        + (connectEnd - connectStart) / 1_000_000.0
+                        + "ms.");
+
+        long subscribeStart = System.nanoTime();
+        chirp.subscribe();
+        long subscribeEnd = System.nanoTime();
+        ChirpLogger.debug(
+                "ChirpBuilder: Redis subscription initiated in "
+                        + (subscribeEnd - subscribeStart) / 1_000_000.0
+                        + "ms.");
+
+        long callbackThreadStart = System.nanoTime();
+        chirp.setupCallbackRemoverThread();
+        long callbackThreadEnd = System.nanoTime();
+        ChirpLogger.debug(
+                "ChirpBuilder: Callback remover thread setup in "
+                        + (callbackThreadEnd - callbackThreadStart) / 1_000_000.0
+                        + "ms.");
+
+        long endTime = System.currentTimeMillis();
+        ChirpLogger.info("Chirp build process completed in " + (endTime - startTime) + "ms.");
+        return chirp;
+    }
+
+    // Connects to Redis while packet schemas are generated across the common fork-join pool, and
+    // completes once both subscriptions are live. Nothing blocks the calling thread.
+    public CompletableFuture<Chirp> buildAsync() {
+        long startTime = System.nanoTime();
+        Chirp chirp = create();
+
+        CompletableFuture<Long> connect =
+                CompletableFuture.supplyAsync(
+                        () -> {
+                            long connectStart = System.nanoTime();
+                            chirp.connect(redisUsername, redisPort, redisPassword);
+                            return System.nanoTime() - connectStart;
+                        },
+                        ChirpBuilder::startBootstrapThread);
+        CompletableFuture<Long> register =
+                CompletableFuture.supplyAsync(
+                        () -> {
+                            long registerStart = System.nanoTime();
+                            register(chirp, true);
+                            if (warmupIterations > 0) chirp.warmup(warmupIterations);
+                            return System.nanoTime() - registerStart;
+                        },
+                        ChirpBuilder::startBootstrapThread);
+
+        long[] phases = new long[3];
+        return connect.thenCombine(
+                        register,
+                        (connectNanos, registerNanos) -> {
+                            phases[0] = connectNanos;
+                            phases[1] = registerNanos;
+                            phases[2] = System.nanoTime();
+                            chirp.subscribe();
+                            chirp.setupCallbackRemoverThread();
+                            return chirp;
+                        })
+                .thenCompose(ignored -> chirp.whenSubscribed())
+                .handle(
+                        (ignored, error) -> {
+                            if (error != null) {
+                                ChirpLogger.severe(
+                                        "ChirpBuilder: Asynchronous build failed: "
+                                                + error.getMessage());
+                                chirp.cleanup();
+                                throw error instanceof CompletionException completion
+                                        ? completion
+                                        : new CompletionException(error);
+                            }
+
+                            long endTime = System.nanoTime();
+                            ChirpLogger.info(
+                                    "Chirp asynchronous build completed in "
+                                            + (endTime - startTime) / 1_000_000.0
+                                            + "ms (connect "
+                                            + phases[0] / 1_000_000.0
+                                            + "ms, registration"
+                                            + (warmupIterations > 0 ? " and warm-up " : " ")
+                                            + phases[1] / 1_000_000.0
+                                            + "ms in parallel, subscription "
+                                            + (endTime - phases[2]) / 1_000_000.0
+                                            + "ms).");
+                            return chirp;
+                        });
+    }
+
+    private static void startBootstrapThread(Runnable task) {
+        Thread thread = new Thread(task, "Chirp-Bootstrap");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private Chirp create() {
+        if (channel == null || channel.isEmpty()) {
+            throw new RuntimeException("Channel must be set");
+        }
+
+        Chirp chirp = origin != null ? new Chirp(channel, origin) : new Chirp(channel);
+        chirp.setFormat(format);
+        chirp.setStreaming(streaming);
+        chirp.setCompressionThreshold(compressionThreshold);
+        chirp.setLargePackets(largePacketStrategy, largePacketThreshold);
+        return chirp;
+    }
+
+    private void register(Chirp chirp, boolean parallel) {
+        for (Entry<Class<?>, Class<?>[]> entry : subtypes.entrySet())
+            chirp.registerSubtypes(entry.getKey(), entry.getValue());
+
+        if (scanPackageName != null) {
+            long scanStart = System.nanoTime();
+            ChirpLogger.debug(
+                    "ChirpBuilder: Scanning package " + scanPackageName + " for annotations.");
+            AnnotationScanner.scan(scanPackageName, chirp.getRegistry(), parallel);
+
+            long scanEnd = System.nanoTime();
+            ChirpLogger.debug(
+                    "ChirpBuilder: Scan phase completed in "
+                            + (scanEnd - scanStart) / 1_000_000.0
+                            + "ms.");
+        }
+
+        long manualRegisterStart = System.nanoTime();
+        chirp.getRegistry().registerPackets(packetClasses, parallel);
+        for (Object obj : listenerObjects) chirp.registerListener(obj);
+        for (Entry<Class<?>, FieldConverter<?>> entry : converters.entrySet())
+            chirp.registerConverter(entry.getKey(), entry.getValue());
+        long manualRegisterEnd = System.nanoTime();
+        ChirpLogger.debug(
+                "ChirpBuilder: Manual registrations completed in "
+                        + (manualRegisterEnd - manualRegisterStart) / 1_000_000.0
+                        + "ms.");
+    }
+}
@@ -3,32 +3,43 @@ package io.fjsn.chirp;
 import io.fjsn.chirp.annotation.ChirpHandler;
 import io.fjsn.chirp.annotation.ChirpListener;
 import io.fjsn.chirp.converter.FieldConverter;
+import io.fjsn.chirp.converter.LegacyFieldConverter;
+import io.fjsn.chirp.converter.StreamingFieldConverter;
+import io.fjsn.chirp.converter.impl.BitSetConverter;
 import io.fjsn.chirp.converter.impl.BooleanConverter;
 import io.fjsn.chirp.converter.impl.ByteConverter;
 import io.fjsn.chirp.converter.impl.CharacterConverter;
 import io.fjsn.chirp.converter.impl.DoubleConverter;
+import io.fjsn.chirp.converter.impl.EnumSetConverter;
 import io.fjsn.chirp.converter.impl.FloatConverter;
 import io.fjsn.chirp.converter.impl.IntegerConverter;
 import io.fjsn.chirp.converter.impl.ListConverter;
 import io.fjsn.chirp.converter.impl.LongConverter;
 import io.fjsn.chirp.converter.impl.MapConverter;
 import io.fjsn.chirp.converter.impl.OptionalConverter;
+import io.fjsn.chirp.converter.impl.PrimitiveArrayConverter;
 import io.fjsn.chirp.converter.impl.SetConverter;
 import io.fjsn.chirp.converter.impl.ShortConverter;
 import io.fjsn.chirp.converter.impl.StringConverter;
 import io.fjsn.chirp.converter.impl.UUIDConverter;
 import io.fjsn.chirp.internal.callback.CallbackManager;
 import io.fjsn.chirp.internal.handler.HandlerMethod;
+import io.fjsn.chirp.internal.schema.CodecNode;
 import io.fjsn.chirp.internal.schema.ObjectSchema;
 import io.fjsn.chirp.internal.schema.PacketSchema;
 import io.fjsn.chirp.internal.schema.SchemaGenerator;
+import io.fjsn.chirp.internal.serialization.StreamingConverterAdapter;
 import io.fjsn.chirp.internal.util.ChirpLogger;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -44,11 +55,44 @@ public class ChirpRegistry {
 
     private final Map<String, PacketSchema> packetSchemaRegistry;
     private final Map<String, ObjectSchema> objectSchemaRegistry;
+    private final Map<Class<?>, List<Class<?>>> subtypeRegistry;
     private final ConcurrentHashMap<String, Boolean> inProgressSchemas;
 
     private final SchemaGenerator schemaGenerator;
     private final CallbackManager callbackManager;
 
+    private static final ClassValue<String> PACKET_TYPE_NAMES =
+            new ClassValue<>() {
+                @Override
+                protected String computeValue(Class<?> type) {
+                    return type.getSimpleName().replaceAll("([a-z])([A-Z])", "$1_$2").toUpperCase();
+                }
+            };
+
+    private static final int MAX_PACKET_TYPE_ID = 0xFFFF;
+
+    private volatile PacketSchema[] packetSchemasById = new PacketSchema[0];
+
+    private final ClassValue<PacketSchema> packetSchemasByClass =
+            new ClassValue<>() {
+                @Override
+                protected PacketSchema computeValue(Class<?> type) {
+                    String typeName = packetTypeName(type);
+                    PacketSchema schema = packetSchemaRegistry.get(typeName);
+                    if (schema == null || schema.packetClass != type) {
+                        throw new IllegalStateException(
+                                "Packet schema not found for type: "
+                                        + typeName
+                                        + ". Ensure it's registered during Chirp initialization.");
+                    }
+                    return schema;
+                }
+            };
+
+    public static String packetTypeName(Class<?> packetClass) {
+        return PACKET_TYPE_NAMES.get(packetClass);
+    }
+
     public static String normalizeTypeName(Type type) {
         if (type instanceof Class<?> clazz) {
             return normalizeTypeName(clazz);
@@ -95,6 +139,7 @@ public class ChirpRegistry {
 
         this.packetSchemaRegistry = new ConcurrentHashMap<>();
         this.objectSchemaRegistry = new ConcurrentHashMap<>();
+        this.subtypeRegistry = new ConcurrentHashMap<>();
         this.inProgressSchemas = new ConcurrentHashMap<>();
 
         this.schemaGenerator =
@@ -102,6 +147,7 @@ public class ChirpRegistry {
                         this.converterRegistry,
                         this.packetSchemaRegistry,
                         this.objectSchemaRegistry,
+                        this.subtypeRegistry,
                         this.inProgressSchemas);
         this.callbackManager = new CallbackManager();
     }
@@ -130,6 +176,55 @@ public class ChirpRegistry {
         return objectSchemaRegistry;
     }
 
+    public Map<Class<?>, List<Class<?>>> getSubtypeRegistry() {
+        return subtypeRegistry;
+    }
+
+    public PacketSchema getPacketSchema(Class<?> packetClass) {
+        return packetSchemasByClass.get(packetClass);
+    }
+
+    public PacketSchema getPacketSchemaById(int typeId) {
+        PacketSchema[] schemas = packetSchemasById;
+        PacketSchema schema = typeId >= 0 && typeId < schemas.length ? schemas[typeId] : null;
+        if (schema == null) {
+            throw new IllegalStateException(
+                    "Unknown packet type id: "
+                            + typeId
+                            + ". The sender's schema does not match any packet registered on this"
+                            + " node.");
+        }
+        return schema;
+    }
+
+    public synchronized void assignPacketTypeId(PacketSchema schema, int typeId) {
+        if (typeId < 0 || typeId > MAX_PACKET_TYPE_ID) {
+            throw new IllegalArgumentException("Packet type id out of range: " + typeId);
+        }
+
+        PacketSchema[] schemas =
+                Arrays.copyOf(packetSchemasById, Math.max(packetSchemasById.length, typeId + 1));
+        if (schema.typeId >= 0 && schemas[schema.typeId] == schema) {
+            schemas[schema.typeId] = null;
+        }
+        schemas[typeId] = schema;
+
+        packetSchemasById = schemas;
+        schema.typeId = typeId;
+    }
+
+    public int getCodecGeneration() {
+        return schemaGenerator.getCodecGeneration();
+    }
+
+    public String getPacketFingerprint(PacketSchema schema) {
+        return schemaGenerator.fingerprint(schema);
+    }
+
+    public CodecNode resolveCodec(Type type) {
+        return schemaGenerator.resolveCodec(type);
+    }
+
     public void registerDefaultConverters() {
         long startTime = System.currentTimeMillis();
         registerPrimitiveAndWrapperConverter(boolean.class, Boolean.class, new BooleanConverter());
@@ -146,6 +241,18 @@ public class ChirpRegistry {
         registerConverter(Set.class, new SetConverter());
         registerConverter(Map.class, new MapConverter());
         registerConverter(Optional.class, new OptionalConverter());
+        registerConverter(EnumSet.class, new EnumSetConverter());
+        registerConverter(BitSet.class, new BitSetConverter());
+
+        PrimitiveArrayConverter arrayConverter = new PrimitiveArrayConverter();
+        registerConverter(boolean[].class, arrayConverter);
+        registerConverter(byte[].class, arrayConverter);
+        registerConverter(char[].class, arrayConverter);
+        registerConverter(double[].class, arrayConverter);
+        registerConverter(float[].class, arrayConverter);
+        registerConverter(int[].class, arrayConverter);
+        registerConverter(long[].class, arrayConverter);
+        registerConverter(short[].class, arrayConverter);
 
         long endTime = System.currentTimeMillis();
         ChirpLogger.info("Registered default converters in " + (endTime - startTime) + "ms.");
@@ -157,6 +264,18 @@ public class ChirpRegistry {
         registerConverter(wrapperType, converter);
     }
 
+    public void registerConverter(Class<?> genericType, StreamingFieldConverter<?> converter) {
+        registerConverter(genericType, adaptConverter(converter));
+    }
+
+    // Legacy converters wrapped for delegation register as themselves rather than as an adapter
+    // around an adapter.
+    public static FieldConverter<?> adaptConverter(StreamingFieldConverter<?> converter) {
+        if (converter == null) return null;
+        if (converter instanceof LegacyFieldConverter<?> legacy) return legacy.getConverter();
+        return new StreamingConverterAdapter(converter);
+    }
+
     public void registerConverter(Class<?> genericType, FieldConverter<?> converter) {
         long startTime = System.nanoTime();
         if (genericType == null) {
@@ -177,6 +296,7 @@ public class ChirpRegistry {
         }
 
         converterRegistry.put(type, converter);
+        schemaGenerator.linkCodecs();
         long endTime = System.nanoTime();
         ChirpLogger.debug(
                 "Registered converter for "
@@ -186,19 +306,71 @@ public class ChirpRegistry {
                         + "ms.");
     }
 
+    // Sealed types need no registration, their permitted subclasses are used instead. The order
+    // of subtypes is part of the wire format and must match on every node.
+    public void registerSubtypes(Class<?> baseClass, Class<?>... subtypes) {
+        long startTime = System.nanoTime();
+        schemaGenerator.registerSubtypes(baseClass, Arrays.asList(subtypes));
+        long endTime = System.nanoTime();
+        ChirpLogger.debug(
+                "Registered "
+                        + subtypes.length
+                        + " subtypes of "
+                        + baseClass.getName()
+                        + " in "
+                        + (endTime - startTime) / 1_000_000.0
+                        + "ms.");
+    }
+
     public void registerPacket(Class<?> packetClass) {
-        this.schemaGenerator.registerPacket(packetClass);
+        registerPacket(packetClass, true);
+    }
+
+    // Schemas of independent packets are generated concurrently when parallel is set, and field
+    // codecs are linked once at the end instead of after every packet.
+    public void registerPackets(Collection<Class<?>> packetClasses, boolean parallel) {
+        long startTime = System.nanoTime();
+        if (parallel) {
+            packetClasses.parallelStream()
+                    .forEach(packetClass -> registerPacket(packetClass, false));
+        } else {
+            packetClasses.forEach(packetClass -> registerPacket(packetClass, false));
+        }
+        schemaGenerator.linkCodecs();
+
+        long endTime = System.nanoTime();
+        ChirpLogger.debug(
+                "Registered "
+                        + packetClasses.size()
+                        + " packets"
+                        + (parallel ? " in parallel" : "")
+                        + " in "
+                        + (endTime - startTime) / 1_000_000.0
+                        + "ms.");
+    }
+
+    private void registerPacket(Class<?> packetClass, boolean link) {
+        this.schemaGenerator.registerPacket(packetClass, link);
+        String type = packetTypeName(packetClass);
+        PacketSchema schema = getPacketSchema(packetClass);
+        try {
+            updateHandlers(schema);
+        } catch (IllegalArgumentException e) {
+            // A listener names a field this packet lacks, so the schema is dropped again rather
+            // than left registered without its packet.
+            if (!packetRegistry.containsKey(type)) {
+                packetSchemaRegistry.remove(type, schema);
+                packetSchemasByClass.remove(packetClass);
+            }
+            throw e;
+        }
 
-        String type =
-                packetClass.getSimpleName().replaceAll("([a-z])([A-Z])", "$1_$2").toUpperCase();
-        if (packetRegistry.containsKey(type)) {
+        if (packetRegistry.putIfAbsent(type, packetClass) != null) {
             ChirpLogger.warning(
                     "Packet class '"
                             + type
                             + "' is already registered in ChirpRegistry. Skipping.");
-            return;
         }
-        this.packetRegistry.put(type, packetClass);
     }
 
     public void registerListener(Object listenerInstance) {
@@ -230,6 +402,17 @@ public class ChirpRegistry {
                 listenerClass.getSimpleName().replaceAll("([a-z])([A-Z])", "$1_$2").toUpperCase();
 
         listenerRegistry.put(listenerInstance, handlerMethods);
+        try {
+            for (PacketSchema schema : packetSchemaRegistry.values()) {
+                updateHandlers(schema);
+            }
+        } catch (IllegalArgumentException e) {
+            listenerRegistry.remove(listenerInstance);
+            for (PacketSchema schema : packetSchemaRegistry.values()) {
+                updateHandlers(schema);
+            }
+            throw e;
+        }
         long endTime = System.nanoTime();
         ChirpLogger.debug(
                 "Registered listener "
@@ -239,6 +422,44 @@ public class ChirpRegistry {
                         + "ms.");
     }
 
+    // A packet is decoded in full as soon as one of the handlers it reaches does not list the
+    // fields it reads. Field names are checked here because this is the only place that sees
+    // both the handler and the schema, whichever was registered first. Synchronized so that
+    // concurrent registrations cannot leave a schema with the result computed from an older set
+    // of listeners.
+    private synchronized void updateHandlers(PacketSchema schema) {
+        if (schema == null) return;
+
+        boolean handled = false;
+        boolean full = false;
+        boolean[] projection = new boolean[schema.fields.size()];
+        for (List<HandlerMethod> handlerMethods : listenerRegistry.values()) {
+            for (HandlerMethod handlerMethod : handlerMethods) {
+                if (!handlerMethod.expectedPacketClass.isAssignableFrom(schema.packetClass)) {
+                    continue;
+                }
+                handled = true;
+                if (handlerMethod.fields.length == 0) full = true;
+
+                for (String field : handlerMethod.fields) {
+                    int index = schema.fieldIndex(field);
+                    if (index < 0) {
+                        throw new IllegalArgumentException(
+                                "Handler method "
+                                        + handlerMethod.name
+                                        + " lists unknown field '"
+                                        + field
+                                        + "' of "
+                                        + packetTypeName(schema.packetClass));
+                    }
+                    projection[index] = true;
+                }
+            }
+        }
+        schema.projection = handled && !full ? projection : null;
+        schema.handled = handled;
+    }
+
     public void registerCallback(UUID packetId, ChirpCallback<?> callback) {
         callbackManager.registerCallback(packetId, callback);
     }
@@ -300,7 +521,6 @@ public class ChirpRegistry {
             }
 
             Class<?> genericArgument = (Class<?>) argType;
-
             handlerMethods.add(new HandlerMethod(method, genericArgument));
         }
 
@@ -317,6 +537,10 @@ public class ChirpRegistry {
     }
 
     public void cleanup() {
+        for (PacketSchema schema : packetSchemaRegistry.values()) {
+            packetSchemasByClass.remove(schema.packetClass);
+        }
+        packetSchemasById = new PacketSchema[0];
         packetRegistry.clear();
         listenerRegistry.clear();
         converterRegistry.clear();
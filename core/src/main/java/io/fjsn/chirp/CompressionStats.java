@@ -0,0 +1,107 @@
+package io.fjsn.chirp;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class CompressionStats {
+
+    private final String type;
+
+    private final LongAdder compressedPackets = new LongAdder();
+    private final LongAdder skippedPackets = new LongAdder();
+    private final LongAdder incompressiblePackets = new LongAdder();
+    private final LongAdder decompressedPackets = new LongAdder();
+
+    private final LongAdder rawBytes = new LongAdder();
+    private final LongAdder compressedBytes = new LongAdder();
+    private final LongAdder compressNanos = new LongAdder();
+    private final LongAdder decompressNanos = new LongAdder();
+
+    public CompressionStats(String type) {
+        this.type = type;
+    }
+
+    public void recordCompressed(int raw, int compressed, long nanos) {
+        compressedPackets.increment();
+        rawBytes.add(raw);
+        compressedBytes.add(compressed);
+        compressNanos.add(nanos);
+    }
+
+    public void recordSkipped() {
+        skippedPackets.increment();
+    }
+
+    public void recordIncompressible(long nanos) {
+        incompressiblePackets.increment();
+        compressNanos.add(nanos);
+    }
+
+    public void recordDecompressed(long nanos) {
+        decompressedPackets.increment();
+        decompressNanos.add(nanos);
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public long getCompressedPackets() {
+        return compressedPackets.sum();
+    }
+
+    public long getSkippedPackets() {
+        return skippedPackets.sum();
+    }
+
+    public long getIncompressiblePackets() {
+        return incompressiblePackets.sum();
+    }
+
+    public long getDecompressedPackets() {
+        return decompressedPackets.sum();
+    }
+
+    public long getRawBytes() {
+        return rawBytes.sum();
+    }
+
+    public long getCompressedBytes() {
+        return compressedBytes.sum();
+    }
+
+    public long getCompressNanos() {
+        return compressNanos.sum();
+    }
+
+    public long getDecompressNanos() {
+        return decompressNanos.sum();
+    }
+
+    public double getRatio() {
+        long raw = getRawBytes();
+        return raw == 0 ? 1.0 : (double) getCompressedBytes() / raw;
+    }
+
+    @Override
+    public String toString() {
+        long compressed = getCompressedPackets();
+        long attempts = compressed + getIncompressiblePackets();
+        long decompressed = getDecompressedPackets();
+        return type
+                + ": compressed="
+                + compressed
+                + ", skipped="
+                + getSkippedPackets()
+                + ", incompressible="
+                + getIncompressiblePackets()
+                + ", ratio="
+                + String.format("%.3f", getRatio())
+                + ", avgCompress="
+                + (attempts == 0 ? 0 : getCompressNanos() / attempts / 1_000.0)
+                + "us, decompressed="
+                + decompressed
+                + ", avgDecompress="
+                + (decompressed == 0 ? 0 : getDecompressNanos() / decompressed / 1_000.0)
+                + "us";
+    }
+}
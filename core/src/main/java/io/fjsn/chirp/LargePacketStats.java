@@ -0,0 +1,120 @@
+package io.fjsn.chirp;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LargePacketStats {
+
+    private final String type;
+
+    private final LongAdder chunkedPackets = new LongAdder();
+    private final LongAdder chunksSent = new LongAdder();
+    private final LongAdder claimCheckedPackets = new LongAdder();
+    private final LongAdder oversizedBytes = new LongAdder();
+    private final LongAccumulator largestPacket = new LongAccumulator(Math::max, 0);
+
+    private final LongAdder reassembledPackets = new LongAdder();
+    private final LongAdder expiredPackets = new LongAdder();
+    private final LongAdder claimsFetched = new LongAdder();
+    private final LongAdder claimsMissing = new LongAdder();
+
+    public LargePacketStats(String type) {
+        this.type = type;
+    }
+
+    public void recordChunked(int bytes, int chunks) {
+        chunkedPackets.increment();
+        chunksSent.add(chunks);
+        recordOversized(bytes);
+    }
+
+    public void recordClaimChecked(int bytes) {
+        claimCheckedPackets.increment();
+        recordOversized(bytes);
+    }
+
+    private void recordOversized(int bytes) {
+        oversizedBytes.add(bytes);
+        largestPacket.accumulate(bytes);
+    }
+
+    public void recordReassembled() {
+        reassembledPackets.increment();
+    }
+
+    public void recordExpired() {
+        expiredPackets.increment();
+    }
+
+    public void recordClaimFetched() {
+        claimsFetched.increment();
+    }
+
+    public void recordClaimMissing() {
+        claimsMissing.increment();
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public long getChunkedPackets() {
+        return chunkedPackets.sum();
+    }
+
+    public long getChunksSent() {
+        return chunksSent.sum();
+    }
+
+    public long getClaimCheckedPackets() {
+        return claimCheckedPackets.sum();
+    }
+
+    public long getOversizedBytes() {
+        return oversizedBytes.sum();
+    }
+
+    public long getLargestPacket() {
+        return largestPacket.get();
+    }
+
+    public long getReassembledPackets() {
+        return reassembledPackets.sum();
+    }
+
+    public long getExpiredPackets() {
+        return expiredPackets.sum();
+    }
+
+    public long getClaimsFetched() {
+        return claimsFetched.sum();
+    }
+
+    public long getClaimsMissing() {
+        return claimsMissing.sum();
+    }
+
+    @Override
+    public String toString() {
+        long sent = getChunkedPackets() + getClaimCheckedPackets();
+        return type
+                + ": chunked="
+                + getChunkedPackets()
+                + ", chunks="
+                + getChunksSent()
+                + ", claimChecked="
+                + getClaimCheckedPackets()
+                + ", avgSize="
+                + (sent == 0 ? 0 : getOversizedBytes() / sent)
+                + ", largest="
+                + getLargestPacket()
+                + ", reassembled="
+                + getReassembledPackets()
+                + ", expired="
+                + getExpiredPackets()
+                + ", claimsFetched="
+                + getClaimsFetched()
+                + ", claimsMissing="
+                + getClaimsMissing();
+    }
+}
@@ -0,0 +1,6 @@
+package io.fjsn.chirp;
+
+public enum LargePacketStrategy {
+    CHUNK,
+    CLAIM_CHECK
+}
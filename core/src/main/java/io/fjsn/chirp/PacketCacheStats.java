@@ -0,0 +1,52 @@
+package io.fjsn.chirp;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class PacketCacheStats {
+
+    private final String type;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public PacketCacheStats(String type) {
+        this.type = type;
+    }
+
+    public void recordHit() {
+        hits.increment();
+    }
+
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public double getHitRate() {
+        long hits = getHits();
+        long total = hits + getMisses();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return type
+                + ": hits="
+                + getHits()
+                + ", misses="
+                + getMisses()
+                + ", hitRate="
+                + String.format("%.3f", getHitRate());
+    }
+}
@@ -0,0 +1,80 @@
+package io.fjsn.chirp;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class PacketDropStats {
+
+    private final String type;
+
+    private final LongAdder selfEchoes = new LongAdder();
+    private final LongAdder unhandled = new LongAdder();
+    private final LongAdder lateResponses = new LongAdder();
+    private final LongAdder missingDeltaBases = new LongAdder();
+    private final LongAdder skippedBytes = new LongAdder();
+
+    public PacketDropStats(String type) {
+        this.type = type;
+    }
+
+    public void recordSelfEcho(int bytes) {
+        selfEchoes.increment();
+        skippedBytes.add(bytes);
+    }
+
+    public void recordUnhandled(int bytes) {
+        unhandled.increment();
+        skippedBytes.add(bytes);
+    }
+
+    public void recordLateResponse(int bytes) {
+        lateResponses.increment();
+        skippedBytes.add(bytes);
+    }
+
+    public void recordMissingDeltaBase() {
+        missingDeltaBases.increment();
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public long getSelfEchoes() {
+        return selfEchoes.sum();
+    }
+
+    public long getUnhandled() {
+        return unhandled.sum();
+    }
+
+    public long getLateResponses() {
+        return lateResponses.sum();
+    }
+
+    public long getMissingDeltaBases() {
+        return missingDeltaBases.sum();
+    }
+
+    public long getDropped() {
+        return getSelfEchoes() + getUnhandled() + getLateResponses() + getMissingDeltaBases();
+    }
+
+    public long getSkippedBytes() {
+        return skippedBytes.sum();
+    }
+
+    @Override
+    public String toString() {
+        return type
+                + ": selfEchoes="
+                + getSelfEchoes()
+                + ", unhandled="
+                + getUnhandled()
+                + ", lateResponses="
+                + getLateResponses()
+                + ", missingDeltaBases="
+                + getMissingDeltaBases()
+                + ", skippedBytes="
+                + getSkippedBytes();
+    }
+}
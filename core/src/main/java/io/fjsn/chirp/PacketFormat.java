@@ -0,0 +1,6 @@
+package io.fjsn.chirp;
+
+public enum PacketFormat {
+    JSON,
+    BINARY
+}
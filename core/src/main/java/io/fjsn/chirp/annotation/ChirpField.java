@@ -0,0 +1,13 @@
+package io.fjsn.chirp.annotation;
+
+import java.lang.annotation.*;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.RECORD_COMPONENT})
+public @interface ChirpField {
+    public boolean key() default false;
+
+    public int tag() default 0;
+
+    public boolean version() default false;
+}
@@ -4,4 +4,6 @@ import java.lang.annotation.*;
 
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.METHOD)
-public @interface ChirpHandler {}
+public @interface ChirpHandler {
+    public String[] fields() default {};
+}
@@ -6,4 +6,8 @@ import java.lang.annotation.*;
 @Target(ElementType.TYPE)
 public @interface ChirpPacket {
     public boolean scan() default true;
+
+    public int snapshotInterval() default 32;
+
+    public boolean immutable() default false;
 }
@@ -0,0 +1,11 @@
+package io.fjsn.chirp.converter;
+
+import io.fjsn.chirp.ChirpRegistry;
+
+import java.lang.reflect.Type;
+
+public interface BinaryFieldConverter<T> {
+    void write(T value, Type type, BinaryWriter writer, ChirpRegistry registry);
+
+    T read(BinaryReader reader, Type type, ChirpRegistry registry);
+}
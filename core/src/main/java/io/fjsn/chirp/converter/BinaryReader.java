@@ -0,0 +1,149 @@
+package io.fjsn.chirp.converter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+public class BinaryReader {
+
+    private final byte[] buffer;
+    private final int limit;
+    private int position;
+
+    public BinaryReader(byte[] buffer) {
+        this(buffer, 0, buffer.length);
+    }
+
+    public BinaryReader(byte[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    public int position() {
+        return position;
+    }
+
+    public int remaining() {
+        return limit - position;
+    }
+
+    public byte readByte() {
+        require(1);
+        return buffer[position++];
+    }
+
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    public byte[] readBytes(int length) {
+        require(length);
+        byte[] bytes = new byte[length];
+        System.arraycopy(buffer, position, bytes, 0, length);
+        position += length;
+        return bytes;
+    }
+
+    public void skip(int length) {
+        require(length);
+        position += length;
+    }
+
+    public int readVarInt() {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = readByte();
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return result;
+        }
+        throw new IllegalArgumentException("Malformed varint in binary packet data");
+    }
+
+    public long readVarLong() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return result;
+        }
+        throw new IllegalArgumentException("Malformed varlong in binary packet data");
+    }
+
+    public int readSignedVarInt() {
+        int raw = readVarInt();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public long readSignedVarLong() {
+        long raw = readVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public long readLong() {
+        require(8);
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (buffer[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    public int readInt() {
+        require(4);
+        return ((buffer[position++] & 0xFF) << 24)
+                | ((buffer[position++] & 0xFF) << 16)
+                | ((buffer[position++] & 0xFF) << 8)
+                | (buffer[position++] & 0xFF);
+    }
+
+    public float readFloat() {
+        return Float.intBitsToFloat(readInt());
+    }
+
+    public double readDouble() {
+        return Double.longBitsToDouble(readLong());
+    }
+
+    public String readString() {
+        int length = readVarInt();
+        require(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public UUID readUUID() {
+        long most = readLong();
+        long least = readLong();
+        return new UUID(most, least);
+    }
+
+    public boolean[] readBitmap(int count) {
+        // Counts come off the wire, so bound them by the remaining data before allocating.
+        if (count < 0 || count > remaining() << 3) {
+            throw new IllegalArgumentException("Invalid bitmap size: " + count);
+        }
+        return readBitmap(new boolean[count], count);
+    }
+
+    public boolean[] readBitmap(boolean[] bits, int count) {
+        int length = (count + 7) >>> 3;
+        require(length);
+        for (int i = 0; i < count; i++) {
+            bits[i] = (buffer[position + (i >>> 3)] & (1 << (i & 7))) != 0;
+        }
+        position += length;
+        return bits;
+    }
+
+    private void require(int length) {
+        if (length < 0 || length > limit - position) {
+            throw new IllegalArgumentException(
+                    "Unexpected end of binary packet data (needed "
+                            + length
+                            + " bytes, "
+                            + remaining()
+                            + " remaining)");
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package io.fjsn.chirp.converter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+public class BinaryWriter {
+
+    private byte[] buffer;
+    private int position;
+
+    public BinaryWriter() {
+        this(256);
+    }
+
+    public BinaryWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(16, initialCapacity)];
+        this.position = 0;
+    }
+
+    public int size() {
+        return position;
+    }
+
+    public int capacity() {
+        return buffer.length;
+    }
+
+    public void reset() {
+        position = 0;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+
+    public void writeBytes(byte[] bytes) {
+        writeBytes(bytes, 0, bytes.length);
+    }
+
+    public void writeBytes(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, position, length);
+        position += length;
+    }
+
+    public void writeVarInt(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeSignedVarInt(int value) {
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    public void writeSignedVarLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public void writeLong(long value) {
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    public void writeInt(int value) {
+        ensureCapacity(4);
+        buffer[position++] = (byte) (value >>> 24);
+        buffer[position++] = (byte) (value >>> 16);
+        buffer[position++] = (byte) (value >>> 8);
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeFloat(float value) {
+        writeInt(Float.floatToIntBits(value));
+    }
+
+    public void writeDouble(double value) {
+        writeLong(Double.doubleToLongBits(value));
+    }
+
+    public void writeString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length);
+        writeBytes(bytes);
+    }
+
+    public void writeUUID(UUID value) {
+        writeLong(value.getMostSignificantBits());
+        writeLong(value.getLeastSignificantBits());
+    }
+
+    public void writeBitmap(boolean[] bits) {
+        writeBitmap(bits, bits.length);
+    }
+
+    public void writeBitmap(boolean[] bits, int count) {
+        int length = (count + 7) >>> 3;
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            int b = 0;
+            for (int bit = 0; bit < 8; bit++) {
+                int index = (i << 3) + bit;
+                if (index < count && bits[index]) b |= 1 << bit;
+            }
+            buffer[position++] = (byte) b;
+        }
+    }
+
+    // Reserves one byte for the varint length of whatever is written before endLength, and
+    // shifts the written bytes along if the length turns out to need more.
+    public int beginLength() {
+        writeByte(0);
+        return position;
+    }
+
+    public void endLength(int start) {
+        int length = position - start;
+        int extra = 0;
+        for (int value = length >>> 7; value != 0; value >>>= 7) extra++;
+        if (extra > 0) {
+            ensureCapacity(extra);
+            System.arraycopy(buffer, start, buffer, start + extra, length);
+            position += extra;
+        }
+
+        int index = start - 1;
+        int value = length;
+        while ((value & ~0x7F) != 0) {
+            buffer[index++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[index] = (byte) value;
+    }
+
+    public void ensureCapacity(int extra) {
+        int required = position + extra;
+        if (required <= buffer.length) return;
+        int newCapacity = Math.max(buffer.length << 1, required);
+        buffer = Arrays.copyOf(buffer, newCapacity);
+    }
+}
@@ -0,0 +1,14 @@
+package io.fjsn.chirp.converter;
+
+import java.lang.reflect.Type;
+
+// The resolved codec of a value and of its type arguments, handed to StreamingFieldConverter so
+// element types are looked up once at registration rather than on every value.
+public interface FieldCodec {
+
+    Type type();
+
+    int argumentCount();
+
+    FieldCodec argument(int index);
+}
@@ -0,0 +1,43 @@
+package io.fjsn.chirp.converter;
+
+import com.google.gson.JsonElement;
+
+import io.fjsn.chirp.ChirpRegistry;
+
+import java.io.IOException;
+
+public interface FieldReader {
+
+    ChirpRegistry registry();
+
+    boolean readBoolean() throws IOException;
+
+    int readInt() throws IOException;
+
+    long readLong() throws IOException;
+
+    float readFloat() throws IOException;
+
+    double readDouble() throws IOException;
+
+    String readString() throws IOException;
+
+    void beginObject() throws IOException;
+
+    // Consumes the next member name where the format has one, failing if it is not the expected
+    // name.
+    void name(String expected) throws IOException;
+
+    void endObject() throws IOException;
+
+    void beginArray() throws IOException;
+
+    // Must be called exactly once before reading each element of the current array.
+    boolean hasNext() throws IOException;
+
+    void endArray() throws IOException;
+
+    Object readValue(FieldCodec codec) throws IOException;
+
+    JsonElement readJson() throws IOException;
+}
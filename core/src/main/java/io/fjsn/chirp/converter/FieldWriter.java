@@ -0,0 +1,42 @@
+package io.fjsn.chirp.converter;
+
+import com.google.gson.JsonElement;
+
+import io.fjsn.chirp.ChirpRegistry;
+
+import java.io.IOException;
+
+// Object member names are only written by formats that have them, so values must be read back
+// in the order they were written.
+public interface FieldWriter {
+
+    ChirpRegistry registry();
+
+    void writeBoolean(boolean value) throws IOException;
+
+    void writeInt(int value) throws IOException;
+
+    void writeLong(long value) throws IOException;
+
+    void writeFloat(float value) throws IOException;
+
+    void writeDouble(double value) throws IOException;
+
+    void writeString(String value) throws IOException;
+
+    void beginObject() throws IOException;
+
+    void name(String name) throws IOException;
+
+    void endObject() throws IOException;
+
+    void beginArray(int size) throws IOException;
+
+    void endArray() throws IOException;
+
+    // Writes a possibly null value with the converter registered for its codec.
+    void writeValue(Object value, FieldCodec codec) throws IOException;
+
+    // Lets converters that still build Gson trees write them in any format.
+    void writeJson(JsonElement element) throws IOException;
+}
@@ -0,0 +1,15 @@
+package io.fjsn.chirp.converter;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import io.fjsn.chirp.ChirpRegistry;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+public interface JsonStreamConverter<T> {
+    void write(T value, Type type, JsonWriter writer, ChirpRegistry registry) throws IOException;
+
+    T read(JsonReader reader, Type type, ChirpRegistry registry) throws IOException;
+}
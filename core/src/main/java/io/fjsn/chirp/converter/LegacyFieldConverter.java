@@ -0,0 +1,31 @@
+package io.fjsn.chirp.converter;
+
+import java.io.IOException;
+
+// Runs a tree-based FieldConverter through the streaming SPI, for code written against
+// StreamingFieldConverter that still has to delegate to one.
+public class LegacyFieldConverter<T> implements StreamingFieldConverter<T> {
+
+    private final FieldConverter<T> converter;
+
+    public LegacyFieldConverter(FieldConverter<T> converter) {
+        if (converter == null) {
+            throw new IllegalArgumentException("Converter cannot be null");
+        }
+        this.converter = converter;
+    }
+
+    public FieldConverter<T> getConverter() {
+        return converter;
+    }
+
+    @Override
+    public void write(T value, FieldCodec codec, FieldWriter writer) throws IOException {
+        writer.writeJson(converter.serialize(value, codec.type(), writer.registry()));
+    }
+
+    @Override
+    public T read(FieldCodec codec, FieldReader reader) throws IOException {
+        return converter.deserialize(reader.readJson(), codec.type(), reader.registry());
+    }
+}
@@ -0,0 +1,10 @@
+package io.fjsn.chirp.converter;
+
+import java.io.IOException;
+
+public interface StreamingFieldConverter<T> {
+
+    void write(T value, FieldCodec codec, FieldWriter writer) throws IOException;
+
+    T read(FieldCodec codec, FieldReader reader) throws IOException;
+}
@@ -0,0 +1,77 @@
+package io.fjsn.chirp.converter.impl;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.annotation.ChirpConverter;
+import io.fjsn.chirp.converter.BinaryFieldConverter;
+import io.fjsn.chirp.converter.BinaryReader;
+import io.fjsn.chirp.converter.BinaryWriter;
+import io.fjsn.chirp.converter.FieldConverter;
+import io.fjsn.chirp.converter.JsonStreamConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Base64;
+import java.util.BitSet;
+
+@ChirpConverter
+public class BitSetConverter
+        implements FieldConverter<BitSet>,
+                BinaryFieldConverter<BitSet>,
+                JsonStreamConverter<BitSet> {
+    @Override
+    public JsonElement serialize(BitSet value, Type type, ChirpRegistry registry) {
+        if (value == null) {
+            return null;
+        }
+        return new JsonPrimitive(Base64.getEncoder().encodeToString(value.toByteArray()));
+    }
+
+    @Override
+    public BitSet deserialize(JsonElement json, Type type, ChirpRegistry registry) {
+        if (json == null || json.isJsonNull()) {
+            return null;
+        }
+        if (!json.isJsonPrimitive() || !json.getAsJsonPrimitive().isString()) {
+            throw new IllegalArgumentException(
+                    "Expected base64 JSON string for BitSet, got: "
+                            + json.getClass().getSimpleName());
+        }
+        return fromBase64(json.getAsString());
+    }
+
+    @Override
+    public void write(BitSet value, Type type, BinaryWriter writer, ChirpRegistry registry) {
+        byte[] bytes = value.toByteArray();
+        writer.writeVarInt(bytes.length);
+        writer.writeBytes(bytes);
+    }
+
+    @Override
+    public BitSet read(BinaryReader reader, Type type, ChirpRegistry registry) {
+        return BitSet.valueOf(reader.readBytes(reader.readVarInt()));
+    }
+
+    @Override
+    public void write(BitSet value, Type type, JsonWriter writer, ChirpRegistry registry)
+            throws IOException {
+        writer.value(Base64.getEncoder().encodeToString(value.toByteArray()));
+    }
+
+    @Override
+    public BitSet read(JsonReader reader, Type type, ChirpRegistry registry) throws IOException {
+        return fromBase64(reader.nextString());
+    }
+
+    private static BitSet fromBase64(String encoded) {
+        try {
+            return BitSet.valueOf(Base64.getDecoder().decode(encoded));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid base64 BitSet: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package io.fjsn.chirp.converter.impl;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.annotation.ChirpConverter;
+import io.fjsn.chirp.converter.BinaryFieldConverter;
+import io.fjsn.chirp.converter.BinaryReader;
+import io.fjsn.chirp.converter.BinaryWriter;
+import io.fjsn.chirp.converter.FieldConverter;
+import io.fjsn.chirp.converter.JsonStreamConverter;
+import io.fjsn.chirp.internal.schema.FieldAccessor;
+import io.fjsn.chirp.internal.schema.PrimitiveConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+@ChirpConverter
+public class BooleanConverter
+        implements FieldConverter<Boolean>,
+                BinaryFieldConverter<Boolean>,
+                JsonStreamConverter<Boolean>,
+                PrimitiveConverter {
+    @Override
+    public JsonElement serialize(Boolean value, Type type, ChirpRegistry registry) {
+        if (value == null) {
+            return null;
+        }
+        return new JsonPrimitive(value);
+    }
+
+    @Override
+    public Boolean deserialize(JsonElement json, Type type, ChirpRegistry registry) {
+        if (json == null || json.isJsonNull()) {
+            return null;
+        }
+        if (!json.isJsonPrimitive() || !json.getAsJsonPrimitive().isBoolean()) {
+            throw new IllegalArgumentException(
+                    "Expected JSON boolean primitive for Boolean, got: "
+                            + json.getClass().getSimpleName());
+        }
+        return json.getAsBoolean();
+    }
+
+    @Override
+    public void write(Boolean value, Type type, BinaryWriter writer, ChirpRegistry registry) {
+        writer.writeBoolean(value);
+    }
+
+    @Override
+    public Boolean read(BinaryReader reader, Type type, ChirpRegistry registry) {
+        return reader.readBoolean();
+    }
+
+    @Override
+    public void write(Boolean value, Type type, JsonWriter writer, ChirpRegistry registry)
+            throws IOException {
+        writer.value(value);
+    }
+
+    @Override
+    public Boolean read(JsonReader reader, Type type, ChirpRegistry registry) throws IOException {
+        return reader.nextBoolean();
+    }
+
+    @Override
+    public void writeField(Object instance, FieldAccessor accessor, BinaryWriter writer) {
+        writer.writeBoolean(accessor.getBoolean(instance));
+    }
+
+    @Override
+    public void readField(Object instance, FieldAccessor accessor, BinaryReader reader) {
+        accessor.setBoolean(instance, reader.readBoolean());
+    }
+
+    @Override
+    public void writeField(Object instance, FieldAccessor accessor, JsonWriter writer)
+            throws IOException {
+        writer.value(accessor.getBoolean(instance));
+    }
+
+    @Override
+    public void readField(Object instance, FieldAccessor accessor, JsonReader reader)
+            throws IOException {
+        accessor.setBoolean(instance, reader.nextBoolean());
+    }
+}
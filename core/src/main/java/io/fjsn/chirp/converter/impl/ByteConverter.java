@@ -0,0 +1,90 @@
+package io.fjsn.chirp.converter.impl;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.annotation.ChirpConverter;
+import io.fjsn.chirp.converter.BinaryFieldConverter;
+import io.fjsn.chirp.converter.BinaryReader;
+import io.fjsn.chirp.converter.BinaryWriter;
+import io.fjsn.chirp.converter.FieldConverter;
+import io.fjsn.chirp.converter.JsonStreamConverter;
+import io.fjsn.chirp.internal.schema.FieldAccessor;
+import io.fjsn.chirp.internal.schema.PrimitiveConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+@ChirpConverter
+public class ByteConverter
+        implements FieldConverter<Byte>,
+                BinaryFieldConverter<Byte>,
+                JsonStreamConverter<Byte>,
+                PrimitiveConverter {
+    @Override
+    public JsonElement serialize(Byte value, Type type, ChirpRegistry registry) {
+        if (value == null) {
+            return null;
+        }
+        return new JsonPrimitive(value);
+    }
+
+    @Override
+    public Byte deserialize(JsonElement json, Type type, ChirpRegistry registry) {
+        if (json == null || json.isJsonNull()) {
+            return null;
+        }
+        if (!json.isJsonPrimitive() || !json.getAsJsonPrimitive().isNumber()) {
+            throw new IllegalArgumentException(
+                    "Expected JSON number primitive for Byte, got: "
+                            + json.getClass().getSimpleName());
+        }
+        return json.getAsByte();
+    }
+
+    @Override
+    public void write(Byte value, Type type, BinaryWriter writer, ChirpRegistry registry) {
+        writer.writeByte(value);
+    }
+
+    @Override
+    public Byte read(BinaryReader reader, Type type, ChirpRegistry registry) {
+        return reader.readByte();
+    }
+
+    @Override
+    public void write(Byte value, Type type, JsonWriter writer, ChirpRegistry registry)
+            throws IOException {
+        writer.value(value.longValue());
+    }
+
+    @Override
+    public Byte read(JsonReader reader, Type type, ChirpRegistry registry) throws IOException {
+        return (byte) reader.nextInt();
+    }
+
+    @Override
+    public void writeField(Object instance, FieldAccessor accessor, BinaryWriter writer) {
+        writer.writeByte(accessor.getByte(instance));
+    }
+
+    @Override
+    public void readField(Object instance, FieldAccessor accessor, BinaryReader reader) {
+        accessor.setByte(instance, reader.readByte());
+    }
+
+    @Override
+    public void writeField(Object instance, FieldAccessor accessor, JsonWriter writer)
+            throws IOException {
+        writer.value(accessor.getByte(instance));
+    }
+
+    @Override
+    public void readField(Object instance, FieldAccessor accessor, JsonReader reader)
+            throws IOException {
+        accessor.setByte(instance, (byte) reader.nextInt());
+    }
+}
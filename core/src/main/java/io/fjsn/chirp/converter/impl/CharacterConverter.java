@@ -0,0 +1,102 @@
+package io.fjsn.chirp.converter.impl;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.annotation.ChirpConverter;
+import io.fjsn.chirp.converter.BinaryFieldConverter;
+import io.fjsn.chirp.converter.BinaryReader;
+import io.fjsn.chirp.converter.BinaryWriter;
+import io.fjsn.chirp.converter.FieldConverter;
+import io.fjsn.chirp.converter.JsonStreamConverter;
+import io.fjsn.chirp.internal.schema.FieldAccessor;
+import io.fjsn.chirp.internal.schema.PrimitiveConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+@ChirpConverter
+public class CharacterConverter
+        implements FieldConverter<Character>,
+                BinaryFieldConverter<Character>,
+                JsonStreamConverter<Character>,
+                PrimitiveConverter {
+    @Override
+    public JsonElement serialize(Character value, Type type, ChirpRegistry registry) {
+        if (value == null) {
+            return null;
+        }
+        return new JsonPrimitive(String.valueOf(value));
+    }
+
+    @Override
+    public Character deserialize(JsonElement json, Type type, ChirpRegistry registry) {
+        if (json == null || json.isJsonNull()) {
+            return null;
+        }
+        if (!json.isJsonPrimitive() || !json.getAsJsonPrimitive().isString()) {
+            throw new IllegalArgumentException(
+                    "Expected JSON string primitive for Character, got: "
+                            + json.getClass().getSimpleName());
+        }
+        String value = json.getAsString();
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException("Cannot deserialize an empty string to a Character");
+        }
+        return value.charAt(0);
+    }
+
+    @Override
+    public void write(Character value, Type type, BinaryWriter writer, ChirpRegistry registry) {
+        writer.writeVarInt(value);
+    }
+
+    @Override
+    public Character read(BinaryReader reader, Type type, ChirpRegistry registry) {
+        return (char) reader.readVarInt();
+    }
+
+    @Override
+    public void write(Character value, Type type, JsonWriter writer, ChirpRegistry registry)
+            throws IOException {
+        writer.value(String.valueOf(value));
+    }
+
+    @Override
+    public Character read(JsonReader reader, Type type, ChirpRegistry registry) throws IOException {
+        String value = reader.nextString();
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException("Cannot deserialize an empty string to a Character");
+        }
+        return value.charAt(0);
+    }
+
+    @Override
+    public void writeField(Object instance, FieldAccessor accessor, BinaryWriter writer) {
+        writer.writeVarInt(accessor.getChar(instance));
+    }
+
+    @Override
+    public void readField(Object instance, FieldAccessor accessor, BinaryReader reader) {
+        accessor.setChar(instance, (char) reader.readVarInt());
+    }
+
+    @Override
+    public void writeField(Object instance, FieldAccessor accessor, JsonWriter writer)
+            throws IOException {
+        writer.value(String.valueOf(accessor.getChar(instance)));
+    }
+
+    @Override
+    public void readField(Object instance, FieldAccessor accessor, JsonReader reader)
+            throws IOException {
+        String value = reader.nextString();
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException("Cannot deserialize an empty string to a Character");
+        }
+        accessor.setChar(instance, value.charAt(0));
+    }
+}
@@ -0,0 +1,119 @@
+package io.fjsn.chirp.converter.impl;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.converter.BinaryFieldConverter;
+import io.fjsn.chirp.converter.BinaryReader;
+import io.fjsn.chirp.converter.BinaryWriter;
+import io.fjsn.chirp.converter.FieldConverter;
+import io.fjsn.chirp.converter.JsonStreamConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+public class EnumConverter
+        implements FieldConverter<Enum<?>>,
+                BinaryFieldConverter<Enum<?>>,
+                JsonStreamConverter<Enum<?>> {
+
+    private static final ClassValue<Enum<?>[]> CONSTANTS =
+            new ClassValue<>() {
+                @Override
+                protected Enum<?>[] computeValue(Class<?> type) {
+                    return (Enum<?>[]) type.getEnumConstants();
+                }
+            };
+
+    public EnumConverter() {}
+
+    @Override
+    public JsonElement serialize(Enum<?> value, Type type, ChirpRegistry registry) {
+        if (value == null) {
+            return null;
+        }
+        return new JsonPrimitive(value.name());
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Enum<?> deserialize(JsonElement json, Type type, ChirpRegistry registry) {
+        if (json == null || json.isJsonNull()) {
+            return null;
+        }
+        if (!json.isJsonPrimitive() || !json.getAsJsonPrimitive().isString()) {
+            throw new IllegalArgumentException(
+                    "Expected JSON string primitive for Enum, got: "
+                            + json.getClass().getSimpleName());
+        }
+        String enumName = json.getAsString();
+
+        if (!(type instanceof Class) || !((Class<?>) type).isEnum()) {
+            throw new IllegalArgumentException(
+                    "Expected an Enum class for type, got: " + type.getTypeName());
+        }
+        Class<? extends Enum> enumClass = (Class<? extends Enum>) type;
+
+        try {
+            return Enum.valueOf(enumClass, enumName);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                    "Invalid enum name '" + enumName + "' for enum type " + enumClass.getName(), e);
+        }
+    }
+
+    @Override
+    public void write(Enum<?> value, Type type, BinaryWriter writer, ChirpRegistry registry) {
+        writer.writeVarInt(value.ordinal());
+    }
+
+    @Override
+    public Enum<?> read(BinaryReader reader, Type type, ChirpRegistry registry) {
+        if (!(type instanceof Class) || !((Class<?>) type).isEnum()) {
+            throw new IllegalArgumentException(
+                    "Expected an Enum class for type, got: " + type.getTypeName());
+        }
+
+        Enum<?>[] constants = CONSTANTS.get((Class<?>) type);
+        int ordinal = reader.readVarInt();
+        if (ordinal < 0 || ordinal >= constants.length) {
+            throw new IllegalArgumentException(
+                    "Invalid enum ordinal "
+                            + ordinal
+                            + " for enum type "
+                            + type.getTypeName()
+                            + " ("
+                            + constants.length
+                            + " constants)");
+        }
+        return constants[ordinal];
+    }
+
+    @Override
+    public void write(Enum<?> value, Type type, JsonWriter writer, ChirpRegistry registry)
+            throws IOException {
+        writer.value(value.name());
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Enum<?> read(JsonReader reader, Type type, ChirpRegistry registry) throws IOException {
+        String enumName = reader.nextString();
+
+        if (!(type instanceof Class) || !((Class<?>) type).isEnum()) {
+            throw new IllegalArgumentException(
+                    "Expected an Enum class for type, got: " + type.getTypeName());
+        }
+        Class<? extends Enum> enumClass = (Class<? extends Enum>) type;
+
+        try {
+            return Enum.valueOf(enumClass, enumName);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                    "Invalid enum name '" + enumName + "' for enum type " + enumClass.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package io.fjsn.chirp.converter.impl;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.converter.BinaryFieldConverter;
+import io.fjsn.chirp.converter.BinaryReader;
+import io.fjsn.chirp.converter.BinaryWriter;
+import io.fjsn.chirp.converter.FieldConverter;
+import io.fjsn.chirp.converter.JsonStreamConverter;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.EnumSet;
+
+// Binary sets are a bitmask over the enum's constants, so their size no longer depends on the
+// length of the constant names. JSON keeps the names to stay readable.
+public class EnumSetConverter
+        implements FieldConverter<EnumSet<?>>,
+                BinaryFieldConverter<EnumSet<?>>,
+                JsonStreamConverter<EnumSet<?>> {
+
+    private static final ClassValue<Enum<?>[]> CONSTANTS =
+            new ClassValue<>() {
+                @Override
+                protected Enum<?>[] computeValue(Class<?> type) {
+                    return (Enum<?>[]) type.getEnumConstants();
+                }
+            };
+
+    @Override
+    public JsonElement serialize(EnumSet<?> value, Type type, ChirpRegistry registry) {
+        if (value == null) {
+            return null;
+        }
+
+        JsonArray array = new JsonArray();
+        for (Enum<?> constant : value) {
+            array.add(constant.name());
+        }
+        return array;
+    }
+
+    @Override
+    public EnumSet<?> deserialize(JsonElement json, Type type, ChirpRegistry registry) {
+        if (json == null || json.isJsonNull()) {
+            return null;
+        }
+        if (!json.isJsonArray()) {
+            throw new IllegalArgumentException(
+                    "Expected JSON array for EnumSet, got: " + json.getClass().getSimpleName());
+        }
+
+        Class<?> enumClass = enumClass(type);
+        EnumSet<?> set = emptySet(enumClass);
+        for (JsonElement element : json.getAsJsonArray()) {
+            add(set, enumClass, element.getAsString());
+        }
+        return set;
+    }
+
+    @Override
+    public void write(EnumSet<?> value, Type type, BinaryWriter writer, ChirpRegistry registry) {
+        Enum<?>[] constants = CONSTANTS.get(enumClass(type));
+
+        boolean[] bits = new boolean[constants.length];
+        for (Enum<?> constant : value) {
+            bits[constant.ordinal()] = true;
+        }
+
+        writer.writeVarInt(bits.length);
+        writer.writeBitmap(bits);
+    }
+
+    @Override
+    public EnumSet<?> read(BinaryReader reader, Type type, ChirpRegistry registry) {
+        Class<?> enumClass = enumClass(type);
+        Enum<?>[] constants = CONSTANTS.get(enumClass);
+
+        int count = reader.readVarInt();
+        if (count < 0 || count > reader.remaining() << 3) {
+            throw new IllegalArgumentException("Invalid EnumSet size: " + count);
+        }
+
+        boolean[] bits = reader.readBitmap(count);
+        EnumSet<?> set = emptySet(enumClass);
+        for (int i = 0; i < count; i++) {
+            if (!bits[i]) continue;
+            if (i >= constants.length) {
+                throw new IllegalArgumentException(
+                        "Unknown ordinal " + i + " for enum " + enumClass.getName());
+            }
+            addConstant(set, constants[i]);
+        }
+        return set;
+    }
+
+    @Override
+    public void write(EnumSet<?> value, Type type, JsonWriter writer, ChirpRegistry registry)
+            throws IOException {
+        writer.beginArray();
+        for (Enum<?> constant : value) {
+            writer.value(constant.name());
+        }
+        writer.endArray();
+    }
+
+    @Override
+    public EnumSet<?> read(JsonReader reader, Type type, ChirpRegistry registry)
+            throws IOException {
+        Class<?> enumClass = enumClass(type);
+        EnumSet<?> set = emptySet(enumClass);
+        reader.beginArray();
+        while (reader.hasNext()) {
+            add(set, enumClass, reader.nextString());
+        }
+        reader.endArray();
+        return set;
+    }
+
+    private static Class<?> enumClass(Type type) {
+        if (type instanceof ParameterizedType pt
+                && pt.getActualTypeArguments()[0] instanceof Class<?> clazz
+                && clazz.isEnum()) {
+            return clazz;
+        }
+        throw new IllegalArgumentException(
+                "EnumSet type must be parameterized with an enum (e.g., EnumSet<Mode>): "
+                        + type.getTypeName());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static EnumSet<?> emptySet(Class<?> enumClass) {
+        return EnumSet.noneOf((Class<? extends Enum>) enumClass);
+    }
+
+    private static void add(EnumSet<?> set, Class<?> enumClass, String name) {
+        for (Enum<?> constant : CONSTANTS.get(enumClass)) {
+            if (constant.name().equals(name)) {
+                addConstant(set, constant);
+                return;
+            }
+        }
+        throw new IllegalArgumentException(
+                "Unknown constant '" + name + "' for enum " + enumClass.getName());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void addConstant(EnumSet set, Enum<?> constant) {
+        set.add(constant);
+    }
+}
@@ -0,0 +1,90 @@
+package io.fjsn.chirp.converter.impl;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.annotation.ChirpConverter;
+import io.fjsn.chirp.converter.BinaryFieldConverter;
+import io.fjsn.chirp.converter.BinaryReader;
+import io.fjsn.chirp.converter.BinaryWriter;
+import io.fjsn.chirp.converter.FieldConverter;
+import io.fjsn.chirp.converter.JsonStreamConverter;
+import io.fjsn.chirp.internal.schema.FieldAccessor;
+import io.fjsn.chirp.internal.schema.PrimitiveConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+@ChirpConverter
+public class FloatConverter
+        implements FieldConverter<Float>,
+                BinaryFieldConverter<Float>,
+                JsonStreamConverter<Float>,
+                PrimitiveConverter {
+    @Override
+    public JsonElement serialize(Float value, Type type, ChirpRegistry registry) {
+        if (value == null) {
+            return null;
+        }
+        return new JsonPrimitive(value);
+    }
+
+    @Override
+    public Float deserialize(JsonElement json, Type type, ChirpRegistry registry) {
+        if (json == null || json.isJsonNull()) {
+            return null;
+        }
+        if (!json.isJsonPrimitive() || !json.getAsJsonPrimitive().isNumber()) {
+            throw new IllegalArgumentException(
+                    "Expected JSON number primitive for Float, got: "
+                            + json.getClass().getSimpleName());
+        }
+        return json.getAsFloat();
+    }
+
+    @Override
+    public void write(Float value, Type type, BinaryWriter writer, ChirpRegistry registry) {
+        writer.writeFloat(value);
+    }
+
+    @Override
+    public Float read(BinaryReader reader, Type type, ChirpRegistry registry) {
+        return reader.readFloat();
+    }
+
+    @Override
+    public void write(Float value, Type type, JsonWriter writer, ChirpRegistry registry)
+            throws IOException {
+        writer.value(value.floatValue());
+    }
+
+    @Override
+    public Float read(JsonReader reader, Type type, ChirpRegistry registry) throws IOException {
+        return Float.parseFloat(reader.nextString());
+    }
+
+    @Override
+    public void writeField(Object instance, FieldAccessor accessor, BinaryWriter writer) {
+        writer.writeFloat(accessor.getFloat(instance));
+    }
+
+    @Override
+    public void readField(Object instance, FieldAccessor accessor, BinaryReader reader) {
+        accessor.setFloat(instance, reader.readFloat());
+    }
+
+    @Override
+    public void writeField(Object instance, FieldAccessor accessor, JsonWriter writer)
+            throws IOException {
+        writer.value(accessor.getFloat(instance));
+    }
+
+    @Override
+    public void readField(Object instance, FieldAccessor accessor, JsonReader reader)
+            throws IOException {
+        accessor.setFloat(instance, Float.parseFloat(reader.nextString()));
+    }
+}
@@ -0,0 +1,90 @@
+package io.fjsn.chirp.converter.impl;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.annotation.ChirpConverter;
+import io.fjsn.chirp.converter.BinaryFieldConverter;
+import io.fjsn.chirp.converter.BinaryReader;
+import io.fjsn.chirp.converter.BinaryWriter;
+import io.fjsn.chirp.converter.FieldConverter;
+import io.fjsn.chirp.converter.JsonStreamConverter;
+import io.fjsn.chirp.internal.schema.FieldAccessor;
+import io.fjsn.chirp.internal.schema.PrimitiveConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+@ChirpConverter
+public class IntegerConverter
+        implements FieldConverter<Integer>,
+                BinaryFieldConverter<Integer>,
+                JsonStreamConverter<Integer>,
+                PrimitiveConverter {
+    @Override
+    public JsonElement serialize(Integer value, Type type, ChirpRegistry registry) {
+        if (value == null) {
+            return null;
+        }
+        return new JsonPrimitive(value);
+    }
+
+    @Override
+    public Integer deserialize(JsonElement json, Type type, ChirpRegistry registry) {
+        if (json == null || json.isJsonNull()) {
+            return null;
+        }
+        if (!json.isJsonPrimitive() || !json.getAsJsonPrimitive().isNumber()) {
+            throw new IllegalArgumentException(
+                    "Expected JSON number primitive for Integer, got: "
+                            + json.getClass().getSimpleName());
+        }
+        return json.getAsInt();
+    }
+
+    @Override
+    public void write(Integer value, Type type, BinaryWriter writer, ChirpRegistry registry) {
+        writer.writeSignedVarInt(value);
+    }
+
+    @Override
+    public Integer read(BinaryReader reader, Type type, ChirpRegistry registry) {
+        return reader.readSignedVarInt();
+    }
+
+    @Override
+    public void write(Integer value, Type type, JsonWriter writer, ChirpRegistry registry)
+            throws IOException {
+        writer.value(value.longValue());
+    }
+
+    @Override
+    public Integer read(JsonReader reader, Type type, ChirpRegistry registry) throws IOException {
+        return reader.nextInt();
+    }
+
+    @Override
+    public void writeField(Object instance, FieldAccessor accessor, BinaryWriter writer) {
+        writer.writeSignedVarInt(accessor.getInt(instance));
+    }
+
+    @Override
+    public void readField(Object instance, FieldAccessor accessor, BinaryReader reader) {
+        accessor.setInt(instance, reader.readSignedVarInt());
+    }
+
+    @Override
+    public void writeField(Object instance, FieldAccessor accessor, JsonWriter writer)
+            throws IOException {
+        writer.value(accessor.getInt(instance));
+    }
+
+    @Override
+    public void readField(Object instance, FieldAccessor accessor, JsonReader reader)
+            throws IOException {
+        accessor.setInt(instance, reader.nextInt());
+    }
+}
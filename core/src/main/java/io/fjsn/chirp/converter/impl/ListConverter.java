@@ -0,0 +1,200 @@
+package io.fjsn.chirp.converter.impl;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.converter.BinaryFieldConverter;
+import io.fjsn.chirp.converter.BinaryReader;
+import io.fjsn.chirp.converter.BinaryWriter;
+import io.fjsn.chirp.converter.FieldConverter;
+import io.fjsn.chirp.converter.JsonStreamConverter;
+import io.fjsn.chirp.internal.schema.CodecNode;
+import io.fjsn.chirp.internal.schema.CompositeConverter;
+import io.fjsn.chirp.internal.serialization.BinaryPacketSerializer;
+import io.fjsn.chirp.internal.serialization.PacketSerializer;
+import io.fjsn.chirp.internal.serialization.StreamingPacketSerializer;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ListConverter
+        implements FieldConverter<List<?>>,
+                BinaryFieldConverter<List<?>>,
+                JsonStreamConverter<List<?>>,
+                CompositeConverter<List<?>> {
+
+    @Override
+    public JsonElement serialize(List<?> value, Type type, ChirpRegistry registry) {
+        if (value == null) return null;
+        return serialize(value, registry.resolveCodec(type), registry);
+    }
+
+    @Override
+    public List<?> deserialize(JsonElement json, Type type, ChirpRegistry registry) {
+        if (json == null || json.isJsonNull()) return null;
+        return deserialize(json, registry.resolveCodec(type), registry);
+    }
+
+    @Override
+    public void write(List<?> value, Type type, BinaryWriter writer, ChirpRegistry registry) {
+        write(value, registry.resolveCodec(type), writer, registry);
+    }
+
+    @Override
+    public List<?> read(BinaryReader reader, Type type, ChirpRegistry registry) {
+        return read(reader, registry.resolveCodec(type), registry);
+    }
+
+    @Override
+    public void write(List<?> value, Type type, JsonWriter writer, ChirpRegistry registry)
+            throws IOException {
+        write(value, registry.resolveCodec(type), writer, registry);
+    }
+
+    @Override
+    public List<?> read(JsonReader reader, Type type, ChirpRegistry registry) throws IOException {
+        return read(reader, registry.resolveCodec(type), registry);
+    }
+
+    @Override
+    public JsonElement serialize(List<?> value, CodecNode node, ChirpRegistry registry) {
+        if (value == null) return null;
+        CodecNode itemNode = itemNode(node);
+
+        JsonArray array = new JsonArray();
+        for (Object item : value) {
+            array.add(PacketSerializer.serializeValue(item, itemNode, registry));
+        }
+        return array;
+    }
+
+    @Override
+    public List<?> deserialize(JsonElement json, CodecNode node, ChirpRegistry registry) {
+        if (json == null || json.isJsonNull()) return null;
+        if (!json.isJsonArray())
+            throw new IllegalArgumentException(
+                    "Expected JSON array for List, got: " + json.getClass().getSimpleName());
+
+        CodecNode itemNode = itemNode(node);
+
+        List<Object> list = new ArrayList<>();
+        for (JsonElement el : json.getAsJsonArray()) {
+            list.add(PacketSerializer.deserializeValue(el, itemNode, registry));
+        }
+        return list;
+    }
+
+    @Override
+    public void write(List<?> value, CodecNode node, BinaryWriter writer, ChirpRegistry registry) {
+        CodecNode itemNode = itemNode(node);
+
+        boolean[] nulls = new boolean[value.size()];
+        int index = 0;
+        for (Object item : value) {
+            nulls[index++] = item == null;
+        }
+
+        writer.writeVarInt(nulls.length);
+        writer.writeBitmap(nulls);
+        if (isInteger(itemNode)) {
+            writer.ensureCapacity(nulls.length);
+            for (Object item : value) {
+                if (item != null) writer.writeSignedVarInt((Integer) item);
+            }
+            return;
+        }
+        for (Object item : value) {
+            if (item == null) continue;
+            BinaryPacketSerializer.writeValue(item, itemNode, writer, registry);
+        }
+    }
+
+    @Override
+    public List<?> read(BinaryReader reader, CodecNode node, ChirpRegistry registry) {
+        CodecNode itemNode = itemNode(node);
+
+        int size = reader.readVarInt();
+        if (size < 0 || size > reader.remaining() << 3) {
+            throw new IllegalArgumentException("Invalid List size: " + size);
+        }
+        boolean[] nulls = reader.readBitmap(size);
+        List<Object> list = new ArrayList<>(size);
+        if (isInteger(itemNode)) {
+            for (int i = 0; i < size; i++) {
+                list.add(nulls[i] ? null : reader.readSignedVarInt());
+            }
+            return list;
+        }
+        for (int i = 0; i < size; i++) {
+            list.add(
+                    nulls[i] ? null : BinaryPacketSerializer.readValue(reader, itemNode, registry));
+        }
+        return list;
+    }
+
+    @Override
+    public void write(List<?> value, CodecNode node, JsonWriter writer, ChirpRegistry registry)
+            throws IOException {
+        CodecNode itemNode = itemNode(node);
+
+        writer.beginArray();
+        if (isInteger(itemNode)) {
+            for (Object item : value) {
+                if (item == null) writer.nullValue();
+                else writer.value(((Integer) item).longValue());
+            }
+            writer.endArray();
+            return;
+        }
+        for (Object item : value) {
+            StreamingPacketSerializer.writeValue(item, itemNode, writer, registry);
+        }
+        writer.endArray();
+    }
+
+    @Override
+    public List<?> read(JsonReader reader, CodecNode node, ChirpRegistry registry)
+            throws IOException {
+        CodecNode itemNode = itemNode(node);
+
+        List<Object> list = new ArrayList<>();
+        reader.beginArray();
+        if (isInteger(itemNode)) {
+            while (reader.hasNext()) {
+                if (reader.peek() == JsonToken.NULL) {
+                    reader.nextNull();
+                    list.add(null);
+                } else {
+                    list.add(reader.nextInt());
+                }
+            }
+            reader.endArray();
+            return list;
+        }
+        while (reader.hasNext()) {
+            list.add(StreamingPacketSerializer.readValue(reader, itemNode, registry));
+        }
+        reader.endArray();
+        return list;
+    }
+
+    private static CodecNode itemNode(CodecNode node) {
+        if (node.arguments.length != 1) {
+            throw new IllegalArgumentException(
+                    "List type must be parameterized (e.g., List<String>): "
+                            + node.type.getTypeName());
+        }
+        return node.arguments[0];
+    }
+
+    // Integers skip the per-item codec dispatch; the bytes written are the converter's own.
+    private static boolean isInteger(CodecNode node) {
+        return node.converter != null && node.converter.getClass() == IntegerConverter.class;
+    }
+}
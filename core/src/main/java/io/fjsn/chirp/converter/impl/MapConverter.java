@@ -0,0 +1,224 @@
+package io.fjsn.chirp.converter.impl;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.converter.BinaryFieldConverter;
+import io.fjsn.chirp.converter.BinaryReader;
+import io.fjsn.chirp.converter.BinaryWriter;
+import io.fjsn.chirp.converter.FieldConverter;
+import io.fjsn.chirp.converter.JsonStreamConverter;
+import io.fjsn.chirp.internal.schema.CodecNode;
+import io.fjsn.chirp.internal.schema.CompositeConverter;
+import io.fjsn.chirp.internal.serialization.BinaryPacketSerializer;
+import io.fjsn.chirp.internal.serialization.PacketSerializer;
+import io.fjsn.chirp.internal.serialization.StreamingPacketSerializer;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+
+public class MapConverter
+        implements FieldConverter<Map<?, ?>>,
+                BinaryFieldConverter<Map<?, ?>>,
+                JsonStreamConverter<Map<?, ?>>,
+                CompositeConverter<Map<?, ?>> {
+
+    @Override
+    public JsonElement serialize(Map<?, ?> value, Type type, ChirpRegistry registry) {
+        if (value == null) return null;
+        return serialize(value, registry.resolveCodec(type), registry);
+    }
+
+    @Override
+    public Map<?, ?> deserialize(JsonElement json, Type type, ChirpRegistry registry) {
+        if (json == null || json.isJsonNull()) return null;
+        return deserialize(json, registry.resolveCodec(type), registry);
+    }
+
+    @Override
+    public void write(Map<?, ?> value, Type type, BinaryWriter writer, ChirpRegistry registry) {
+        write(value, registry.resolveCodec(type), writer, registry);
+    }
+
+    @Override
+    public Map<?, ?> read(BinaryReader reader, Type type, ChirpRegistry registry) {
+        return read(reader, registry.resolveCodec(type), registry);
+    }
+
+    @Override
+    public void write(Map<?, ?> value, Type type, JsonWriter writer, ChirpRegistry registry)
+            throws IOException {
+        write(value, registry.resolveCodec(type), writer, registry);
+    }
+
+    @Override
+    public Map<?, ?> read(JsonReader reader, Type type, ChirpRegistry registry) throws IOException {
+        return read(reader, registry.resolveCodec(type), registry);
+    }
+
+    @Override
+    public JsonElement serialize(Map<?, ?> value, CodecNode node, ChirpRegistry registry) {
+        if (value == null) return null;
+        CodecNode[] typeArgs = typeArguments(node);
+
+        JsonObject obj = new JsonObject();
+        for (Map.Entry<?, ?> entry : value.entrySet()) {
+            String key = keyToString(entry.getKey(), typeArgs[0], registry);
+            JsonElement valElement =
+                    PacketSerializer.serializeValue(entry.getValue(), typeArgs[1], registry);
+            obj.add(key, valElement);
+        }
+        return obj;
+    }
+
+    @Override
+    public Map<?, ?> deserialize(JsonElement json, CodecNode node, ChirpRegistry registry) {
+        if (json == null || json.isJsonNull()) return null;
+        if (!json.isJsonObject())
+            throw new IllegalArgumentException(
+                    "Expected JSON object for Map, got: " + json.getClass().getSimpleName());
+
+        CodecNode[] typeArgs = typeArguments(node);
+
+        Map<Object, Object> map = new HashMap<>();
+        for (Map.Entry<String, JsonElement> entry : json.getAsJsonObject().entrySet()) {
+            Object key = keyFromString(entry.getKey(), typeArgs[0], registry);
+            Object val = PacketSerializer.deserializeValue(entry.getValue(), typeArgs[1], registry);
+            map.put(key, val);
+        }
+        return map;
+    }
+
+    @Override
+    public void write(
+            Map<?, ?> value, CodecNode node, BinaryWriter writer, ChirpRegistry registry) {
+        CodecNode[] typeArgs = typeArguments(node);
+
+        boolean[] nulls = new boolean[value.size()];
+        int index = 0;
+        for (Map.Entry<?, ?> entry : value.entrySet()) {
+            if (entry.getKey() == null) {
+                throw new IllegalArgumentException(
+                        "Map keys cannot be null for binary serialization of: "
+                                + node.type.getTypeName());
+            }
+            nulls[index++] = entry.getValue() == null;
+        }
+
+        writer.writeVarInt(nulls.length);
+        writer.writeBitmap(nulls);
+        boolean intKeys = isInteger(typeArgs[0]);
+        for (Map.Entry<?, ?> entry : value.entrySet()) {
+            if (intKeys) writer.writeSignedVarInt((Integer) entry.getKey());
+            else BinaryPacketSerializer.writeValue(entry.getKey(), typeArgs[0], writer, registry);
+            if (entry.getValue() == null) continue;
+            BinaryPacketSerializer.writeValue(entry.getValue(), typeArgs[1], writer, registry);
+        }
+    }
+
+    @Override
+    public Map<?, ?> read(BinaryReader reader, CodecNode node, ChirpRegistry registry) {
+        CodecNode[] typeArgs = typeArguments(node);
+
+        int size = reader.readVarInt();
+        if (size < 0 || size > reader.remaining() << 3) {
+            throw new IllegalArgumentException("Invalid Map size: " + size);
+        }
+        boolean[] nulls = reader.readBitmap(size);
+        Map<Object, Object> map = new HashMap<>(Math.max(16, (int) (size / 0.75f) + 1));
+        boolean intKeys = isInteger(typeArgs[0]);
+        for (int i = 0; i < size; i++) {
+            Object key =
+                    intKeys
+                            ? (Object) reader.readSignedVarInt()
+                            : BinaryPacketSerializer.readValue(reader, typeArgs[0], registry);
+            Object val =
+                    nulls[i]
+                            ? null
+                            : BinaryPacketSerializer.readValue(reader, typeArgs[1], registry);
+            map.put(key, val);
+        }
+        return map;
+    }
+
+    @Override
+    public void write(Map<?, ?> value, CodecNode node, JsonWriter writer, ChirpRegistry registry)
+            throws IOException {
+        CodecNode[] typeArgs = typeArguments(node);
+
+        writer.beginObject();
+        for (Map.Entry<?, ?> entry : value.entrySet()) {
+            writer.name(keyToString(entry.getKey(), typeArgs[0], registry));
+            StreamingPacketSerializer.writeValue(entry.getValue(), typeArgs[1], writer, registry);
+        }
+        writer.endObject();
+    }
+
+    @Override
+    public Map<?, ?> read(JsonReader reader, CodecNode node, ChirpRegistry registry)
+            throws IOException {
+        CodecNode[] typeArgs = typeArguments(node);
+
+        Map<Object, Object> map = new HashMap<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String keyString = reader.nextName();
+            Object key = keyFromString(keyString, typeArgs[0], registry);
+            map.put(key, StreamingPacketSerializer.readValue(reader, typeArgs[1], registry));
+        }
+        reader.endObject();
+        return map;
+    }
+
+    private static CodecNode[] typeArguments(CodecNode node) {
+        if (node.arguments.length != 2) {
+            throw new IllegalArgumentException(
+                    "Map type must be parameterized (e.g., Map<String, Integer>): "
+                            + node.type.getTypeName());
+        }
+        return node.arguments;
+    }
+
+    private static String keyToString(Object key, CodecNode keyNode, ChirpRegistry registry) {
+        if (key instanceof String string && keyNode.type == String.class) {
+            return string;
+        }
+        if (key instanceof Integer integer && isInteger(keyNode)) {
+            return integer.toString();
+        }
+
+        JsonElement keyElement = PacketSerializer.serializeValue(key, keyNode, registry);
+        if (!keyElement.isJsonPrimitive() || !keyElement.getAsJsonPrimitive().isString()) {
+            throw new IllegalArgumentException(
+                    "Map keys must serialize to a JSON string primitive. Invalid key type or"
+                            + " converter for: "
+                            + keyNode.type.getTypeName());
+        }
+        return keyElement.getAsString();
+    }
+
+    private static Object keyFromString(String key, CodecNode keyNode, ChirpRegistry registry) {
+        if (keyNode.type == String.class) {
+            return key;
+        }
+        // Integer keys are written as decimal strings, which the number-only converter rejects.
+        if (isInteger(keyNode)) {
+            try {
+                return Integer.valueOf(key);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid integer map key: " + key, e);
+            }
+        }
+        return PacketSerializer.deserializeValue(new JsonPrimitive(key), keyNode, registry);
+    }
+
+    private static boolean isInteger(CodecNode node) {
+        return node.converter != null && node.converter.getClass() == IntegerConverter.class;
+    }
+}
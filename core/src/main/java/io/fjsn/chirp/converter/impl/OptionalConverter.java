@@ -0,0 +1,135 @@
+package io.fjsn.chirp.converter.impl;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.converter.BinaryFieldConverter;
+import io.fjsn.chirp.converter.BinaryReader;
+import io.fjsn.chirp.converter.BinaryWriter;
+import io.fjsn.chirp.converter.FieldConverter;
+import io.fjsn.chirp.converter.JsonStreamConverter;
+import io.fjsn.chirp.internal.schema.CodecNode;
+import io.fjsn.chirp.internal.schema.CompositeConverter;
+import io.fjsn.chirp.internal.serialization.BinaryPacketSerializer;
+import io.fjsn.chirp.internal.serialization.PacketSerializer;
+import io.fjsn.chirp.internal.serialization.StreamingPacketSerializer;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Optional;
+
+public class OptionalConverter
+        implements FieldConverter<Optional<?>>,
+                BinaryFieldConverter<Optional<?>>,
+                JsonStreamConverter<Optional<?>>,
+                CompositeConverter<Optional<?>> {
+
+    @Override
+    public JsonElement serialize(Optional<?> value, Type type, ChirpRegistry registry) {
+        if (value == null || !value.isPresent()) {
+            return JsonNull.INSTANCE;
+        }
+        return serialize(value, registry.resolveCodec(type), registry);
+    }
+
+    @Override
+    public Optional<?> deserialize(JsonElement json, Type type, ChirpRegistry registry) {
+        if (json == null || json.isJsonNull()) {
+            return Optional.empty();
+        }
+        return deserialize(json, registry.resolveCodec(type), registry);
+    }
+
+    @Override
+    public void write(Optional<?> value, Type type, BinaryWriter writer, ChirpRegistry registry) {
+        write(value, registry.resolveCodec(type), writer, registry);
+    }
+
+    @Override
+    public Optional<?> read(BinaryReader reader, Type type, ChirpRegistry registry) {
+        return read(reader, registry.resolveCodec(type), registry);
+    }
+
+    @Override
+    public void write(Optional<?> value, Type type, JsonWriter writer, ChirpRegistry registry)
+            throws IOException {
+        if (!value.isPresent()) {
+            writer.nullValue();
+            return;
+        }
+        write(value, registry.resolveCodec(type), writer, registry);
+    }
+
+    @Override
+    public Optional<?> read(JsonReader reader, Type type, ChirpRegistry registry)
+            throws IOException {
+        return read(reader, registry.resolveCodec(type), registry);
+    }
+
+    @Override
+    public JsonElement serialize(Optional<?> value, CodecNode node, ChirpRegistry registry) {
+        if (value == null || !value.isPresent()) {
+            return JsonNull.INSTANCE;
+        }
+        return PacketSerializer.serializeValue(value.get(), itemNode(node), registry);
+    }
+
+    @Override
+    public Optional<?> deserialize(JsonElement json, CodecNode node, ChirpRegistry registry) {
+        if (json == null || json.isJsonNull()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(
+                PacketSerializer.deserializeValue(json, itemNode(node), registry));
+    }
+
+    @Override
+    public void write(
+            Optional<?> value, CodecNode node, BinaryWriter writer, ChirpRegistry registry) {
+        CodecNode itemNode = itemNode(node);
+
+        writer.writeBoolean(value.isPresent());
+        if (value.isPresent()) {
+            BinaryPacketSerializer.writeValue(value.get(), itemNode, writer, registry);
+        }
+    }
+
+    @Override
+    public Optional<?> read(BinaryReader reader, CodecNode node, ChirpRegistry registry) {
+        CodecNode itemNode = itemNode(node);
+
+        if (!reader.readBoolean()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(BinaryPacketSerializer.readValue(reader, itemNode, registry));
+    }
+
+    @Override
+    public void write(Optional<?> value, CodecNode node, JsonWriter writer, ChirpRegistry registry)
+            throws IOException {
+        if (!value.isPresent()) {
+            writer.nullValue();
+            return;
+        }
+        StreamingPacketSerializer.writeValue(value.get(), itemNode(node), writer, registry);
+    }
+
+    @Override
+    public Optional<?> read(JsonReader reader, CodecNode node, ChirpRegistry registry)
+            throws IOException {
+        return Optional.ofNullable(
+                StreamingPacketSerializer.readValue(reader, itemNode(node), registry));
+    }
+
+    private static CodecNode itemNode(CodecNode node) {
+        if (node.arguments.length != 1) {
+            throw new IllegalArgumentException(
+                    "Optional type must be parameterized (e.g., Optional<String>): "
+                            + node.type.getTypeName());
+        }
+        return node.arguments[0];
+    }
+}
@@ -0,0 +1,179 @@
+package io.fjsn.chirp.converter.impl;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.converter.BinaryFieldConverter;
+import io.fjsn.chirp.converter.BinaryReader;
+import io.fjsn.chirp.converter.BinaryWriter;
+import io.fjsn.chirp.converter.FieldConverter;
+import io.fjsn.chirp.converter.JsonStreamConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Base64;
+
+// Packs primitive arrays as a length followed by the raw elements: ints and longs as zigzag
+// varints, booleans as a bitmap and everything else at fixed width. JSON carries the same bytes
+// as a base64 string.
+public class PrimitiveArrayConverter
+        implements FieldConverter<Object>,
+                BinaryFieldConverter<Object>,
+                JsonStreamConverter<Object> {
+
+    @Override
+    public JsonElement serialize(Object value, Type type, ChirpRegistry registry) {
+        if (value == null) {
+            return null;
+        }
+        return new JsonPrimitive(toBase64(value));
+    }
+
+    @Override
+    public Object deserialize(JsonElement json, Type type, ChirpRegistry registry) {
+        if (json == null || json.isJsonNull()) {
+            return null;
+        }
+        if (!json.isJsonPrimitive() || !json.getAsJsonPrimitive().isString()) {
+            throw new IllegalArgumentException(
+                    "Expected base64 JSON string for " + type.getTypeName() + ", got: " + json);
+        }
+        return fromBase64(json.getAsString(), type);
+    }
+
+    @Override
+    public void write(Object value, Type type, BinaryWriter writer, ChirpRegistry registry) {
+        writePacked(value, writer);
+    }
+
+    @Override
+    public Object read(BinaryReader reader, Type type, ChirpRegistry registry) {
+        return readPacked(componentType(type), reader);
+    }
+
+    @Override
+    public void write(Object value, Type type, JsonWriter writer, ChirpRegistry registry)
+            throws IOException {
+        writer.value(toBase64(value));
+    }
+
+    @Override
+    public Object read(JsonReader reader, Type type, ChirpRegistry registry) throws IOException {
+        return fromBase64(reader.nextString(), type);
+    }
+
+    private static String toBase64(Object value) {
+        BinaryWriter writer = new BinaryWriter();
+        writePacked(value, writer);
+        return Base64.getEncoder().encodeToString(writer.toByteArray());
+    }
+
+    private static Object fromBase64(String encoded, Type type) {
+        try {
+            return readPacked(
+                    componentType(type), new BinaryReader(Base64.getDecoder().decode(encoded)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                    "Invalid packed " + type.getTypeName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static Class<?> componentType(Type type) {
+        if (!(type instanceof Class<?> clazz) || !clazz.isArray()) {
+            throw new IllegalArgumentException(
+                    "Expected a primitive array type, got: " + type.getTypeName());
+        }
+        return clazz.getComponentType();
+    }
+
+    private static void writePacked(Object value, BinaryWriter writer) {
+        if (value instanceof byte[] bytes) {
+            writer.writeVarInt(bytes.length);
+            writer.writeBytes(bytes);
+        } else if (value instanceof int[] ints) {
+            writer.writeVarInt(ints.length);
+            writer.ensureCapacity(ints.length);
+            for (int i : ints) writer.writeSignedVarInt(i);
+        } else if (value instanceof long[] longs) {
+            writer.writeVarInt(longs.length);
+            writer.ensureCapacity(longs.length);
+            for (long l : longs) writer.writeSignedVarLong(l);
+        } else if (value instanceof boolean[] booleans) {
+            writer.writeVarInt(booleans.length);
+            writer.writeBitmap(booleans);
+        } else if (value instanceof short[] shorts) {
+            writer.writeVarInt(shorts.length);
+            writer.ensureCapacity(shorts.length << 1);
+            for (short s : shorts) {
+                writer.writeByte(s >>> 8);
+                writer.writeByte(s);
+            }
+        } else if (value instanceof char[] chars) {
+            writer.writeVarInt(chars.length);
+            writer.ensureCapacity(chars.length << 1);
+            for (char c : chars) {
+                writer.writeByte(c >>> 8);
+                writer.writeByte(c);
+            }
+        } else if (value instanceof float[] floats) {
+            writer.writeVarInt(floats.length);
+            writer.ensureCapacity(floats.length << 2);
+            for (float f : floats) writer.writeFloat(f);
+        } else if (value instanceof double[] doubles) {
+            writer.writeVarInt(doubles.length);
+            writer.ensureCapacity(doubles.length << 3);
+            for (double d : doubles) writer.writeDouble(d);
+        } else {
+            throw new IllegalArgumentException(
+                    "Expected a primitive array, got: " + value.getClass().getName());
+        }
+    }
+
+    private static Object readPacked(Class<?> componentType, BinaryReader reader) {
+        int length = reader.readVarInt();
+        if (length < 0 || length > reader.remaining() << 3) {
+            throw new IllegalArgumentException("Invalid packed array length: " + length);
+        }
+
+        if (componentType == byte.class) {
+            return reader.readBytes(length);
+        } else if (componentType == int.class) {
+            int[] ints = new int[length];
+            for (int i = 0; i < length; i++) ints[i] = reader.readSignedVarInt();
+            return ints;
+        } else if (componentType == long.class) {
+            long[] longs = new long[length];
+            for (int i = 0; i < length; i++) longs[i] = reader.readSignedVarLong();
+            return longs;
+        } else if (componentType == boolean.class) {
+            return reader.readBitmap(length);
+        } else if (componentType == short.class) {
+            short[] shorts = new short[length];
+            for (int i = 0; i < length; i++) {
+                shorts[i] =
+                        (short) (((reader.readByte() & 0xFF) << 8) | (reader.readByte() & 0xFF));
+            }
+            return shorts;
+        } else if (componentType == char.class) {
+            char[] chars = new char[length];
+            for (int i = 0; i < length; i++) {
+                chars[i] = (char) (((reader.readByte() & 0xFF) << 8) | (reader.readByte() & 0xFF));
+            }
+            return chars;
+        } else if (componentType == float.class) {
+            float[] floats = new float[length];
+            for (int i = 0; i < length; i++) floats[i] = reader.readFloat();
+            return floats;
+        } else if (componentType == double.class) {
+            double[] doubles = new double[length];
+            for (int i = 0; i < length; i++) doubles[i] = reader.readDouble();
+            return doubles;
+        }
+
+        throw new IllegalArgumentException(
+                "Expected a primitive array type, got: " + componentType.getName() + "[]");
+    }
+}
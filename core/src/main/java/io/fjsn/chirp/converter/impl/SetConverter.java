@@ -0,0 +1,160 @@
+package io.fjsn.chirp.converter.impl;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.converter.BinaryFieldConverter;
+import io.fjsn.chirp.converter.BinaryReader;
+import io.fjsn.chirp.converter.BinaryWriter;
+import io.fjsn.chirp.converter.FieldConverter;
+import io.fjsn.chirp.converter.JsonStreamConverter;
+import io.fjsn.chirp.internal.schema.CodecNode;
+import io.fjsn.chirp.internal.schema.CompositeConverter;
+import io.fjsn.chirp.internal.serialization.BinaryPacketSerializer;
+import io.fjsn.chirp.internal.serialization.PacketSerializer;
+import io.fjsn.chirp.internal.serialization.StreamingPacketSerializer;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.HashSet;
+import java.util.Set;
+
+public class SetConverter
+        implements FieldConverter<Set<?>>,
+                BinaryFieldConverter<Set<?>>,
+                JsonStreamConverter<Set<?>>,
+                CompositeConverter<Set<?>> {
+
+    @Override
+    public JsonElement serialize(Set<?> value, Type type, ChirpRegistry registry) {
+        if (value == null) return null;
+        return serialize(value, registry.resolveCodec(type), registry);
+    }
+
+    @Override
+    public Set<?> deserialize(JsonElement json, Type type, ChirpRegistry registry) {
+        if (json == null || json.isJsonNull()) return null;
+        return deserialize(json, registry.resolveCodec(type), registry);
+    }
+
+    @Override
+    public void write(Set<?> value, Type type, BinaryWriter writer, ChirpRegistry registry) {
+        write(value, registry.resolveCodec(type), writer, registry);
+    }
+
+    @Override
+    public Set<?> read(BinaryReader reader, Type type, ChirpRegistry registry) {
+        return read(reader, registry.resolveCodec(type), registry);
+    }
+
+    @Override
+    public void write(Set<?> value, Type type, JsonWriter writer, ChirpRegistry registry)
+            throws IOException {
+        write(value, registry.resolveCodec(type), writer, registry);
+    }
+
+    @Override
+    public Set<?> read(JsonReader reader, Type type, ChirpRegistry registry) throws IOException {
+        return read(reader, registry.resolveCodec(type), registry);
+    }
+
+    @Override
+    public JsonElement serialize(Set<?> value, CodecNode node, ChirpRegistry registry) {
+        if (value == null) return null;
+        CodecNode itemNode = itemNode(node);
+
+        JsonArray array = new JsonArray();
+        for (Object item : value) {
+            array.add(PacketSerializer.serializeValue(item, itemNode, registry));
+        }
+        return array;
+    }
+
+    @Override
+    public Set<?> deserialize(JsonElement json, CodecNode node, ChirpRegistry registry) {
+        if (json == null || json.isJsonNull()) return null;
+        if (!json.isJsonArray())
+            throw new IllegalArgumentException(
+                    "Expected JSON array for Set, got: " + json.getClass().getSimpleName());
+
+        CodecNode itemNode = itemNode(node);
+
+        Set<Object> set = new HashSet<>();
+        for (JsonElement el : json.getAsJsonArray()) {
+            set.add(PacketSerializer.deserializeValue(el, itemNode, registry));
+        }
+        return set;
+    }
+
+    @Override
+    public void write(Set<?> value, CodecNode node, BinaryWriter writer, ChirpRegistry registry) {
+        CodecNode itemNode = itemNode(node);
+
+        boolean[] nulls = new boolean[value.size()];
+        int index = 0;
+        for (Object item : value) {
+            nulls[index++] = item == null;
+        }
+
+        writer.writeVarInt(nulls.length);
+        writer.writeBitmap(nulls);
+        for (Object item : value) {
+            if (item == null) continue;
+            BinaryPacketSerializer.writeValue(item, itemNode, writer, registry);
+        }
+    }
+
+    @Override
+    public Set<?> read(BinaryReader reader, CodecNode node, ChirpRegistry registry) {
+        CodecNode itemNode = itemNode(node);
+
+        int size = reader.readVarInt();
+        if (size < 0 || size > reader.remaining() << 3) {
+            throw new IllegalArgumentException("Invalid Set size: " + size);
+        }
+        boolean[] nulls = reader.readBitmap(size);
+        Set<Object> set = new HashSet<>(Math.max(16, (int) (size / 0.75f) + 1));
+        for (int i = 0; i < size; i++) {
+            set.add(nulls[i] ? null : BinaryPacketSerializer.readValue(reader, itemNode, registry));
+        }
+        return set;
+    }
+
+    @Override
+    public void write(Set<?> value, CodecNode node, JsonWriter writer, ChirpRegistry registry)
+            throws IOException {
+        CodecNode itemNode = itemNode(node);
+
+        writer.beginArray();
+        for (Object item : value) {
+            StreamingPacketSerializer.writeValue(item, itemNode, writer, registry);
+        }
+        writer.endArray();
+    }
+
+    @Override
+    public Set<?> read(JsonReader reader, CodecNode node, ChirpRegistry registry)
+            throws IOException {
+        CodecNode itemNode = itemNode(node);
+
+        Set<Object> set = new HashSet<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            set.add(StreamingPacketSerializer.readValue(reader, itemNode, registry));
+        }
+        reader.endArray();
+        return set;
+    }
+
+    private static CodecNode itemNode(CodecNode node) {
+        if (node.arguments.length != 1) {
+            throw new IllegalArgumentException(
+                    "Set type must be parameterized (e.g., Set<String>): "
+                            + node.type.getTypeName());
+        }
+        return node.arguments[0];
+    }
+}
@@ -0,0 +1,65 @@
+package io.fjsn.chirp.converter.impl;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.annotation.ChirpConverter;
+import io.fjsn.chirp.converter.BinaryFieldConverter;
+import io.fjsn.chirp.converter.BinaryReader;
+import io.fjsn.chirp.converter.BinaryWriter;
+import io.fjsn.chirp.converter.FieldConverter;
+import io.fjsn.chirp.converter.JsonStreamConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+@ChirpConverter
+public class StringConverter
+        implements FieldConverter<String>,
+                BinaryFieldConverter<String>,
+                JsonStreamConverter<String> {
+    @Override
+    public JsonElement serialize(String value, Type type, ChirpRegistry registry) {
+        if (value == null) {
+            return null;
+        }
+        return new JsonPrimitive(value);
+    }
+
+    @Override
+    public String deserialize(JsonElement json, Type type, ChirpRegistry registry) {
+        if (json == null || json.isJsonNull()) {
+            return null;
+        }
+        if (!json.isJsonPrimitive() || !json.getAsJsonPrimitive().isString()) {
+            throw new IllegalArgumentException(
+                    "Expected JSON string primitive for String, got: "
+                            + json.getClass().getSimpleName());
+        }
+        return json.getAsString();
+    }
+
+    @Override
+    public void write(String value, Type type, BinaryWriter writer, ChirpRegistry registry) {
+        writer.writeString(value);
+    }
+
+    @Override
+    public String read(BinaryReader reader, Type type, ChirpRegistry registry) {
+        return reader.readString();
+    }
+
+    @Override
+    public void write(String value, Type type, JsonWriter writer, ChirpRegistry registry)
+            throws IOException {
+        writer.value(value);
+    }
+
+    @Override
+    public String read(JsonReader reader, Type type, ChirpRegistry registry) throws IOException {
+        return reader.nextString();
+    }
+}
@@ -0,0 +1,64 @@
+package io.fjsn.chirp.converter.impl;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.annotation.ChirpConverter;
+import io.fjsn.chirp.converter.BinaryFieldConverter;
+import io.fjsn.chirp.converter.BinaryReader;
+import io.fjsn.chirp.converter.BinaryWriter;
+import io.fjsn.chirp.converter.FieldConverter;
+import io.fjsn.chirp.converter.JsonStreamConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.UUID;
+
+@ChirpConverter
+public class UUIDConverter
+        implements FieldConverter<UUID>, BinaryFieldConverter<UUID>, JsonStreamConverter<UUID> {
+    @Override
+    public JsonElement serialize(UUID value, Type type, ChirpRegistry registry) {
+        if (value == null) {
+            return null;
+        }
+        return new JsonPrimitive(value.toString());
+    }
+
+    @Override
+    public UUID deserialize(JsonElement json, Type type, ChirpRegistry registry) {
+        if (json == null || json.isJsonNull()) {
+            return null;
+        }
+        if (!json.isJsonPrimitive() || !json.getAsJsonPrimitive().isString()) {
+            throw new IllegalArgumentException(
+                    "Expected JSON string primitive for UUID, got: "
+                            + json.getClass().getSimpleName());
+        }
+        return UUID.fromString(json.getAsString());
+    }
+
+    @Override
+    public void write(UUID value, Type type, BinaryWriter writer, ChirpRegistry registry) {
+        writer.writeUUID(value);
+    }
+
+    @Override
+    public UUID read(BinaryReader reader, Type type, ChirpRegistry registry) {
+        return reader.readUUID();
+    }
+
+    @Override
+    public void write(UUID value, Type type, JsonWriter writer, ChirpRegistry registry)
+            throws IOException {
+        writer.value(value.toString());
+    }
+
+    @Override
+    public UUID read(JsonReader reader, Type type, ChirpRegistry registry) throws IOException {
+        return UUID.fromString(reader.nextString());
+    }
+}
@@ -5,7 +5,6 @@ import io.fjsn.chirp.ChirpPacketEvent;
 import io.fjsn.chirp.ChirpRegistry;
 import io.fjsn.chirp.internal.util.ChirpLogger;
 
-import java.lang.invoke.MethodHandle;
 import java.lang.invoke.WrongMethodTypeException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
@@ -29,22 +28,24 @@ public class EventDispatcher {
             Object listenerInstance = entry.getKey();
             List<HandlerMethod> handlerMethods = entry.getValue();
             for (HandlerMethod handlerMethod : handlerMethods) {
-                MethodHandle methodHandle = handlerMethod.methodHandle;
-
                 if (!handlerMethod.expectedPacketClass.isAssignableFrom(packetClass)) continue;
 
                 try {
-                    methodHandle.invoke(listenerInstance, event);
+                    if (handlerMethod.invoker != null) {
+                        handlerMethod.invoker.invoke(listenerInstance, event);
+                    } else {
+                        handlerMethod.methodHandle.invoke(listenerInstance, event);
+                    }
                 } catch (WrongMethodTypeException e) {
                     ChirpLogger.severe(
                             "MethodHandle invocation failed due to wrong method type for "
-                                    + handlerMethod.methodHandle
+                                    + handlerMethod.name
                                     + ": "
                                     + e.getMessage());
                 } catch (Throwable e) {
                     ChirpLogger.severe(
                             "Failed to invoke handler "
-                                    + handlerMethod.methodHandle
+                                    + handlerMethod.name
                                     + " for listener "
                                     + listenerInstance.getClass().getName()
                                     + ": "
@@ -0,0 +1,8 @@
+package io.fjsn.chirp.internal.handler;
+
+// Implemented by the <Listener>$ChirpDispatcher classes chirp-processor generates. Returns null
+// for handlers the generated code cannot call, such as private methods.
+public interface GeneratedDispatcher {
+
+    HandlerInvoker invoker(String methodName, Class<?> packetClass);
+}
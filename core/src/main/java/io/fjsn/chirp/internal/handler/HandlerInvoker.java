@@ -0,0 +1,8 @@
+package io.fjsn.chirp.internal.handler;
+
+import io.fjsn.chirp.ChirpPacketEvent;
+
+public interface HandlerInvoker {
+
+    void invoke(Object listener, ChirpPacketEvent<?> event) throws Throwable;
+}
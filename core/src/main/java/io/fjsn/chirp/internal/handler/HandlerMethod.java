@@ -0,0 +1,43 @@
+package io.fjsn.chirp.internal.handler;
+
+import io.fjsn.chirp.annotation.ChirpHandler;
+import io.fjsn.chirp.internal.util.GeneratedClasses;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+
+public class HandlerMethod {
+
+    public final String name;
+    public final MethodHandle methodHandle;
+    public final HandlerInvoker invoker;
+    public final Class<?> expectedPacketClass;
+    public final String[] fields;
+
+    public HandlerMethod(Method method, Class<?> expectedPacketClass) {
+        this.name = method.getDeclaringClass().getName() + "#" + method.getName();
+        this.expectedPacketClass = expectedPacketClass;
+
+        ChirpHandler annotation = method.getAnnotation(ChirpHandler.class);
+        this.fields = annotation != null ? annotation.fields() : new String[0];
+
+        GeneratedDispatcher dispatcher = GeneratedClasses.dispatcher(method.getDeclaringClass());
+        this.invoker =
+                dispatcher == null
+                        ? null
+                        : dispatcher.invoker(method.getName(), expectedPacketClass);
+        if (invoker != null) {
+            this.methodHandle = null;
+            return;
+        }
+
+        try {
+            method.setAccessible(true);
+            this.methodHandle = MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+
+            throw new RuntimeException("Failed to unreflect method: " + method.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package io.fjsn.chirp.internal.redis;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.internal.serialization.BinaryPacketSerializer;
+import io.fjsn.chirp.internal.serialization.PacketCompressor;
+import io.fjsn.chirp.internal.serialization.PacketDeltas;
+import io.fjsn.chirp.internal.serialization.PacketEnvelope;
+import io.fjsn.chirp.internal.serialization.PacketHeader;
+import io.fjsn.chirp.internal.serialization.PacketSerializer;
+import io.fjsn.chirp.internal.serialization.StreamingPacketSerializer;
+import io.fjsn.chirp.internal.util.ChirpLogger;
+
+import redis.clients.jedis.BinaryJedisPubSub;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Predicate;
+
+public class BinaryJedisSubscriber extends BinaryJedisPubSub {
+
+    private final ChirpRegistry registry;
+    private final PacketCompressor compressor;
+    private final LargePacketHandler largePackets;
+    private final PacketDeltas deltas;
+    private final PacketReceiver receiver;
+    private final boolean streaming;
+    private final Runnable onSubscribed;
+
+    public BinaryJedisSubscriber(
+            ChirpRegistry registry,
+            PacketCompressor compressor,
+            LargePacketHandler largePackets,
+            PacketDeltas deltas,
+            PacketReceiver receiver,
+            boolean streaming,
+            Runnable onSubscribed) {
+        this.registry = registry;
+        this.compressor = compressor;
+        this.largePackets = largePackets;
+        this.deltas = deltas;
+        this.receiver = receiver;
+        this.streaming = streaming;
+        this.onSubscribed = onSubscribed;
+    }
+
+    @Override
+    public void onSubscribe(byte[] channel, int subscribedChannels) {
+        ChirpLogger.debug(
+                "Subscribed to channel '" + new String(channel, StandardCharsets.UTF_8) + "'");
+        onSubscribed.run();
+    }
+
+    @Override
+    public void onMessage(byte[] channel, byte[] message) {
+        if (ChirpLogger.debug) {
+            ChirpLogger.debug(
+                    "Received "
+                            + message.length
+                            + " bytes on channel '"
+                            + new String(channel, StandardCharsets.UTF_8)
+                            + "'");
+        }
+
+        try {
+            if (LargePacketHandler.isLargePacketFrame(message)) {
+                message =
+                        largePackets.receive(new String(channel, StandardCharsets.UTF_8), message);
+                if (message == null) return;
+            }
+
+            if (PacketCompressor.isCompressed(message)) {
+                message = compressor.decompress(message);
+            }
+
+            int length = message.length;
+            Predicate<PacketHeader> filter = header -> receiver.accept(header, length);
+
+            PacketEnvelope envelope;
+            if (BinaryPacketSerializer.isBinaryPacket(message)) {
+                envelope =
+                        BinaryPacketSerializer.deserialize(
+                                message,
+                                registry,
+                                deltas,
+                                new String(channel, StandardCharsets.UTF_8),
+                                filter);
+            } else if (streaming) {
+                envelope = StreamingPacketSerializer.fromJsonBytes(message, registry, filter);
+            } else {
+                JsonObject json =
+                        JsonParser.parseReader(
+                                        new InputStreamReader(
+                                                new ByteArrayInputStream(message),
+                                                StandardCharsets.UTF_8))
+                                .getAsJsonObject();
+                envelope = PacketSerializer.deserializeEnvelope(json, registry, filter);
+            }
+            if (envelope == null) return;
+
+            receiver.receive(envelope);
+        } catch (Exception e) {
+            ChirpLogger.severe("Error handling message: " + e.getMessage());
+        }
+    }
+}
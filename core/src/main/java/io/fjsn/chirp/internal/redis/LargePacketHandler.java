@@ -0,0 +1,292 @@
+package io.fjsn.chirp.internal.redis;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.LargePacketStats;
+import io.fjsn.chirp.LargePacketStrategy;
+import io.fjsn.chirp.converter.BinaryReader;
+import io.fjsn.chirp.converter.BinaryWriter;
+import io.fjsn.chirp.internal.util.ChirpLogger;
+
+import redis.clients.jedis.Jedis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Redis buffers every pub/sub message in full for each subscriber, so a single huge packet can
+// push a slow subscriber over its output buffer limit and get its whole connection dropped.
+// Packets over the threshold are either split into chunks or parked in a short-lived key.
+public class LargePacketHandler {
+
+    public static final byte CHUNK_MARKER = (byte) 0xC3;
+    public static final byte CLAIM_MARKER = (byte) 0xC4;
+
+    private static final int MIN_CHUNK_SIZE = 1024;
+    private static final int CLAIM_TTL_SECONDS = 60;
+
+    // Unfinished packets are dropped after this long, and new ones are refused while this much is
+    // already waiting for missing chunks.
+    private static final long REASSEMBLY_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final long MAX_PENDING_BYTES = 64L * 1024 * 1024;
+
+    private static final class Transfer {
+        final String type;
+        final byte[] payload;
+        final boolean[] received;
+        final long startTime;
+        int remaining;
+
+        Transfer(String type, int length, int count, long startTime) {
+            this.type = type;
+            this.payload = new byte[length];
+            this.received = new boolean[count];
+            this.startTime = startTime;
+            this.remaining = count;
+        }
+    }
+
+    private final String claimPrefix;
+    private final Supplier<Jedis> jedisSupplier;
+    private final Map<String, Transfer> transfers = new ConcurrentHashMap<>();
+    private final AtomicLong pendingBytes = new AtomicLong();
+    private final Map<String, LargePacketStats> stats = new ConcurrentHashMap<>();
+
+    private volatile LargePacketStrategy strategy = LargePacketStrategy.CHUNK;
+    private volatile int threshold = -1;
+
+    public LargePacketHandler(String channel, Supplier<Jedis> jedisSupplier) {
+        this.claimPrefix = channel + ":claim:";
+        this.jedisSupplier = jedisSupplier;
+    }
+
+    public static boolean isLargePacketFrame(byte[] data) {
+        return data != null
+                && data.length > 0
+                && (data[0] == CHUNK_MARKER || data[0] == CLAIM_MARKER);
+    }
+
+    public LargePacketStrategy getStrategy() {
+        return strategy;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public void configure(LargePacketStrategy strategy, int threshold) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Large packet strategy cannot be null");
+        }
+        this.strategy = strategy;
+        this.threshold = threshold;
+    }
+
+    public boolean isEnabled() {
+        return threshold >= 0;
+    }
+
+    public Map<String, LargePacketStats> getStats() {
+        return Collections.unmodifiableMap(stats);
+    }
+
+    public List<byte[]> split(Jedis jedis, Class<?> packetClass, byte[] payload) {
+        if (!isEnabled() || payload.length <= threshold) return List.of(payload);
+
+        long startTime = System.nanoTime();
+        String type = ChirpRegistry.packetTypeName(packetClass);
+        LargePacketStrategy strategy = this.strategy;
+
+        List<byte[]> messages;
+        if (strategy == LargePacketStrategy.CHUNK) {
+            messages = chunk(type, payload);
+            stats(type).recordChunked(payload.length, messages.size());
+        } else {
+            messages = List.of(claimCheck(jedis, type, payload));
+            stats(type).recordClaimChecked(payload.length);
+        }
+
+        long endTime = System.nanoTime();
+        ChirpLogger.debug(
+                (strategy == LargePacketStrategy.CHUNK
+                                ? "Split " + type + " into " + messages.size() + " chunks"
+                                : "Claim-checked " + type)
+                        + " ("
+                        + payload.length
+                        + " bytes) in "
+                        + (endTime - startTime) / 1_000_000.0
+                        + "ms.");
+        return messages;
+    }
+
+    private List<byte[]> chunk(String type, byte[] payload) {
+        UUID transferId = UUID.randomUUID();
+        int chunkSize = Math.max(threshold, MIN_CHUNK_SIZE);
+        int count = (payload.length + chunkSize - 1) / chunkSize;
+
+        List<byte[]> chunks = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            int offset = index * chunkSize;
+            int length = Math.min(chunkSize, payload.length - offset);
+
+            BinaryWriter writer = new BinaryWriter(length + type.length() + 40);
+            writer.writeByte(CHUNK_MARKER);
+            writer.writeUUID(transferId);
+            writer.writeString(type);
+            writer.writeVarInt(index);
+            writer.writeVarInt(count);
+            writer.writeVarInt(payload.length);
+            writer.writeVarInt(offset);
+            writer.writeBytes(payload, offset, length);
+            chunks.add(writer.toByteArray());
+        }
+        return chunks;
+    }
+
+    // Every subscriber fetches the same key, so it is left to expire rather than deleted.
+    private byte[] claimCheck(Jedis jedis, String type, byte[] payload) {
+        String key = claimPrefix + UUID.randomUUID();
+        jedis.setex(key.getBytes(StandardCharsets.UTF_8), CLAIM_TTL_SECONDS, payload);
+
+        BinaryWriter writer = new BinaryWriter(key.length() + type.length() + 16);
+        writer.writeByte(CLAIM_MARKER);
+        writer.writeString(type);
+        writer.writeString(key);
+        writer.writeVarInt(payload.length);
+        return writer.toByteArray();
+    }
+
+    // Returns the original payload once it is complete, or null while chunks are still missing
+    // and when it was lost.
+    public byte[] receive(String channel, byte[] frame) {
+        BinaryReader reader = new BinaryReader(frame);
+        byte marker = reader.readByte();
+        if (marker == CLAIM_MARKER) return fetch(reader);
+        if (marker != CHUNK_MARKER) {
+            throw new IllegalArgumentException("Invalid large packet marker");
+        }
+
+        UUID transferId = reader.readUUID();
+        String type = reader.readString();
+        int index = reader.readVarInt();
+        int count = reader.readVarInt();
+        int length = reader.readVarInt();
+        int offset = reader.readVarInt();
+        int chunkLength = reader.remaining();
+        // Senders never cut chunks smaller than MIN_CHUNK_SIZE (bar the last), so the count is
+        // bounded by the length before it is used to size the transfer.
+        if (count <= 0
+                || count > Math.max(1, (length + (long) MIN_CHUNK_SIZE - 1) / MIN_CHUNK_SIZE)
+                || index < 0
+                || index >= count
+                || offset < 0
+                || length < 0
+                || chunkLength > length - offset) {
+            throw new IllegalArgumentException("Invalid chunk header for " + type);
+        }
+
+        long now = System.nanoTime();
+        expireTransfers(now);
+
+        String key = channel + "/" + transferId;
+        Transfer transfer = transfers.get(key);
+        if (transfer == null) {
+            // Chunks are published in order, so a transfer whose first chunk was missed or
+            // refused cannot be completed.
+            if (index != 0) return null;
+            if (pendingBytes.get() + length > MAX_PENDING_BYTES) {
+                stats(type).recordExpired();
+                ChirpLogger.warning(
+                        "Dropping "
+                                + type
+                                + " ("
+                                + length
+                                + " bytes), too many chunked packets are still being"
+                                + " reassembled.");
+                return null;
+            }
+            transfer = new Transfer(type, length, count, now);
+            transfers.put(key, transfer);
+            pendingBytes.addAndGet(length);
+        }
+
+        synchronized (transfer) {
+            if (transfer.received.length != count
+                    || transfer.payload.length != length
+                    || transfer.received[index]) {
+                return null;
+            }
+            System.arraycopy(frame, reader.position(), transfer.payload, offset, chunkLength);
+            transfer.received[index] = true;
+            if (--transfer.remaining > 0) return null;
+        }
+
+        if (transfers.remove(key) == null) return null;
+        pendingBytes.addAndGet(-length);
+        stats(type).recordReassembled();
+        ChirpLogger.debug(
+                "Reassembled "
+                        + type
+                        + " from "
+                        + count
+                        + " chunks in "
+                        + (System.nanoTime() - transfer.startTime) / 1_000_000.0
+                        + "ms.");
+        return transfer.payload;
+    }
+
+    private void expireTransfers(long now) {
+        Iterator<Transfer> iterator = transfers.values().iterator();
+        while (iterator.hasNext()) {
+            Transfer transfer = iterator.next();
+            if (now - transfer.startTime < REASSEMBLY_TIMEOUT_NANOS) continue;
+
+            iterator.remove();
+            pendingBytes.addAndGet(-transfer.payload.length);
+            stats(transfer.type).recordExpired();
+            ChirpLogger.warning(
+                    "Dropping "
+                            + transfer.type
+                            + ", "
+                            + transfer.remaining
+                            + " of its "
+                            + transfer.received.length
+                            + " chunks did not arrive in time.");
+        }
+    }
+
+    private byte[] fetch(BinaryReader reader) {
+        String type = reader.readString();
+        String key = reader.readString();
+        int length = reader.readVarInt();
+
+        byte[] payload;
+        try (Jedis jedis = jedisSupplier.get()) {
+            payload = jedis.get(key.getBytes(StandardCharsets.UTF_8));
+        }
+
+        if (payload == null || payload.length != length) {
+            stats(type).recordClaimMissing();
+            ChirpLogger.warning("Claim-checked " + type + " expired before it was fetched.");
+            return null;
+        }
+        stats(type).recordClaimFetched();
+        return payload;
+    }
+
+    private LargePacketStats stats(String type) {
+        return stats.computeIfAbsent(type, LargePacketStats::new);
+    }
+
+    public void cleanup() {
+        transfers.clear();
+        pendingBytes.set(0);
+    }
+}
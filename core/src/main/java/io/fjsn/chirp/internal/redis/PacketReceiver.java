@@ -0,0 +1,93 @@
+package io.fjsn.chirp.internal.redis;
+
+import io.fjsn.chirp.Chirp;
+import io.fjsn.chirp.ChirpPacketEvent;
+import io.fjsn.chirp.PacketDropStats;
+import io.fjsn.chirp.internal.handler.EventDispatcher;
+import io.fjsn.chirp.internal.schema.PacketSchema;
+import io.fjsn.chirp.internal.serialization.PacketEnvelope;
+import io.fjsn.chirp.internal.serialization.PacketHeader;
+import io.fjsn.chirp.internal.util.ChirpLogger;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class PacketReceiver {
+
+    private final Chirp chirp;
+    private final EventDispatcher eventDispatcher;
+    private final Map<String, PacketDropStats> dropStats = new ConcurrentHashMap<>();
+
+    public PacketReceiver(Chirp chirp, EventDispatcher eventDispatcher) {
+        this.chirp = chirp;
+        this.eventDispatcher = eventDispatcher;
+    }
+
+    public Map<String, PacketDropStats> getDropStats() {
+        return Collections.unmodifiableMap(dropStats);
+    }
+
+    // Called by the deserializers once the header is read, so messages that would be dropped
+    // never have their body decoded.
+    public boolean accept(PacketHeader header, int length) {
+        if (!header.self && header.origin.equals(chirp.getOrigin())) {
+            dropStats(header.type).recordSelfEcho(length);
+            ChirpLogger.debug("Ignoring message from self");
+            return false;
+        }
+
+        if (header.responding) {
+            // Responses are only published to the origin's own channel, so one without a
+            // callback here arrived after the callback timed out or was already completed.
+            if (header.respondingTo != null
+                    && !chirp.getRegistry()
+                            .getCallbackRegistry()
+                            .containsKey(header.respondingTo)) {
+                dropStats(header.type).recordLateResponse(length);
+                ChirpLogger.warning(
+                        "No callback was found for ID, perhaps it timed out or was already"
+                                + " handled? ID: "
+                                + header.respondingTo);
+                return false;
+            }
+            return true;
+        }
+
+        PacketSchema schema =
+                chirp.getRegistry()
+                        .getPacketSchemaRegistry()
+                        .get(header.type.toUpperCase(Locale.ROOT));
+        if (schema != null && !schema.handled) {
+            dropStats(header.type).recordUnhandled(length);
+            ChirpLogger.debug("Ignoring " + header.type + ", no handler accepts it");
+            return false;
+        }
+        return true;
+    }
+
+    public PacketDropStats dropStats(String type) {
+        return dropStats.computeIfAbsent(type, PacketDropStats::new);
+    }
+
+    public void receive(PacketEnvelope envelope) {
+        ChirpPacketEvent<Object> event =
+                new ChirpPacketEvent<>(
+                        chirp,
+                        envelope.packetId,
+                        envelope.packet,
+                        envelope.origin,
+                        envelope.responding,
+                        envelope.respondingTo,
+                        envelope.self,
+                        envelope.sent,
+                        System.currentTimeMillis());
+
+        if (envelope.responding) {
+            eventDispatcher.dispatchEventToResponders(event);
+        } else {
+            eventDispatcher.dispatchEventToListeners(event);
+        }
+    }
+}
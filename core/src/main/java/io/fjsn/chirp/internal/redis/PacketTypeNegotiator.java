@@ -0,0 +1,193 @@
+package io.fjsn.chirp.internal.redis;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.internal.schema.PacketSchema;
+import io.fjsn.chirp.internal.util.ChirpLogger;
+
+import redis.clients.jedis.Jedis;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+public class PacketTypeNegotiator {
+
+    public static final long NODE_TTL_MILLIS = 30_000L;
+    private static final long HEARTBEAT_INTERVAL_MILLIS = NODE_TTL_MILLIS / 3;
+
+    // Ids are handed out per (type, fingerprint) pair, so a changed schema never reuses an id.
+    private static final String ASSIGN_SCRIPT =
+            "local id = redis.call('HGET', KEYS[1], ARGV[1]) "
+                    + "if id then return tonumber(id) end "
+                    + "id = redis.call('HINCRBY', KEYS[1], '#next', 1) - 1 "
+                    + "redis.call('HSET', KEYS[1], ARGV[1], id) "
+                    + "return id";
+
+    // Each node keeps its own type -> fingerprint hash alive for NODE_TTL_MILLIS and is listed
+    // in a sorted set by expiry. Ids whose fingerprint no live node still uses are removed, and
+    // the fingerprints of the other live nodes are returned for comparison. This runs before any
+    // id is assigned, so a node's own entries are never pruned while it is alive.
+    private static final String HEARTBEAT_SCRIPT =
+            "local time = redis.call('TIME') "
+                    + "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) "
+                    + "redis.call('DEL', KEYS[3]) "
+                    + "for i = 4, #ARGV, 2 do "
+                    + "redis.call('HSET', KEYS[3], ARGV[i], ARGV[i + 1]) "
+                    + "end "
+                    + "redis.call('PEXPIRE', KEYS[3], ARGV[2]) "
+                    + "redis.call('ZADD', KEYS[2], now + tonumber(ARGV[2]), ARGV[1]) "
+                    + "redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now) "
+                    + "local live = {} "
+                    + "local others = {} "
+                    + "for _, node in ipairs(redis.call('ZRANGE', KEYS[2], 0, -1)) do "
+                    + "local fields = redis.call('HGETALL', ARGV[3] .. node) "
+                    + "for i = 1, #fields, 2 do "
+                    + "local entry = fields[i] .. '#' .. fields[i + 1] "
+                    + "live[entry] = true "
+                    + "if node ~= ARGV[1] then others[#others + 1] = entry end "
+                    + "end "
+                    + "end "
+                    + "for _, entry in ipairs(redis.call('HKEYS', KEYS[1])) do "
+                    + "if entry ~= '#next' and not live[entry] then "
+                    + "redis.call('HDEL', KEYS[1], entry) "
+                    + "end "
+                    + "end "
+                    + "return others";
+
+    private final ChirpRegistry registry;
+    private final String key;
+    private final String nodesKey;
+    private final String nodeKeyPrefix;
+    private final String origin;
+
+    private Set<String> reportedMismatches = Set.of();
+    private Thread heartbeatThread;
+    private volatile boolean running = false;
+
+    public PacketTypeNegotiator(ChirpRegistry registry, String channel, String origin) {
+        this.registry = registry;
+        this.key = channel + ":packet-types";
+        this.nodesKey = key + ":nodes";
+        this.nodeKeyPrefix = key + ":node:";
+        this.origin = origin;
+    }
+
+    public synchronized void negotiate(Jedis jedis) {
+        long startTime = System.nanoTime();
+
+        Map<String, String> localFingerprints = new HashMap<>();
+        List<PacketSchema> schemas = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        args.add(origin);
+        args.add(Long.toString(NODE_TTL_MILLIS));
+        args.add(nodeKeyPrefix);
+
+        for (PacketSchema schema : registry.getPacketSchemaRegistry().values()) {
+            String type = ChirpRegistry.packetTypeName(schema.packetClass);
+            String fingerprint = registry.getPacketFingerprint(schema);
+            localFingerprints.put(type, fingerprint);
+            schemas.add(schema);
+            args.add(type);
+            args.add(fingerprint);
+        }
+
+        Object others =
+                jedis.eval(HEARTBEAT_SCRIPT, List.of(key, nodesKey, nodeKeyPrefix + origin), args);
+
+        // Ids are looked up again on every heartbeat so that a node whose entries were pruned
+        // while it was unreachable picks up the id the rest of the network now uses.
+        int assigned = 0;
+        for (PacketSchema schema : schemas) {
+            String type = ChirpRegistry.packetTypeName(schema.packetClass);
+            Object id = jedis.eval(ASSIGN_SCRIPT, 1, key, type + "#" + localFingerprints.get(type));
+            int typeId = ((Number) id).intValue();
+            if (schema.typeId == typeId) continue;
+
+            registry.assignPacketTypeId(schema, typeId);
+            assigned++;
+        }
+
+        Set<String> mismatches = new TreeSet<>();
+        if (others instanceof List<?> entries) {
+            for (Object entry : entries) {
+                String value = entry.toString();
+                int separator = value.lastIndexOf('#');
+                if (separator <= 0) continue;
+
+                String type = value.substring(0, separator);
+                String localFingerprint = localFingerprints.get(type);
+                if (localFingerprint != null
+                        && !localFingerprint.equals(value.substring(separator + 1))) {
+                    mismatches.add(type);
+                }
+            }
+        }
+
+        // Heartbeats repeat the comparison, so only a change in the mismatched types is logged.
+        if (!mismatches.isEmpty() && !mismatches.equals(reportedMismatches)) {
+            ChirpLogger.warning(
+                    "Packet schemas differ from ones used by other live nodes on "
+                            + key
+                            + ": "
+                            + mismatches
+                            + ". Nodes running the other versions of these packets cannot exchange"
+                            + " them with this node.");
+        }
+        reportedMismatches = mismatches;
+
+        long endTime = System.nanoTime();
+        ChirpLogger.debug(
+                "Negotiated "
+                        + assigned
+                        + " packet type ids in "
+                        + (endTime - startTime) / 1_000_000.0
+                        + "ms.");
+    }
+
+    public void setupHeartbeatThread(Supplier<Jedis> jedisSupplier) {
+        if (running) return;
+
+        running = true;
+        heartbeatThread =
+                new Thread(
+                        () -> {
+                            while (running && !Thread.currentThread().isInterrupted()) {
+                                try {
+                                    Thread.sleep(HEARTBEAT_INTERVAL_MILLIS);
+                                    try (Jedis jedis = jedisSupplier.get()) {
+                                        negotiate(jedis);
+                                    }
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                    break;
+                                } catch (Exception e) {
+                                    ChirpLogger.warning(
+                                            "Failed to refresh packet type ids: " + e.getMessage());
+                                }
+                            }
+                            ChirpLogger.debug("Packet type heartbeat thread stopped.");
+                        },
+                        "Chirp-PacketTypes");
+
+        heartbeatThread.setDaemon(true);
+        heartbeatThread.start();
+    }
+
+    // Removes this node from the live set so its fingerprints stop counting straight away
+    // instead of after NODE_TTL_MILLIS.
+    public void cleanup(Jedis jedis) {
+        running = false;
+        if (heartbeatThread != null) {
+            heartbeatThread.interrupt();
+            heartbeatThread = null;
+        }
+        if (jedis != null) {
+            jedis.zrem(nodesKey, origin);
+            jedis.del(nodeKeyPrefix + origin);
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package io.fjsn.chirp.internal.schema;
+
+import io.fjsn.chirp.internal.util.ChirpLogger;
+import io.fjsn.chirp.internal.util.GeneratedClasses;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+public class AccessorGenerator {
+
+    private static final int CLASS_FILE_VERSION = 61;
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+    private static final int ACC_SYNTHETIC = 0x1000;
+
+    private static final int ALOAD_0 = 0x2A;
+    private static final int ALOAD_1 = 0x2B;
+    private static final int ILOAD_2 = 0x1C;
+    private static final int LLOAD_2 = 0x20;
+    private static final int FLOAD_2 = 0x24;
+    private static final int DLOAD_2 = 0x28;
+    private static final int ALOAD_2 = 0x2C;
+    private static final int IRETURN = 0xAC;
+    private static final int LRETURN = 0xAD;
+    private static final int FRETURN = 0xAE;
+    private static final int DRETURN = 0xAF;
+    private static final int ARETURN = 0xB0;
+    private static final int RETURN = 0xB1;
+    private static final int GETFIELD = 0xB4;
+    private static final int PUTFIELD = 0xB5;
+    private static final int INVOKEVIRTUAL = 0xB6;
+    private static final int INVOKESPECIAL = 0xB7;
+    private static final int INVOKESTATIC = 0xB8;
+    private static final int CHECKCAST = 0xC0;
+
+    private static final String ACCESSOR_INTERFACE =
+            FieldAccessor.class.getName().replace('.', '/');
+
+    public static FieldAccessor fieldAccessor(Field field) {
+        GeneratedCodec generated = GeneratedClasses.codec(field.getDeclaringClass());
+        if (generated != null) {
+            FieldAccessor accessor = generated.accessor(field.getName());
+            if (accessor != null) return accessor;
+        }
+
+        int modifiers = field.getModifiers();
+        if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers)) {
+            return new ReflectiveFieldAccessor(field);
+        }
+
+        try {
+            MethodHandles.Lookup ownerLookup =
+                    MethodHandles.privateLookupIn(
+                            field.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandles.Lookup hiddenLookup =
+                    ownerLookup.defineHiddenClass(
+                            generateAccessorClass(field),
+                            true,
+                            MethodHandles.Lookup.ClassOption.NESTMATE);
+
+            // The generated class casts to the field type, so it must be able to see it.
+            hiddenLookup.accessClass(field.getType());
+
+            MethodHandle constructor =
+                    hiddenLookup.findConstructor(
+                            hiddenLookup.lookupClass(), MethodType.methodType(void.class));
+            return (FieldAccessor) constructor.invoke();
+        } catch (Throwable e) {
+            ChirpLogger.debug(
+                    "AccessorGenerator: Falling back to reflection for field "
+                            + field.getDeclaringClass().getName()
+                            + "#"
+                            + field.getName()
+                            + ": "
+                            + e);
+            return new ReflectiveFieldAccessor(field);
+        }
+    }
+
+    public static Instantiator instantiator(Constructor<?> constructor) {
+        if (constructor.getParameterCount() > 0) {
+            return new ConstructorInstantiator(constructor);
+        }
+
+        Class<?> owner = constructor.getDeclaringClass();
+        GeneratedCodec generated = GeneratedClasses.codec(owner);
+        if (generated != null) {
+            Instantiator instantiator = generated.instantiator();
+            if (instantiator != null) return instantiator;
+        }
+
+        try {
+            MethodHandles.Lookup ownerLookup =
+                    MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+            MethodHandle handle = ownerLookup.unreflectConstructor(constructor);
+            return (Instantiator)
+                    LambdaMetafactory.metafactory(
+                                    ownerLookup,
+                                    "newInstance",
+                                    MethodType.methodType(Instantiator.class),
+                                    MethodType.methodType(Object.class),
+                                    handle,
+                                    MethodType.methodType(owner))
+                            .getTarget()
+                            .invoke();
+        } catch (Throwable e) {
+            ChirpLogger.debug(
+                    "AccessorGenerator: Falling back to reflection for constructor of "
+                            + owner.getName()
+                            + ": "
+                            + e);
+            return new ReflectiveInstantiator(constructor);
+        }
+    }
+
+    private static byte[] generateAccessorClass(Field field) throws IOException {
+        Class<?> owner = field.getDeclaringClass();
+        Class<?> fieldType = field.getType();
+        String ownerName = internalName(owner);
+        String fieldDescriptor = fieldType.descriptorString();
+
+        ConstantPool pool = new ConstantPool();
+        int thisClass = pool.classRef(ownerName + "$$ChirpAccessor");
+        int superClass = pool.classRef("java/lang/Object");
+        int accessorInterface = pool.classRef(ACCESSOR_INTERFACE);
+        int objectInit = pool.methodRef("java/lang/Object", "<init>", "()V");
+        int fieldRef = pool.fieldRef(ownerName, field.getName(), fieldDescriptor);
+        int ownerClass = pool.classRef(ownerName);
+        int codeName = pool.utf8("Code");
+
+        ByteArrayOutputStream constructorCode = new ByteArrayOutputStream();
+        constructorCode.write(ALOAD_0);
+        writeInstruction(constructorCode, INVOKESPECIAL, objectInit);
+        constructorCode.write(RETURN);
+
+        ByteArrayOutputStream getCode = new ByteArrayOutputStream();
+        getCode.write(ALOAD_1);
+        writeInstruction(getCode, CHECKCAST, ownerClass);
+        writeInstruction(getCode, GETFIELD, fieldRef);
+        if (fieldType.isPrimitive()) {
+            Class<?> wrapper = wrapperType(fieldType);
+            writeInstruction(
+                    getCode,
+                    INVOKESTATIC,
+                    pool.methodRef(
+                            internalName(wrapper),
+                            "valueOf",
+                            "(" + fieldDescriptor + ")" + wrapper.descriptorString()));
+        }
+        getCode.write(ARETURN);
+
+        ByteArrayOutputStream setCode = new ByteArrayOutputStream();
+        setCode.write(ALOAD_1);
+        writeInstruction(setCode, CHECKCAST, ownerClass);
+        setCode.write(ALOAD_2);
+        if (fieldType.isPrimitive()) {
+            Class<?> wrapper = wrapperType(fieldType);
+            String wrapperName = internalName(wrapper);
+            writeInstruction(setCode, CHECKCAST, pool.classRef(wrapperName));
+            writeInstruction(
+                    setCode,
+                    INVOKEVIRTUAL,
+                    pool.methodRef(
+                            wrapperName, fieldType.getName() + "Value", "()" + fieldDescriptor));
+        } else {
+            writeInstruction(setCode, CHECKCAST, pool.classRef(internalName(fieldType)));
+        }
+        writeInstruction(setCode, PUTFIELD, fieldRef);
+        setCode.write(RETURN);
+
+        // Primitive fields also get an unboxed getX/setX pair overriding the FieldAccessor
+        // defaults.
+        ByteArrayOutputStream primitiveGetCode = new ByteArrayOutputStream();
+        ByteArrayOutputStream primitiveSetCode = new ByteArrayOutputStream();
+        int primitiveGetName = 0;
+        int primitiveGetDescriptor = 0;
+        int primitiveSetName = 0;
+        int primitiveSetDescriptor = 0;
+        if (fieldType.isPrimitive()) {
+            String suffix =
+                    Character.toUpperCase(fieldType.getName().charAt(0))
+                            + fieldType.getName().substring(1);
+            primitiveGetName = pool.utf8("get" + suffix);
+            primitiveGetDescriptor = pool.utf8("(Ljava/lang/Object;)" + fieldDescriptor);
+            primitiveSetName = pool.utf8("set" + suffix);
+            primitiveSetDescriptor = pool.utf8("(Ljava/lang/Object;" + fieldDescriptor + ")V");
+
+            primitiveGetCode.write(ALOAD_1);
+            writeInstruction(primitiveGetCode, CHECKCAST, ownerClass);
+            writeInstruction(primitiveGetCode, GETFIELD, fieldRef);
+            primitiveGetCode.write(returnOpcode(fieldType));
+
+            primitiveSetCode.write(ALOAD_1);
+            writeInstruction(primitiveSetCode, CHECKCAST, ownerClass);
+            primitiveSetCode.write(loadOpcode(fieldType));
+            writeInstruction(primitiveSetCode, PUTFIELD, fieldRef);
+            primitiveSetCode.write(RETURN);
+        }
+
+        int initName = pool.utf8("<init>");
+        int initDescriptor = pool.utf8("()V");
+        int getName = pool.utf8("get");
+        int getDescriptor = pool.utf8("(Ljava/lang/Object;)Ljava/lang/Object;");
+        int setName = pool.utf8("set");
+        int setDescriptor = pool.utf8("(Ljava/lang/Object;Ljava/lang/Object;)V");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(0xCAFEBABE);
+        out.writeShort(0);
+        out.writeShort(CLASS_FILE_VERSION);
+        pool.writeTo(out);
+        out.writeShort(ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC);
+        out.writeShort(thisClass);
+        out.writeShort(superClass);
+        out.writeShort(1);
+        out.writeShort(accessorInterface);
+        out.writeShort(0);
+
+        out.writeShort(fieldType.isPrimitive() ? 5 : 3);
+        writeMethod(out, initName, initDescriptor, codeName, 1, 1, constructorCode);
+        writeMethod(out, getName, getDescriptor, codeName, 2, 2, getCode);
+        writeMethod(out, setName, setDescriptor, codeName, 3, 3, setCode);
+        if (fieldType.isPrimitive()) {
+            int slots = fieldType == long.class || fieldType == double.class ? 2 : 1;
+            writeMethod(
+                    out,
+                    primitiveGetName,
+                    primitiveGetDescriptor,
+                    codeName,
+                    slots,
+                    2,
+                    primitiveGetCode);
+            writeMethod(
+                    out,
+                    primitiveSetName,
+                    primitiveSetDescriptor,
+                    codeName,
+                    1 + slots,
+                    2 + slots,
+                    primitiveSetCode);
+        }
+
+        out.writeShort(0);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static void writeMethod(
+            DataOutputStream out,
+            int name,
+            int descriptor,
+            int codeName,
+            int maxStack,
+            int maxLocals,
+            ByteArrayOutputStream code)
+            throws IOException {
+        out.writeShort(ACC_PUBLIC);
+        out.writeShort(name);
+        out.writeShort(descriptor);
+        out.writeShort(1);
+        out.writeShort(codeName);
+        out.writeInt(12 + code.size());
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(code.size());
+        code.writeTo(out);
+        out.writeShort(0);
+        out.writeShort(0);
+    }
+
+    private static void writeInstruction(ByteArrayOutputStream code, int opcode, int index) {
+        code.write(opcode);
+        code.write(index >>> 8);
+        code.write(index);
+    }
+
+    private static int returnOpcode(Class<?> primitive) {
+        if (primitive == long.class) return LRETURN;
+        if (primitive == float.class) return FRETURN;
+        if (primitive == double.class) return DRETURN;
+        return IRETURN;
+    }
+
+    private static int loadOpcode(Class<?> primitive) {
+        if (primitive == long.class) return LLOAD_2;
+        if (primitive == float.class) return FLOAD_2;
+        if (primitive == double.class) return DLOAD_2;
+        return ILOAD_2;
+    }
+
+    private static String internalName(Class<?> type) {
+        if (type.isArray()) return type.descriptorString();
+        return type.getName().replace('.', '/');
+    }
+
+    private static Class<?> wrapperType(Class<?> primitive) {
+        return MethodType.methodType(primitive).wrap().returnType();
+    }
+
+    private static final class ConstantPool {
+
+        private static final int UTF8 = 1;
+        private static final int CLASS = 7;
+        private static final int FIELD_REF = 9;
+        private static final int METHOD_REF = 10;
+        private static final int NAME_AND_TYPE = 12;
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private final Map<String, Integer> entries = new HashMap<>();
+        private int count = 1;
+
+        int utf8(String value) throws IOException {
+            Integer existing = entries.get("U" + value);
+            if (existing != null) return existing;
+            out.writeByte(UTF8);
+            out.writeUTF(value);
+            return register("U" + value);
+        }
+
+        int classRef(String internalName) throws IOException {
+            Integer existing = entries.get("C" + internalName);
+            if (existing != null) return existing;
+            int name = utf8(internalName);
+            out.writeByte(CLASS);
+            out.writeShort(name);
+            return register("C" + internalName);
+        }
+
+        int fieldRef(String owner, String name, String descriptor) throws IOException {
+            return memberRef(FIELD_REF, owner, name, descriptor);
+        }
+
+        int methodRef(String owner, String name, String descriptor) throws IOException {
+            return memberRef(METHOD_REF, owner, name, descriptor);
+        }
+
+        private int memberRef(int tag, String owner, String name, String descriptor)
+                throws IOException {
+            String key = tag + owner + "." + name + ":" + descriptor;
+            Integer existing = entries.get(key);
+            if (existing != null) return existing;
+            int ownerIndex = classRef(owner);
+            int nameAndType = nameAndType(name, descriptor);
+            out.writeByte(tag);
+            out.writeShort(ownerIndex);
+            out.writeShort(nameAndType);
+            return register(key);
+        }
+
+        private int nameAndType(String name, String descriptor) throws IOException {
+            String key = "N" + name + ":" + descriptor;
+            Integer existing = entries.get(key);
+            if (existing != null) return existing;
+            int nameIndex = utf8(name);
+            int descriptorIndex = utf8(descriptor);
+            out.writeByte(NAME_AND_TYPE);
+            out.writeShort(nameIndex);
+            out.writeShort(descriptorIndex);
+            return register(key);
+        }
+
+        private int register(String key) {
+            int index = count++;
+            entries.put(key, index);
+            return index;
+        }
+
+        void writeTo(DataOutputStream target) throws IOException {
+            out.flush();
+            target.writeShort(count);
+            bytes.writeTo(target);
+        }
+    }
+}
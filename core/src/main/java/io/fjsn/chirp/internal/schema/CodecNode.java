@@ -0,0 +1,74 @@
+package io.fjsn.chirp.internal.schema;
+
+import io.fjsn.chirp.converter.BinaryFieldConverter;
+import io.fjsn.chirp.converter.FieldCodec;
+import io.fjsn.chirp.converter.FieldConverter;
+import io.fjsn.chirp.converter.JsonStreamConverter;
+
+import java.lang.reflect.Type;
+
+public class CodecNode implements FieldCodec {
+    public final Type type;
+    public final boolean objectType;
+    public final FieldConverter<Object> converter;
+    public final BinaryFieldConverter<Object> binaryConverter;
+    public final JsonStreamConverter<Object> streamConverter;
+    public final CompositeConverter<Object> compositeConverter;
+    public final PrimitiveConverter primitiveConverter;
+    public final ObjectSchema objectSchema;
+    public final PolymorphicSchema polymorphicSchema;
+    public final CodecNode[] arguments;
+
+    @SuppressWarnings("unchecked")
+    public CodecNode(
+            Type type,
+            boolean objectType,
+            FieldConverter<?> converter,
+            ObjectSchema objectSchema,
+            PolymorphicSchema polymorphicSchema,
+            CodecNode[] arguments) {
+        this.type = type;
+        this.objectType = objectType;
+        this.converter = (FieldConverter<Object>) converter;
+        this.binaryConverter =
+                converter instanceof BinaryFieldConverter<?> binary
+                        ? (BinaryFieldConverter<Object>) binary
+                        : null;
+        this.streamConverter =
+                converter instanceof JsonStreamConverter<?> stream
+                        ? (JsonStreamConverter<Object>) stream
+                        : null;
+        this.compositeConverter =
+                converter instanceof CompositeConverter<?> composite
+                        ? (CompositeConverter<Object>) composite
+                        : null;
+        this.primitiveConverter =
+                type instanceof Class<?> cls
+                                && cls.isPrimitive()
+                                && converter instanceof PrimitiveConverter primitive
+                        ? primitive
+                        : null;
+        this.objectSchema = objectSchema;
+        this.polymorphicSchema = polymorphicSchema;
+        this.arguments = arguments;
+    }
+
+    @Override
+    public Type type() {
+        return type;
+    }
+
+    @Override
+    public int argumentCount() {
+        return arguments.length;
+    }
+
+    @Override
+    public CodecNode argument(int index) {
+        return arguments[index];
+    }
+
+    public boolean isResolved() {
+        return converter != null || objectSchema != null || polymorphicSchema != null;
+    }
+}
@@ -0,0 +1,27 @@
+package io.fjsn.chirp.internal.schema;
+
+import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.converter.BinaryReader;
+import io.fjsn.chirp.converter.BinaryWriter;
+
+import java.io.IOException;
+
+public interface CompositeConverter<T> {
+
+    JsonElement serialize(T value, CodecNode node, ChirpRegistry registry);
+
+    T deserialize(JsonElement json, CodecNode node, ChirpRegistry registry);
+
+    void write(T value, CodecNode node, BinaryWriter writer, ChirpRegistry registry);
+
+    T read(BinaryReader reader, CodecNode node, ChirpRegistry registry);
+
+    void write(T value, CodecNode node, JsonWriter writer, ChirpRegistry registry)
+            throws IOException;
+
+    T read(JsonReader reader, CodecNode node, ChirpRegistry registry) throws IOException;
+}
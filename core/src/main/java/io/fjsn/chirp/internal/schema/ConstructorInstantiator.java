@@ -0,0 +1,70 @@
+package io.fjsn.chirp.internal.schema;
+
+import io.fjsn.chirp.internal.util.ChirpLogger;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+
+// Hands out an Object[] to decode into, then builds the instance with one constructor call.
+public class ConstructorInstantiator implements Instantiator {
+
+    private final Constructor<?> constructor;
+    private final MethodHandle handle;
+    private final Object[] defaults;
+
+    public ConstructorInstantiator(Constructor<?> constructor) {
+        this.constructor = constructor;
+        this.handle = spreader(constructor);
+
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        this.defaults = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (parameterTypes[i].isPrimitive()) {
+                defaults[i] = Array.get(Array.newInstance(parameterTypes[i], 1), 0);
+            }
+        }
+    }
+
+    private static MethodHandle spreader(Constructor<?> constructor) {
+        try {
+            MethodHandles.Lookup lookup =
+                    MethodHandles.privateLookupIn(
+                            constructor.getDeclaringClass(), MethodHandles.lookup());
+            return lookup.unreflectConstructor(constructor)
+                    .asSpreader(Object[].class, constructor.getParameterCount())
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            ChirpLogger.debug(
+                    "ConstructorInstantiator: Falling back to reflection for constructor of "
+                            + constructor.getDeclaringClass().getName()
+                            + ": "
+                            + e);
+            constructor.setAccessible(true);
+            return null;
+        }
+    }
+
+    @Override
+    public Object newInstance() {
+        return defaults.clone();
+    }
+
+    @Override
+    public Object complete(Object instance) {
+        Object[] values = (Object[]) instance;
+        try {
+            if (handle != null) return handle.invokeExact(values);
+            return constructor.newInstance(values);
+        } catch (Throwable e) {
+            throw new RuntimeException(
+                    "Failed to construct "
+                            + constructor.getDeclaringClass().getName()
+                            + ": "
+                            + e.getMessage(),
+                    e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.fjsn.chirp.internal.schema;
+
+public interface FieldAccessor {
+
+    Object get(Object instance);
+
+    void set(Object instance, Object value);
+
+    default boolean getBoolean(Object instance) {
+        return (Boolean) get(instance);
+    }
+
+    default void setBoolean(Object instance, boolean value) {
+        set(instance, value);
+    }
+
+    default byte getByte(Object instance) {
+        return (Byte) get(instance);
+    }
+
+    default void setByte(Object instance, byte value) {
+        set(instance, value);
+    }
+
+    default short getShort(Object instance) {
+        return (Short) get(instance);
+    }
+
+    default void setShort(Object instance, short value) {
+        set(instance, value);
+    }
+
+    default char getChar(Object instance) {
+        return (Character) get(instance);
+    }
+
+    default void setChar(Object instance, char value) {
+        set(instance, value);
+    }
+
+    default int getInt(Object instance) {
+        return (Integer) get(instance);
+    }
+
+    default void setInt(Object instance, int value) {
+        set(instance, value);
+    }
+
+    default long getLong(Object instance) {
+        return (Long) get(instance);
+    }
+
+    default void setLong(Object instance, long value) {
+        set(instance, value);
+    }
+
+    default float getFloat(Object instance) {
+        return (Float) get(instance);
+    }
+
+    default void setFloat(Object instance, float value) {
+        set(instance, value);
+    }
+
+    default double getDouble(Object instance) {
+        return (Double) get(instance);
+    }
+
+    default void setDouble(Object instance, double value) {
+        set(instance, value);
+    }
+}
@@ -0,0 +1,77 @@
+package io.fjsn.chirp.internal.schema;
+
+import io.fjsn.chirp.annotation.ChirpField;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.List;
+
+public class FieldSchema {
+
+    public static final int MAX_TAG = 4095;
+
+    public final Field field;
+    public final String fieldName;
+    public final Type genericType;
+    public final Class<?> rawType;
+    public final FieldAccessor accessor;
+    public final int tag;
+    public volatile CodecNode codec;
+
+    public FieldSchema(Field field) {
+        this(field, -1);
+    }
+
+    public FieldSchema(Field field, int slot) {
+        this.field = field;
+        this.fieldName = field.getName();
+        this.genericType = field.getGenericType();
+        this.rawType = field.getType();
+        field.setAccessible(true);
+        FieldAccessor getter = AccessorGenerator.fieldAccessor(field);
+        this.accessor = slot < 0 ? getter : new SlotFieldAccessor(getter, slot);
+        ChirpField annotation = field.getAnnotation(ChirpField.class);
+        this.tag = annotation == null ? 0 : annotation.tag();
+    }
+
+    // Maps each tag to its field's index plus one, or returns null when the fields are untagged.
+    static int[] indexByTag(Class<?> owner, List<FieldSchema> fields) {
+        int tagged = 0;
+        int maxTag = 0;
+        for (FieldSchema fieldSchema : fields) {
+            if (fieldSchema.tag == 0) continue;
+            if (fieldSchema.tag < 0 || fieldSchema.tag > MAX_TAG) {
+                throw new IllegalArgumentException(
+                        "Field "
+                                + fieldSchema.fieldName
+                                + " of "
+                                + owner.getName()
+                                + " has tag "
+                                + fieldSchema.tag
+                                + ", tags must be between 1 and "
+                                + MAX_TAG);
+            }
+            tagged++;
+            maxTag = Math.max(maxTag, fieldSchema.tag);
+        }
+
+        if (tagged == 0) return null;
+        if (tagged != fields.size()) {
+            throw new IllegalArgumentException(
+                    "Either all or none of the @ChirpField fields of "
+                            + owner.getName()
+                            + " must have a tag");
+        }
+
+        int[] indexByTag = new int[maxTag + 1];
+        for (int i = 0; i < fields.size(); i++) {
+            int tag = fields.get(i).tag;
+            if (indexByTag[tag] != 0) {
+                throw new IllegalArgumentException(
+                        "Tag " + tag + " is used by more than one field of " + owner.getName());
+            }
+            indexByTag[tag] = i + 1;
+        }
+        return indexByTag;
+    }
+}
@@ -0,0 +1,10 @@
+package io.fjsn.chirp.internal.schema;
+
+// Implemented by the <Class>$ChirpCodec classes chirp-processor generates. Either method returns
+// null for members the generated code cannot reach, such as private fields.
+public interface GeneratedCodec {
+
+    Instantiator instantiator();
+
+    FieldAccessor accessor(String fieldName);
+}
@@ -0,0 +1,9 @@
+package io.fjsn.chirp.internal.schema;
+
+public interface Instantiator {
+    Object newInstance();
+
+    default Object complete(Object instance) {
+        return instance;
+    }
+}
@@ -0,0 +1,21 @@
+package io.fjsn.chirp.internal.schema;
+
+import java.lang.reflect.Constructor;
+import java.util.List;
+
+public class ObjectSchema {
+    public final Class<?> objectClass;
+    public final Constructor<?> constructor;
+    public final Instantiator instantiator;
+    public final List<FieldSchema> fields;
+    public final int[] indexByTag;
+
+    public ObjectSchema(
+            Class<?> objectClass, Constructor<?> constructor, List<FieldSchema> fields) {
+        this.objectClass = objectClass;
+        this.constructor = constructor;
+        this.instantiator = AccessorGenerator.instantiator(constructor);
+        this.fields = fields;
+        this.indexByTag = FieldSchema.indexByTag(objectClass, fields);
+    }
+}
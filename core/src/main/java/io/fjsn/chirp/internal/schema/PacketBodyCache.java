@@ -0,0 +1,55 @@
+package io.fjsn.chirp.internal.schema;
+
+import io.fjsn.chirp.PacketCacheStats;
+
+import java.util.function.Function;
+
+// The encoded body of an immutable packet is kept for the last version published, so
+// republishing it only writes the envelope. Packets whose version is null are always encoded.
+public class PacketBodyCache {
+
+    private record Entry<T>(Object version, T body) {}
+
+    private final FieldSchema versionField;
+    private final PacketCacheStats stats;
+
+    private volatile Entry<String> json;
+    private volatile Entry<byte[]> binary;
+
+    public PacketBodyCache(String type, FieldSchema versionField) {
+        this.versionField = versionField;
+        this.stats = new PacketCacheStats(type);
+    }
+
+    public PacketCacheStats getStats() {
+        return stats;
+    }
+
+    public String json(Object packet, Function<Object, String> encoder) {
+        Object version = versionField.accessor.get(packet);
+        Entry<String> entry = json;
+        if (version != null && entry != null && version.equals(entry.version)) {
+            stats.recordHit();
+            return entry.body;
+        }
+
+        stats.recordMiss();
+        String body = encoder.apply(packet);
+        if (version != null) json = new Entry<>(version, body);
+        return body;
+    }
+
+    public byte[] binary(Object packet, Function<Object, byte[]> encoder) {
+        Object version = versionField.accessor.get(packet);
+        Entry<byte[]> entry = binary;
+        if (version != null && entry != null && version.equals(entry.version)) {
+            stats.recordHit();
+            return entry.body;
+        }
+
+        stats.recordMiss();
+        byte[] body = encoder.apply(packet);
+        if (version != null) binary = new Entry<>(version, body);
+        return body;
+    }
+}
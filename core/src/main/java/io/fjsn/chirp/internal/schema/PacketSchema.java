@@ -0,0 +1,49 @@
+package io.fjsn.chirp.internal.schema;
+
+import java.lang.reflect.Constructor;
+import java.util.List;
+
+public class PacketSchema {
+    public final Class<?> packetClass;
+    public final Constructor<?> constructor;
+    public final Instantiator instantiator;
+    public final List<FieldSchema> fields;
+    public final int[] indexByTag;
+    public final int keyIndex;
+    public final int snapshotInterval;
+    public final PacketBodyCache bodyCache;
+    public volatile int typeId = -1;
+
+    // Whether any local handler accepts this packet, and the fields those handlers read, or null
+    // when the whole packet has to be decoded. Listeners are never removed, so both only widen.
+    public volatile boolean handled;
+    public volatile boolean[] projection;
+
+    public PacketSchema(
+            Class<?> packetClass,
+            Constructor<?> constructor,
+            List<FieldSchema> fields,
+            int keyIndex,
+            int snapshotInterval,
+            PacketBodyCache bodyCache) {
+        this.packetClass = packetClass;
+        this.constructor = constructor;
+        this.instantiator = AccessorGenerator.instantiator(constructor);
+        this.fields = fields;
+        this.indexByTag = FieldSchema.indexByTag(packetClass, fields);
+        this.keyIndex = keyIndex;
+        this.snapshotInterval = snapshotInterval;
+        this.bodyCache = bodyCache;
+    }
+
+    public int fieldIndex(String fieldName) {
+        for (int i = 0; i < fields.size(); i++) {
+            if (fields.get(i).fieldName.equals(fieldName)) return i;
+        }
+        return -1;
+    }
+
+    public boolean isKeyed() {
+        return keyIndex >= 0;
+    }
+}
@@ -0,0 +1,50 @@
+package io.fjsn.chirp.internal.schema;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Values of a sealed or abstract type are written as the index of their concrete class in the
+// subtype list followed by that subtype's fields, so both sides must agree on the list's order.
+public class PolymorphicSchema {
+    public final Class<?> baseClass;
+    public final ObjectSchema[] subtypes;
+
+    private final Map<Class<?>, Integer> indexByClass;
+
+    public PolymorphicSchema(Class<?> baseClass, List<ObjectSchema> subtypes) {
+        this.baseClass = baseClass;
+        this.subtypes = subtypes.toArray(new ObjectSchema[0]);
+        this.indexByClass = new IdentityHashMap<>();
+        for (int i = 0; i < this.subtypes.length; i++) {
+            indexByClass.put(this.subtypes[i].objectClass, i);
+        }
+    }
+
+    public int indexOf(Class<?> subtype) {
+        Integer index = indexByClass.get(subtype);
+        if (index == null) {
+            throw new IllegalArgumentException(
+                    subtype.getName()
+                            + " is not a registered subtype of "
+                            + baseClass.getName()
+                            + ". Seal "
+                            + baseClass.getSimpleName()
+                            + " or register its subtypes with registerSubtypes.");
+        }
+        return index;
+    }
+
+    public ObjectSchema subtype(int index) {
+        if (index < 0 || index >= subtypes.length) {
+            throw new IllegalArgumentException(
+                    "Unknown subtype index "
+                            + index
+                            + " for "
+                            + baseClass.getName()
+                            + ". The sender's schema does not match the subtypes registered on"
+                            + " this node.");
+        }
+        return subtypes[index];
+    }
+}
@@ -0,0 +1,20 @@
+package io.fjsn.chirp.internal.schema;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import io.fjsn.chirp.converter.BinaryReader;
+import io.fjsn.chirp.converter.BinaryWriter;
+
+import java.io.IOException;
+
+public interface PrimitiveConverter {
+
+    void writeField(Object instance, FieldAccessor accessor, BinaryWriter writer);
+
+    void readField(Object instance, FieldAccessor accessor, BinaryReader reader);
+
+    void writeField(Object instance, FieldAccessor accessor, JsonWriter writer) throws IOException;
+
+    void readField(Object instance, FieldAccessor accessor, JsonReader reader) throws IOException;
+}
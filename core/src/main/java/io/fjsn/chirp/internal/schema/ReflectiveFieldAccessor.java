@@ -0,0 +1,33 @@
+package io.fjsn.chirp.internal.schema;
+
+import java.lang.reflect.Field;
+
+public class ReflectiveFieldAccessor implements FieldAccessor {
+
+    private final Field field;
+
+    public ReflectiveFieldAccessor(Field field) {
+        this.field = field;
+        field.setAccessible(true);
+    }
+
+    @Override
+    public Object get(Object instance) {
+        try {
+            return field.get(instance);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(
+                    "Failed to access field '" + field.getName() + "': " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void set(Object instance, Object value) {
+        try {
+            field.set(instance, value);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(
+                    "Failed to set field '" + field.getName() + "': " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.fjsn.chirp.internal.schema;
+
+import java.lang.reflect.Constructor;
+
+public class ReflectiveInstantiator implements Instantiator {
+
+    private final Constructor<?> constructor;
+
+    public ReflectiveInstantiator(Constructor<?> constructor) {
+        this.constructor = constructor;
+        constructor.setAccessible(true);
+    }
+
+    @Override
+    public Object newInstance() {
+        try {
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(
+                    "Failed to instantiate "
+                            + constructor.getDeclaringClass().getName()
+                            + ": "
+                            + e.getMessage(),
+                    e);
+        }
+    }
+}
@@ -0,0 +1,693 @@
+package io.fjsn.chirp.internal.schema;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.annotation.ChirpField;
+import io.fjsn.chirp.annotation.ChirpPacket;
+import io.fjsn.chirp.converter.FieldConverter;
+import io.fjsn.chirp.converter.impl.EnumConverter;
+import io.fjsn.chirp.internal.util.ChirpLogger;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SchemaGenerator {
+
+    private final Map<String, FieldConverter<?>> converterRegistry;
+    private final Map<String, PacketSchema> packetSchemaRegistry;
+    private final Map<String, ObjectSchema> objectSchemaRegistry;
+    private final Map<Class<?>, List<Class<?>>> subtypeRegistry;
+
+    private final ConcurrentHashMap<String, Boolean> inProgressSchemas;
+
+    // Bumped every time field codecs are relinked, so anything derived from them can be rebuilt.
+    private final AtomicInteger codecGeneration = new AtomicInteger();
+
+    public SchemaGenerator(
+            Map<String, FieldConverter<?>> converterRegistry,
+            Map<String, PacketSchema> packetSchemaRegistry,
+            Map<String, ObjectSchema> objectSchemaRegistry,
+            Map<Class<?>, List<Class<?>>> subtypeRegistry,
+            ConcurrentHashMap<String, Boolean> inProgressSchemas) {
+        this.converterRegistry = converterRegistry;
+        this.packetSchemaRegistry = packetSchemaRegistry;
+        this.objectSchemaRegistry = objectSchemaRegistry;
+        this.subtypeRegistry = subtypeRegistry;
+        this.inProgressSchemas = inProgressSchemas;
+    }
+
+    private boolean needsObjectSchema(Class<?> clazz) {
+        if (clazz == null
+                || clazz.isPrimitive()
+                || clazz.isArray()
+                || clazz.isInterface()
+                || Modifier.isAbstract(clazz.getModifiers())
+                || clazz.getName().startsWith("java.lang")
+                || clazz.isEnum()) {
+            return false;
+        }
+
+        return !converterRegistry.containsKey(ChirpRegistry.normalizeTypeName(clazz));
+    }
+
+    // Concrete subtypes of a sealed or abstract type in discriminator order, or null if values of
+    // the type are not written polymorphically. Sealed hierarchies are flattened in the order of
+    // their permits clauses.
+    private List<Class<?>> subtypes(Class<?> clazz) {
+        if (clazz == null
+                || clazz.isPrimitive()
+                || clazz.isArray()
+                || clazz.isEnum()
+                || (!clazz.isInterface() && !Modifier.isAbstract(clazz.getModifiers()))
+                || converterRegistry.containsKey(ChirpRegistry.normalizeTypeName(clazz))) {
+            return null;
+        }
+
+        List<Class<?>> registered = subtypeRegistry.get(clazz);
+        if (registered != null) return registered;
+        if (!clazz.isSealed()) return null;
+
+        Set<Class<?>> subtypes = new LinkedHashSet<>();
+        for (Class<?> permitted : clazz.getPermittedSubclasses()) {
+            List<Class<?>> nested = subtypes(permitted);
+            if (nested != null) {
+                subtypes.addAll(nested);
+            } else if (permitted.isInterface() || Modifier.isAbstract(permitted.getModifiers())) {
+                throw new IllegalArgumentException(
+                        "Permitted subtype "
+                                + permitted.getName()
+                                + " of "
+                                + clazz.getName()
+                                + " is neither concrete, sealed nor given registered subtypes.");
+            } else {
+                subtypes.add(permitted);
+            }
+        }
+        return List.copyOf(subtypes);
+    }
+
+    private void collectNestedTypes(Type type, Set<Class<?>> nestedTypes) {
+        if (type instanceof ParameterizedType pt) {
+            for (Type argType : pt.getActualTypeArguments()) {
+                collectNestedTypes(argType, nestedTypes);
+            }
+        } else if (type instanceof Class<?> actualClass && needsObjectSchema(actualClass)) {
+            nestedTypes.add(actualClass);
+        } else if (type instanceof Class<?> actualClass) {
+            List<Class<?>> subtypes = subtypes(actualClass);
+            if (subtypes != null) nestedTypes.addAll(subtypes);
+        }
+    }
+
+    private List<Field> chirpFields(Class<?> clazz) {
+        List<Field> fields = new ArrayList<>();
+        if (clazz.isRecord()) {
+            try {
+                for (RecordComponent component : clazz.getRecordComponents()) {
+                    fields.add(clazz.getDeclaredField(component.getName()));
+                }
+            } catch (NoSuchFieldException e) {
+                throw new IllegalStateException(
+                        "Record " + clazz.getName() + " has no field for a component", e);
+            }
+            return fields;
+        }
+
+        for (Field field : clazz.getDeclaredFields()) {
+            if (field.isAnnotationPresent(ChirpField.class)) fields.add(field);
+        }
+        return fields;
+    }
+
+    private static int keyIndex(Class<?> packetClass, List<Field> fields) {
+        int keyIndex = -1;
+        for (int i = 0; i < fields.size(); i++) {
+            ChirpField annotation = fields.get(i).getAnnotation(ChirpField.class);
+            if (annotation == null || !annotation.key()) continue;
+            if (keyIndex >= 0) {
+                throw new IllegalArgumentException(
+                        "Packet class "
+                                + packetClass.getName()
+                                + " can only have one @ChirpField(key = true)");
+            }
+            if (fields.get(i).getType().isPrimitive()) {
+                throw new IllegalArgumentException(
+                        "Key field "
+                                + fields.get(i).getName()
+                                + " of "
+                                + packetClass.getName()
+                                + " must not be a primitive");
+            }
+            keyIndex = i;
+        }
+        return keyIndex;
+    }
+
+    private static PacketBodyCache bodyCache(
+            Class<?> packetClass, List<Field> fields, List<FieldSchema> fieldSchemas) {
+        boolean immutable = packetClass.getAnnotation(ChirpPacket.class).immutable();
+        FieldSchema versionField = null;
+        for (int i = 0; i < fields.size(); i++) {
+            ChirpField annotation = fields.get(i).getAnnotation(ChirpField.class);
+            if (annotation == null || !annotation.version()) continue;
+            if (!immutable) {
+                throw new IllegalArgumentException(
+                        "@ChirpField(version = true) on "
+                                + packetClass.getName()
+                                + " requires @ChirpPacket(immutable = true)");
+            }
+            if (versionField != null) {
+                throw new IllegalArgumentException(
+                        "Packet class "
+                                + packetClass.getName()
+                                + " can only have one @ChirpField(version = true)");
+            }
+            versionField = fieldSchemas.get(i);
+        }
+        // Without a version there is no way to tell that a republished instance was changed.
+        if (immutable && versionField == null) {
+            throw new IllegalArgumentException(
+                    "@ChirpPacket(immutable = true) on "
+                            + packetClass.getName()
+                            + " requires a @ChirpField(version = true)");
+        }
+        return immutable
+                ? new PacketBodyCache(ChirpRegistry.packetTypeName(packetClass), versionField)
+                : null;
+    }
+
+    // Records use their canonical constructor, and other classes may opt in by annotating every
+    // parameter of a constructor with @ChirpField; anything else is filled in field by field.
+    private Constructor<?> findConstructor(Class<?> clazz) throws NoSuchMethodException {
+        if (clazz.isRecord()) {
+            RecordComponent[] components = clazz.getRecordComponents();
+            Class<?>[] parameterTypes = new Class<?>[components.length];
+            for (int i = 0; i < components.length; i++) {
+                parameterTypes[i] = components[i].getType();
+            }
+            return clazz.getDeclaredConstructor(parameterTypes);
+        }
+
+        for (Constructor<?> constructor : clazz.getDeclaredConstructors()) {
+            if (constructor.getParameterCount() == 0) continue;
+
+            boolean annotated = true;
+            for (Parameter parameter : constructor.getParameters()) {
+                annotated &= parameter.isAnnotationPresent(ChirpField.class);
+            }
+            if (annotated) return constructor;
+        }
+
+        return clazz.getDeclaredConstructor();
+    }
+
+    private int[] constructorSlots(Class<?> clazz, Constructor<?> constructor, List<Field> fields) {
+        int[] slots = new int[fields.size()];
+        if (constructor.getParameterCount() == 0) {
+            Arrays.fill(slots, -1);
+            return slots;
+        }
+
+        Parameter[] parameters = constructor.getParameters();
+        if (parameters.length != fields.size()) {
+            throw new IllegalArgumentException(
+                    "Constructor of "
+                            + clazz.getName()
+                            + " takes "
+                            + parameters.length
+                            + " values but the class declares "
+                            + fields.size()
+                            + " @ChirpField fields.");
+        }
+
+        // Without -parameters, constructor parameters follow the field declaration order.
+        boolean byName = !clazz.isRecord() && parameters[0].isNamePresent();
+        for (int i = 0; i < fields.size(); i++) {
+            Field field = fields.get(i);
+            int slot = byName ? -1 : i;
+            for (int j = 0; byName && j < parameters.length; j++) {
+                if (parameters[j].getName().equals(field.getName())) slot = j;
+            }
+
+            if (slot < 0 || parameters[slot].getType() != field.getType()) {
+                throw new IllegalArgumentException(
+                        "Constructor of "
+                                + clazz.getName()
+                                + " has no parameter matching @ChirpField "
+                                + field.getName()
+                                + ".");
+            }
+            slots[i] = slot;
+        }
+        return slots;
+    }
+
+    // Codecs are only linked once every nested schema exists, so callers registering many classes
+    // pass link = false and call linkCodecs() once at the end.
+    public void registerObjectSchema(Class<?> objectClass, boolean link) {
+        long startTime = System.nanoTime();
+
+        if (objectClass.isEnum()) {
+            String enumTypeKey = ChirpRegistry.normalizeTypeName(objectClass);
+            if (!converterRegistry.containsKey(enumTypeKey)) {
+                ChirpLogger.debug(
+                        "SchemaGenerator: Registering EnumConverter for top-level enum class: "
+                                + objectClass.getName());
+                FieldConverter<?> enumConverter = new EnumConverter();
+                converterRegistry.put(enumTypeKey, enumConverter);
+            }
+            return;
+        }
+
+        if (!needsObjectSchema(objectClass)) {
+            return;
+        }
+
+        String typeKey = ChirpRegistry.normalizeTypeName(objectClass);
+
+        if (objectSchemaRegistry.containsKey(typeKey)) {
+            return;
+        }
+
+        if (inProgressSchemas.putIfAbsent(typeKey, Boolean.TRUE) != null) {
+            return;
+        }
+
+        try {
+            List<Field> fields = chirpFields(objectClass);
+            Constructor<?> constructor = findConstructor(objectClass);
+            constructor.setAccessible(true);
+            int[] slots = constructorSlots(objectClass, constructor, fields);
+
+            List<FieldSchema> fieldSchemas = new ArrayList<>();
+            Set<Class<?>> nestedTypesToScan = new HashSet<>();
+
+            for (int i = 0; i < fields.size(); i++) {
+                FieldSchema fs = new FieldSchema(fields.get(i), slots[i]);
+                fieldSchemas.add(fs);
+
+                Class<?> fieldRawType = fs.rawType;
+                String fieldRawTypeName = ChirpRegistry.normalizeTypeName(fieldRawType);
+
+                if (fieldRawType.isEnum()) {
+                    if (!converterRegistry.containsKey(fieldRawTypeName)) {
+                        ChirpLogger.debug(
+                                "SchemaGenerator: Registering EnumConverter for field enum: "
+                                        + fieldRawType.getName());
+                        FieldConverter<?> enumConverter = new EnumConverter();
+                        converterRegistry.put(fieldRawTypeName, enumConverter);
+                    }
+                    continue;
+                }
+
+                collectNestedTypes(fs.genericType, nestedTypesToScan);
+            }
+
+            ObjectSchema schema =
+                    new ObjectSchema(
+                            objectClass, constructor, Collections.unmodifiableList(fieldSchemas));
+
+            objectSchemaRegistry.put(typeKey, schema);
+            long endTime = System.nanoTime();
+            ChirpLogger.debug(
+                    "SchemaGenerator: Successfully registered ObjectSchema for "
+                            + objectClass.getName()
+                            + " in "
+                            + (endTime - startTime) / 1_000_000.0
+                            + "ms.");
+
+            for (Class<?> nestedType : nestedTypesToScan) {
+                registerObjectSchema(nestedType, false);
+            }
+
+            if (link) linkCodecs();
+        } catch (NoSuchMethodException e) {
+            inProgressSchemas.remove(typeKey);
+            ChirpLogger.severe(
+                    "SchemaGenerator: Failed to register schema for "
+                            + objectClass.getName()
+                            + ": No no-argument constructor found. "
+                            + e.getMessage());
+            throw new IllegalArgumentException(
+                    "Object class "
+                            + objectClass.getName()
+                            + " must have a no-argument constructor, be a record or have a"
+                            + " constructor taking its @ChirpField values to have a schema"
+                            + " generated.",
+                    e);
+        } catch (Exception e) {
+            inProgressSchemas.remove(typeKey);
+            ChirpLogger.severe(
+                    "SchemaGenerator: Failed to register schema for "
+                            + objectClass.getName()
+                            + ": "
+                            + e.getMessage());
+            throw new RuntimeException(
+                    "Failed to generate object schema for "
+                            + objectClass.getName()
+                            + ": "
+                            + e.getMessage(),
+                    e);
+        } finally {
+            inProgressSchemas.remove(typeKey);
+        }
+    }
+
+    public void registerSubtypes(Class<?> baseClass, List<Class<?>> subtypes) {
+        if (baseClass == null) {
+            throw new IllegalArgumentException("Base class cannot be null");
+        }
+
+        if (!baseClass.isInterface() && !Modifier.isAbstract(baseClass.getModifiers())) {
+            throw new IllegalArgumentException(
+                    "Subtypes can only be registered for interfaces and abstract classes, not "
+                            + baseClass.getName());
+        }
+
+        if (subtypes.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "At least one subtype of " + baseClass.getName() + " must be registered");
+        }
+
+        for (Class<?> subtype : subtypes) {
+            if (subtype == null
+                    || subtype == baseClass
+                    || !baseClass.isAssignableFrom(subtype)
+                    || !needsObjectSchema(subtype)) {
+                throw new IllegalArgumentException(
+                        (subtype == null ? "null" : subtype.getName())
+                                + " is not a concrete subtype of "
+                                + baseClass.getName());
+            }
+        }
+
+        List<Class<?>> existing = subtypeRegistry.putIfAbsent(baseClass, List.copyOf(subtypes));
+        if (existing != null) {
+            throw new IllegalArgumentException(
+                    "Subtypes of " + baseClass.getName() + " are already registered");
+        }
+
+        for (Class<?> subtype : subtypes) {
+            registerObjectSchema(subtype, false);
+        }
+        linkCodecs();
+    }
+
+    public void registerPacket(Class<?> packetClass) {
+        registerPacket(packetClass, true);
+    }
+
+    public void registerPacket(Class<?> packetClass, boolean link) {
+        long startTime = System.nanoTime();
+
+        if (packetClass == null) {
+            throw new IllegalArgumentException("Packet class cannot be null");
+        }
+
+        if (!packetClass.isAnnotationPresent(ChirpPacket.class)) {
+            throw new IllegalArgumentException("Packet class must be annotated with @ChirpPacket");
+        }
+
+        String type = ChirpRegistry.packetTypeName(packetClass);
+
+        PacketSchema existing = packetSchemaRegistry.get(type);
+        if (existing != null && existing.packetClass != packetClass) {
+            throw new IllegalArgumentException(
+                    "Packet type '"
+                            + type
+                            + "' is already registered by "
+                            + existing.packetClass.getName()
+                            + ". "
+                            + packetClass.getName()
+                            + " has the same simple name and must be renamed.");
+        }
+
+        if (existing != null) {
+            ChirpLogger.warning(
+                    "Packet schema for type '" + type + "' is already registered. Skipping.");
+            return;
+        }
+
+        try {
+            List<Field> fields = chirpFields(packetClass);
+            Constructor<?> constructor = findConstructor(packetClass);
+            constructor.setAccessible(true);
+            int[] slots = constructorSlots(packetClass, constructor, fields);
+
+            List<FieldSchema> fieldSchemas = new ArrayList<>();
+            Set<Class<?>> nestedTypesToScan = new HashSet<>();
+
+            for (int i = 0; i < fields.size(); i++) {
+                FieldSchema fs = new FieldSchema(fields.get(i), slots[i]);
+                fieldSchemas.add(fs);
+
+                Class<?> fieldRawType = fs.rawType;
+                String fieldRawTypeName = ChirpRegistry.normalizeTypeName(fieldRawType);
+
+                if (fieldRawType.isEnum()) {
+                    if (!converterRegistry.containsKey(fieldRawTypeName)) {
+                        ChirpLogger.debug(
+                                "SchemaGenerator: Registering EnumConverter for packet field"
+                                        + " enum: "
+                                        + fieldRawType.getName());
+                        FieldConverter<?> enumConverter = new EnumConverter();
+                        converterRegistry.put(fieldRawTypeName, enumConverter);
+                    }
+                    continue;
+                }
+
+                collectNestedTypes(fs.genericType, nestedTypesToScan);
+            }
+
+            PacketSchema schema =
+                    new PacketSchema(
+                            packetClass,
+                            constructor,
+                            Collections.unmodifiableList(fieldSchemas),
+                            keyIndex(packetClass, fields),
+                            packetClass.getAnnotation(ChirpPacket.class).snapshotInterval(),
+                            bodyCache(packetClass, fields, fieldSchemas));
+
+            // Packets may be registered concurrently, so the check above can race.
+            existing = packetSchemaRegistry.putIfAbsent(type, schema);
+            if (existing != null) {
+                if (existing.packetClass != packetClass) {
+                    throw new IllegalArgumentException(
+                            "Packet type '"
+                                    + type
+                                    + "' is already registered by "
+                                    + existing.packetClass.getName()
+                                    + ". "
+                                    + packetClass.getName()
+                                    + " has the same simple name and must be renamed.");
+                }
+                return;
+            }
+            long endTime = System.nanoTime();
+            ChirpLogger.debug(
+                    "SchemaGenerator: Successfully registered PacketSchema for "
+                            + packetClass.getName()
+                            + " in "
+                            + (endTime - startTime) / 1_000_000.0
+                            + "ms.");
+
+            for (Class<?> nestedType : nestedTypesToScan) {
+                registerObjectSchema(nestedType, false);
+            }
+
+            if (link) linkCodecs();
+        } catch (NoSuchMethodException e) {
+            ChirpLogger.severe(
+                    "SchemaGenerator: Failed to register packet schema for "
+                            + packetClass.getName()
+                            + ": No no-argument constructor found. "
+                            + e.getMessage());
+            throw new IllegalArgumentException(
+                    "Packet class "
+                            + packetClass.getName()
+                            + " must have a no-argument constructor, be a record or have a"
+                            + " constructor taking its @ChirpField values to be registered as a"
+                            + " ChirpPacket.",
+                    e);
+        } catch (SecurityException e) {
+            ChirpLogger.severe(
+                    "Security exception registering packet schema for "
+                            + packetClass.getName()
+                            + ": "
+                            + e.getMessage());
+            throw new RuntimeException(
+                    "Security exception while accessing constructor/fields for packet "
+                            + packetClass.getName(),
+                    e);
+        }
+    }
+
+    public int getCodecGeneration() {
+        return codecGeneration.get();
+    }
+
+    public void linkCodecs() {
+        long startTime = System.nanoTime();
+
+        for (PacketSchema schema : packetSchemaRegistry.values()) {
+            for (FieldSchema fieldSchema : schema.fields) {
+                fieldSchema.codec = resolveCodec(fieldSchema.genericType);
+            }
+        }
+        for (ObjectSchema schema : objectSchemaRegistry.values()) {
+            for (FieldSchema fieldSchema : schema.fields) {
+                fieldSchema.codec = resolveCodec(fieldSchema.genericType);
+            }
+        }
+        codecGeneration.incrementAndGet();
+
+        long endTime = System.nanoTime();
+        ChirpLogger.debug(
+                "SchemaGenerator: Linked field codecs in "
+                        + (endTime - startTime) / 1_000_000.0
+                        + "ms.");
+    }
+
+    public CodecNode resolveCodec(Type type) {
+        String lookupKey =
+                type instanceof ParameterizedType pt
+                        ? ChirpRegistry.normalizeTypeName(pt.getRawType())
+                        : ChirpRegistry.normalizeTypeName(type);
+
+        FieldConverter<?> converter = converterRegistry.get(lookupKey);
+
+        List<Class<?>> subtypes =
+                converter == null && type instanceof Class<?> cls ? subtypes(cls) : null;
+        boolean objectType =
+                subtypes != null
+                        || type instanceof Class<?> cls
+                                && !cls.isEnum()
+                                && !cls.isPrimitive()
+                                && !cls.isArray()
+                                && !cls.isInterface();
+        ObjectSchema objectSchema =
+                converter == null && objectType && subtypes == null
+                        ? objectSchemaRegistry.get(lookupKey)
+                        : null;
+        PolymorphicSchema polymorphicSchema =
+                subtypes != null ? polymorphicSchema((Class<?>) type, subtypes) : null;
+
+        CodecNode[] arguments;
+        if (type instanceof ParameterizedType pt) {
+            Type[] typeArguments = pt.getActualTypeArguments();
+            arguments = new CodecNode[typeArguments.length];
+            for (int i = 0; i < typeArguments.length; i++) {
+                arguments[i] = resolveCodec(typeArguments[i]);
+            }
+        } else {
+            arguments = new CodecNode[0];
+        }
+
+        return new CodecNode(
+                type, objectType, converter, objectSchema, polymorphicSchema, arguments);
+    }
+
+    // Null while any subtype is still missing its schema, which serializers report as such.
+    private PolymorphicSchema polymorphicSchema(Class<?> baseClass, List<Class<?>> subtypes) {
+        List<ObjectSchema> schemas = new ArrayList<>(subtypes.size());
+        for (Class<?> subtype : subtypes) {
+            ObjectSchema schema =
+                    objectSchemaRegistry.get(ChirpRegistry.normalizeTypeName(subtype));
+            if (schema == null) return null;
+            schemas.add(schema);
+        }
+        return new PolymorphicSchema(baseClass, schemas);
+    }
+
+    public String fingerprint(PacketSchema schema) {
+        StringBuilder description =
+                new StringBuilder(ChirpRegistry.packetTypeName(schema.packetClass));
+        describeFields(schema.fields, description, new HashSet<>());
+
+        try {
+            byte[] digest =
+                    MessageDigest.getInstance("SHA-256")
+                            .digest(description.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private void describeFields(
+            List<FieldSchema> fields, StringBuilder description, Set<Class<?>> visited) {
+        // Tagged fields may be added or removed without breaking older nodes, so they are left
+        // out of the fingerprint.
+        if (!fields.isEmpty() && fields.get(0).tag > 0) {
+            description.append("{tagged}");
+            return;
+        }
+
+        description.append('{');
+        for (FieldSchema fieldSchema : fields) {
+            ChirpField annotation = fieldSchema.field.getAnnotation(ChirpField.class);
+            if (annotation != null && annotation.key()) description.append('#');
+            description.append(fieldSchema.fieldName).append(':');
+            describeCodec(fieldSchema.codec, description, visited);
+            description.append(';');
+        }
+        description.append('}');
+    }
+
+    private void describeCodec(CodecNode codec, StringBuilder description, Set<Class<?>> visited) {
+        description.append(ChirpRegistry.normalizeTypeName(codec.type));
+        // Enums and enum sets are sent by ordinal, so nodes must agree on every constant and its
+        // position, not just on the enum's name.
+        if (codec.type instanceof Class<?> clazz && clazz.isEnum()) {
+            description.append('[');
+            for (Object constant : clazz.getEnumConstants()) {
+                description.append(((Enum<?>) constant).name()).append(',');
+            }
+            description.append(']');
+        }
+        if (codec.objectSchema != null && visited.add(codec.objectSchema.objectClass)) {
+            describeFields(codec.objectSchema.fields, description, visited);
+        }
+        if (codec.polymorphicSchema != null) {
+            for (ObjectSchema subtype : codec.polymorphicSchema.subtypes) {
+                description
+                        .append('|')
+                        .append(ChirpRegistry.normalizeTypeName(subtype.objectClass));
+                if (visited.add(subtype.objectClass)) {
+                    describeFields(subtype.fields, description, visited);
+                }
+            }
+        }
+        for (CodecNode argument : codec.arguments) {
+            description.append('<');
+            describeCodec(argument, description, visited);
+            description.append('>');
+        }
+    }
+
+    public void cleanup() {
+        packetSchemaRegistry.clear();
+        objectSchemaRegistry.clear();
+        subtypeRegistry.clear();
+        inProgressSchemas.clear();
+        ChirpLogger.debug("SchemaGenerator: Cleared all schemas.");
+    }
+}
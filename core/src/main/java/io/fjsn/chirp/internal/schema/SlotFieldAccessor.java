@@ -0,0 +1,76 @@
+package io.fjsn.chirp.internal.schema;
+
+// Reads from a constructed instance, but writes decoded values into the Object[] that a
+// ConstructorInstantiator later passes to the constructor.
+public class SlotFieldAccessor implements FieldAccessor {
+
+    private final FieldAccessor getter;
+    private final int slot;
+
+    public SlotFieldAccessor(FieldAccessor getter, int slot) {
+        this.getter = getter;
+        this.slot = slot;
+    }
+
+    @Override
+    public Object get(Object instance) {
+        return instance instanceof Object[] values ? values[slot] : getter.get(instance);
+    }
+
+    @Override
+    public void set(Object instance, Object value) {
+        ((Object[]) instance)[slot] = value;
+    }
+
+    @Override
+    public boolean getBoolean(Object instance) {
+        return instance instanceof Object[] values
+                ? (Boolean) values[slot]
+                : getter.getBoolean(instance);
+    }
+
+    @Override
+    public byte getByte(Object instance) {
+        return instance instanceof Object[] values ? (Byte) values[slot] : getter.getByte(instance);
+    }
+
+    @Override
+    public short getShort(Object instance) {
+        return instance instanceof Object[] values
+                ? (Short) values[slot]
+                : getter.getShort(instance);
+    }
+
+    @Override
+    public char getChar(Object instance) {
+        return instance instanceof Object[] values
+                ? (Character) values[slot]
+                : getter.getChar(instance);
+    }
+
+    @Override
+    public int getInt(Object instance) {
+        return instance instanceof Object[] values
+                ? (Integer) values[slot]
+                : getter.getInt(instance);
+    }
+
+    @Override
+    public long getLong(Object instance) {
+        return instance instanceof Object[] values ? (Long) values[slot] : getter.getLong(instance);
+    }
+
+    @Override
+    public float getFloat(Object instance) {
+        return instance instanceof Object[] values
+                ? (Float) values[slot]
+                : getter.getFloat(instance);
+    }
+
+    @Override
+    public double getDouble(Object instance) {
+        return instance instanceof Object[] values
+                ? (Double) values[slot]
+                : getter.getDouble(instance);
+    }
+}
@@ -0,0 +1,110 @@
+package io.fjsn.chirp.internal.serialization;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.converter.BinaryReader;
+import io.fjsn.chirp.converter.FieldCodec;
+import io.fjsn.chirp.converter.FieldReader;
+import io.fjsn.chirp.internal.schema.CodecNode;
+
+import java.util.Arrays;
+
+public class BinaryFieldReader implements FieldReader {
+
+    private final BinaryReader reader;
+    private final ChirpRegistry registry;
+
+    // Elements left in each array being read, innermost last.
+    private int[] remaining = new int[4];
+    private int depth;
+
+    public BinaryFieldReader(BinaryReader reader, ChirpRegistry registry) {
+        this.reader = reader;
+        this.registry = registry;
+    }
+
+    @Override
+    public ChirpRegistry registry() {
+        return registry;
+    }
+
+    @Override
+    public boolean readBoolean() {
+        return reader.readBoolean();
+    }
+
+    @Override
+    public int readInt() {
+        return reader.readSignedVarInt();
+    }
+
+    @Override
+    public long readLong() {
+        return reader.readSignedVarLong();
+    }
+
+    @Override
+    public float readFloat() {
+        return reader.readFloat();
+    }
+
+    @Override
+    public double readDouble() {
+        return reader.readDouble();
+    }
+
+    @Override
+    public String readString() {
+        return reader.readString();
+    }
+
+    @Override
+    public void beginObject() {}
+
+    @Override
+    public void name(String expected) {}
+
+    @Override
+    public void endObject() {}
+
+    @Override
+    public void beginArray() {
+        int size = reader.readVarInt();
+        if (size < 0) {
+            throw new IllegalArgumentException("Invalid array size: " + size);
+        }
+        if (depth == remaining.length) remaining = Arrays.copyOf(remaining, depth << 1);
+        remaining[depth++] = size;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (depth == 0) {
+            throw new IllegalStateException("hasNext called outside of an array");
+        }
+        if (remaining[depth - 1] == 0) return false;
+        remaining[depth - 1]--;
+        return true;
+    }
+
+    @Override
+    public void endArray() {
+        if (depth == 0 || remaining[depth - 1] != 0) {
+            throw new IllegalStateException("endArray called before every element was read");
+        }
+        depth--;
+    }
+
+    @Override
+    public Object readValue(FieldCodec codec) {
+        if (!reader.readBoolean()) return null;
+        return BinaryPacketSerializer.readValue(reader, (CodecNode) codec, registry);
+    }
+
+    @Override
+    public JsonElement readJson() {
+        return JsonParser.parseString(reader.readString());
+    }
+}
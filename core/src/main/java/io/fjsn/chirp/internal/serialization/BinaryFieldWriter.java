@@ -0,0 +1,91 @@
+package io.fjsn.chirp.internal.serialization;
+
+import com.google.gson.JsonElement;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.converter.BinaryWriter;
+import io.fjsn.chirp.converter.FieldCodec;
+import io.fjsn.chirp.converter.FieldWriter;
+import io.fjsn.chirp.internal.schema.CodecNode;
+
+public class BinaryFieldWriter implements FieldWriter {
+
+    private final BinaryWriter writer;
+    private final ChirpRegistry registry;
+
+    public BinaryFieldWriter(BinaryWriter writer, ChirpRegistry registry) {
+        this.writer = writer;
+        this.registry = registry;
+    }
+
+    @Override
+    public ChirpRegistry registry() {
+        return registry;
+    }
+
+    @Override
+    public void writeBoolean(boolean value) {
+        writer.writeBoolean(value);
+    }
+
+    @Override
+    public void writeInt(int value) {
+        writer.writeSignedVarInt(value);
+    }
+
+    @Override
+    public void writeLong(long value) {
+        writer.writeSignedVarLong(value);
+    }
+
+    @Override
+    public void writeFloat(float value) {
+        writer.writeFloat(value);
+    }
+
+    @Override
+    public void writeDouble(double value) {
+        writer.writeDouble(value);
+    }
+
+    @Override
+    public void writeString(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Strings cannot be null, use writeValue instead");
+        }
+        writer.writeString(value);
+    }
+
+    @Override
+    public void beginObject() {}
+
+    @Override
+    public void name(String name) {}
+
+    @Override
+    public void endObject() {}
+
+    @Override
+    public void beginArray(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Binary arrays must be given their size");
+        }
+        writer.writeVarInt(size);
+    }
+
+    @Override
+    public void endArray() {}
+
+    @Override
+    public void writeValue(Object value, FieldCodec codec) {
+        writer.writeBoolean(value != null);
+        if (value != null) {
+            BinaryPacketSerializer.writeValue(value, (CodecNode) codec, writer, registry);
+        }
+    }
+
+    @Override
+    public void writeJson(JsonElement element) {
+        writer.writeString(element == null ? "null" : element.toString());
+    }
+}
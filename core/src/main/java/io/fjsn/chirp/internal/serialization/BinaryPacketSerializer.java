@@ -0,0 +1,680 @@
+package io.fjsn.chirp.internal.serialization;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.converter.BinaryReader;
+import io.fjsn.chirp.converter.BinaryWriter;
+import io.fjsn.chirp.internal.schema.CodecNode;
+import io.fjsn.chirp.internal.schema.FieldSchema;
+import io.fjsn.chirp.internal.schema.ObjectSchema;
+import io.fjsn.chirp.internal.schema.PacketSchema;
+import io.fjsn.chirp.internal.util.ChirpLogger;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+public class BinaryPacketSerializer {
+
+    public static final byte MARKER = (byte) 0xC1;
+
+    private static final int FLAG_RESPONDING = 1;
+    private static final int FLAG_SELF = 1 << 1;
+    private static final int FLAG_RESPONDING_TO = 1 << 2;
+    private static final int FLAG_TYPE_ID = 1 << 3;
+    private static final int FLAG_DELTA = 1 << 4;
+
+    public static boolean isBinaryPacket(byte[] data) {
+        return data != null && data.length > 0 && data[0] == MARKER;
+    }
+
+    public static byte[] serialize(
+            Object packet,
+            UUID packetId,
+            String origin,
+            boolean responding,
+            UUID respondingTo,
+            boolean self,
+            long sent,
+            ChirpRegistry registry) {
+        long startTime = System.nanoTime();
+
+        if (packet == null) throw new IllegalArgumentException("Packet cannot be null");
+
+        PacketSchema schema = registry.getPacketSchema(packet.getClass());
+
+        byte[] bytes;
+        BinaryWriter writer = PacketBuffers.BINARY.acquire(packet.getClass());
+        try {
+            writeHeader(writer, schema, 0, packetId, origin, responding, respondingTo, self, sent);
+            if (schema.bodyCache != null) {
+                writer.writeBytes(
+                        schema.bodyCache.binary(
+                                packet, cached -> writeBody(cached, schema, registry)));
+            } else {
+                writeFields(packet, schema.fields, schema.indexByTag, writer, registry);
+            }
+
+            bytes = PacketBuffers.BINARY.finish(packet.getClass(), writer);
+        } finally {
+            PacketBuffers.BINARY.release(writer);
+        }
+
+        long endTime = System.nanoTime();
+        ChirpLogger.debug(
+                "Serialized object to "
+                        + bytes.length
+                        + " binary bytes in "
+                        + (endTime - startTime) / 1_000_000.0
+                        + "ms.");
+        return bytes;
+    }
+
+    private static byte[] writeBody(Object packet, PacketSchema schema, ChirpRegistry registry) {
+        BinaryWriter writer = new BinaryWriter();
+        writeFields(packet, schema.fields, schema.indexByTag, writer, registry);
+        return writer.toByteArray();
+    }
+
+    // Keyed packets carry a version and the version they were diffed against, with 0 meaning a
+    // full snapshot. Only the fields marked present follow, always including the key.
+    public static byte[] serializeDelta(
+            Object packet,
+            UUID packetId,
+            String origin,
+            boolean responding,
+            UUID respondingTo,
+            boolean self,
+            long sent,
+            int version,
+            int baseVersion,
+            byte[][] fields,
+            boolean[] present,
+            ChirpRegistry registry) {
+        long startTime = System.nanoTime();
+
+        PacketSchema schema = registry.getPacketSchema(packet.getClass());
+
+        byte[] bytes;
+        BinaryWriter writer = PacketBuffers.BINARY.acquire(packet.getClass());
+        try {
+            writeHeader(
+                    writer,
+                    schema,
+                    FLAG_DELTA,
+                    packetId,
+                    origin,
+                    responding,
+                    respondingTo,
+                    self,
+                    sent);
+            writer.writeVarInt(version);
+            writer.writeVarInt(baseVersion);
+
+            if (schema.indexByTag != null) {
+                writeTaggedDelta(schema.fields, fields, present, writer);
+            } else {
+                FieldScratch scratch = FieldScratch.get();
+                int level = scratch.enter(fields.length);
+                try {
+                    boolean[] nulls = scratch.flags(level);
+                    for (int i = 0; i < fields.length; i++) {
+                        nulls[i] = present[i] && fields[i] == null;
+                    }
+                    writer.writeBitmap(present);
+                    writer.writeBitmap(nulls, fields.length);
+                    for (int i = 0; i < fields.length; i++) {
+                        if (present[i] && !nulls[i]) writer.writeBytes(fields[i]);
+                    }
+                } finally {
+                    scratch.exit(level, fields.length);
+                }
+            }
+
+            bytes = PacketBuffers.BINARY.finish(packet.getClass(), writer);
+        } finally {
+            PacketBuffers.BINARY.release(writer);
+        }
+
+        long endTime = System.nanoTime();
+        ChirpLogger.debug(
+                "Serialized "
+                        + (baseVersion == 0 ? "snapshot" : "delta")
+                        + " v"
+                        + version
+                        + " to "
+                        + bytes.length
+                        + " binary bytes in "
+                        + (endTime - startTime) / 1_000_000.0
+                        + "ms.");
+        return bytes;
+    }
+
+    // Each field is encoded on its own so senders can compare it with what they sent last.
+    public static byte[][] encodeFields(
+            Object packet, PacketSchema schema, ChirpRegistry registry) {
+        byte[][] fields = new byte[schema.fields.size()][];
+        BinaryWriter writer = new BinaryWriter();
+        for (int i = 0; i < fields.length; i++) {
+            FieldSchema fieldSchema = schema.fields.get(i);
+            Object value = fieldSchema.accessor.get(packet);
+            if (value == null) continue;
+
+            writer.reset();
+            writeValue(value, fieldSchema.codec, writer, registry);
+            fields[i] = writer.toByteArray();
+        }
+        return fields;
+    }
+
+    private static void writeHeader(
+            BinaryWriter writer,
+            PacketSchema schema,
+            int flags,
+            UUID packetId,
+            String origin,
+            boolean responding,
+            UUID respondingTo,
+            boolean self,
+            long sent) {
+        if (responding) flags |= FLAG_RESPONDING;
+        if (self) flags |= FLAG_SELF;
+        if (responding && respondingTo != null) flags |= FLAG_RESPONDING_TO;
+
+        // Negotiated schemas are addressed by their cluster-wide id instead of their name.
+        int typeId = schema.typeId;
+        if (typeId >= 0) flags |= FLAG_TYPE_ID;
+
+        writer.writeByte(MARKER);
+        writer.writeByte(flags);
+        writer.writeUUID(packetId);
+        if (typeId >= 0) {
+            writer.writeVarInt(typeId);
+        } else {
+            writer.writeString(ChirpRegistry.packetTypeName(schema.packetClass));
+        }
+        writer.writeString(origin);
+        if ((flags & FLAG_RESPONDING_TO) != 0) writer.writeUUID(respondingTo);
+        writer.writeVarLong(sent);
+    }
+
+    public static PacketEnvelope deserialize(byte[] data, ChirpRegistry registry)
+            throws ReflectiveOperationException {
+        return deserialize(data, registry, null, null);
+    }
+
+    public static PacketEnvelope deserialize(
+            byte[] data, ChirpRegistry registry, PacketDeltas deltas, String channel)
+            throws ReflectiveOperationException {
+        return deserialize(data, registry, deltas, channel, null);
+    }
+
+    // Returns null for a delta whose base this node does not have, and for a header the filter
+    // rejects, in which case the body is not read.
+    public static PacketEnvelope deserialize(
+            byte[] data,
+            ChirpRegistry registry,
+            PacketDeltas deltas,
+            String channel,
+            Predicate<PacketHeader> filter)
+            throws ReflectiveOperationException {
+        long startTime = System.nanoTime();
+
+        if (!isBinaryPacket(data)) {
+            throw new IllegalArgumentException("Data is not a binary Chirp packet");
+        }
+
+        BinaryReader reader = new BinaryReader(data, 1, data.length - 1);
+        int flags = reader.readByte();
+        UUID packetId = reader.readUUID();
+
+        PacketSchema schema;
+        String type;
+        if ((flags & FLAG_TYPE_ID) != 0) {
+            schema = registry.getPacketSchemaById(reader.readVarInt());
+            type = ChirpRegistry.packetTypeName(schema.packetClass);
+        } else {
+            type = reader.readString();
+            schema = registry.getPacketSchemaRegistry().get(type);
+            if (schema == null) {
+                throw new IllegalStateException(
+                        "Unknown packet type or schema not found for: "
+                                + type
+                                + ". Ensure it's registered during Chirp initialization.");
+            }
+        }
+
+        String origin = reader.readString();
+        UUID respondingTo = (flags & FLAG_RESPONDING_TO) != 0 ? reader.readUUID() : null;
+        long sent = reader.readVarLong();
+
+        boolean responding = (flags & FLAG_RESPONDING) != 0;
+        PacketHeader header =
+                new PacketHeader(
+                        packetId,
+                        type,
+                        origin,
+                        responding,
+                        respondingTo,
+                        (flags & FLAG_SELF) != 0,
+                        sent);
+        if (filter != null && !filter.test(header)) return null;
+
+        Object packet;
+        if ((flags & FLAG_DELTA) != 0) {
+            packet = readDelta(data, reader, schema, origin, channel, deltas, registry);
+            if (packet == null) return null;
+        } else {
+            // Responses go to callbacks, which expect the whole packet.
+            boolean[] projection = responding ? null : schema.projection;
+            packet = schema.instantiator.newInstance();
+            readFields(packet, schema.fields, schema.indexByTag, projection, reader, registry);
+            packet = schema.instantiator.complete(packet);
+        }
+
+        long endTime = System.nanoTime();
+        ChirpLogger.debug(
+                "Deserialized "
+                        + data.length
+                        + " binary bytes to object in "
+                        + (endTime - startTime) / 1_000_000.0
+                        + "ms.");
+
+        return new PacketEnvelope(header, packet);
+    }
+
+    // The encoded bytes of each field are kept alongside the decoded values when deltas are
+    // tracked, so the stored base never shares instances with packets handed to handlers.
+    private static Object readDelta(
+            byte[] data,
+            BinaryReader reader,
+            PacketSchema schema,
+            String origin,
+            String channel,
+            PacketDeltas deltas,
+            ChirpRegistry registry) {
+        int version = reader.readVarInt();
+        int baseVersion = reader.readVarInt();
+
+        List<FieldSchema> fields = schema.fields;
+        boolean[] present;
+        Object[] values = new Object[fields.size()];
+        byte[][] encoded = deltas != null ? new byte[fields.size()][] : null;
+        if (schema.indexByTag != null) {
+            present =
+                    readTaggedDelta(
+                            data, fields, schema.indexByTag, values, encoded, reader, registry);
+        } else {
+            present = reader.readBitmap(fields.size());
+            FieldScratch scratch = FieldScratch.get();
+            int level = scratch.enter(fields.size());
+            try {
+                boolean[] nulls = reader.readBitmap(scratch.flags(level), fields.size());
+                for (int i = 0; i < values.length; i++) {
+                    if (!present[i] || nulls[i]) continue;
+                    int start = reader.position();
+                    values[i] = readValue(reader, fields.get(i).codec, registry);
+                    if (encoded != null) {
+                        encoded[i] = Arrays.copyOfRange(data, start, reader.position());
+                    }
+                }
+            } finally {
+                scratch.exit(level, 0);
+            }
+        }
+
+        if (deltas != null) {
+            values =
+                    deltas.apply(
+                            origin,
+                            channel,
+                            schema,
+                            version,
+                            baseVersion,
+                            values,
+                            encoded,
+                            present,
+                            registry);
+            if (values == null) return null;
+        } else if (baseVersion != 0) {
+            throw new IllegalStateException(
+                    "Cannot apply a delta of "
+                            + ChirpRegistry.packetTypeName(schema.packetClass)
+                            + " without delta tracking");
+        }
+
+        Object packet = schema.instantiator.newInstance();
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null || !fields.get(i).rawType.isPrimitive()) {
+                fields.get(i).accessor.set(packet, values[i]);
+            }
+        }
+        return schema.instantiator.complete(packet);
+    }
+
+    private static void writeFields(
+            Object instance,
+            List<FieldSchema> fields,
+            int[] indexByTag,
+            BinaryWriter writer,
+            ChirpRegistry registry) {
+        int size = fields.size();
+        FieldScratch scratch = FieldScratch.get();
+        int level = scratch.enter(size);
+        try {
+            Object[] values = scratch.values(level);
+            boolean[] nulls = scratch.flags(level);
+            for (int i = 0; i < size; i++) {
+                FieldSchema fieldSchema = fields.get(i);
+                if (fieldSchema.codec.primitiveConverter == null) {
+                    values[i] = fieldSchema.accessor.get(instance);
+                    nulls[i] = values[i] == null;
+                } else {
+                    nulls[i] = false;
+                }
+            }
+
+            // Tagged fields are written as tag, length and value so that decoders can skip the
+            // tags they do not know. As in deltas, the low bit of a tag marks a null, which has
+            // no length or value.
+            if (indexByTag != null) {
+                writer.writeVarInt(size);
+            } else {
+                writer.writeBitmap(nulls, size);
+            }
+            for (int i = 0; i < size; i++) {
+                FieldSchema fieldSchema = fields.get(i);
+                if (nulls[i]) {
+                    if (indexByTag != null) writer.writeVarInt(fieldSchema.tag << 1 | 1);
+                    continue;
+                }
+                int start = -1;
+                if (indexByTag != null) {
+                    writer.writeVarInt(fieldSchema.tag << 1);
+                    start = writer.beginLength();
+                }
+
+                CodecNode codec = fieldSchema.codec;
+                if (codec.primitiveConverter != null) {
+                    codec.primitiveConverter.writeField(instance, fieldSchema.accessor, writer);
+                } else {
+                    writeValue(values[i], codec, writer, registry);
+                }
+
+                if (start >= 0) writer.endLength(start);
+            }
+        } finally {
+            scratch.exit(level, size);
+        }
+    }
+
+    private static void readFields(
+            Object instance,
+            List<FieldSchema> fields,
+            int[] indexByTag,
+            BinaryReader reader,
+            ChirpRegistry registry) {
+        readFields(instance, fields, indexByTag, null, reader, registry);
+    }
+
+    // Untagged values carry no length, so the fields before the last projected one are still
+    // decoded, and reading stops after it.
+    private static void readFields(
+            Object instance,
+            List<FieldSchema> fields,
+            int[] indexByTag,
+            boolean[] projection,
+            BinaryReader reader,
+            ChirpRegistry registry) {
+        if (indexByTag != null) {
+            readTaggedFields(instance, fields, indexByTag, projection, reader, registry);
+            return;
+        }
+
+        int size = fields.size();
+        FieldScratch scratch = FieldScratch.get();
+        int level = scratch.enter(size);
+        try {
+            boolean[] nulls = reader.readBitmap(scratch.flags(level), size);
+            int end = size;
+            if (projection != null) {
+                while (end > 0 && !projection[end - 1]) end--;
+            }
+            for (int i = 0; i < end; i++) {
+                FieldSchema fieldSchema = fields.get(i);
+                if (nulls[i]) {
+                    if (!fieldSchema.rawType.isPrimitive()) {
+                        fieldSchema.accessor.set(instance, null);
+                    }
+                    continue;
+                }
+                CodecNode codec = fieldSchema.codec;
+                if (codec.primitiveConverter != null) {
+                    codec.primitiveConverter.readField(instance, fieldSchema.accessor, reader);
+                    continue;
+                }
+                Object value = readValue(reader, codec, registry);
+                fieldSchema.accessor.set(instance, value);
+            }
+        } finally {
+            scratch.exit(level, 0);
+        }
+    }
+
+    // Fields whose tag is missing from a tagged packet keep the value they were constructed with;
+    // fields sent as null are set to null.
+    private static void readTaggedFields(
+            Object instance,
+            List<FieldSchema> fields,
+            int[] indexByTag,
+            boolean[] projection,
+            BinaryReader reader,
+            ChirpRegistry registry) {
+        int count = reader.readVarInt();
+        for (int n = 0; n < count; n++) {
+            int key = reader.readVarInt();
+            int tag = key >>> 1;
+            int index = tag < indexByTag.length ? indexByTag[tag] - 1 : -1;
+            boolean wanted = index >= 0 && (projection == null || projection[index]);
+            if ((key & 1) != 0) {
+                if (wanted && !fields.get(index).rawType.isPrimitive()) {
+                    fields.get(index).accessor.set(instance, null);
+                }
+                continue;
+            }
+
+            int length = reader.readVarInt();
+            if (!wanted) {
+                reader.skip(length);
+                continue;
+            }
+
+            int end = reader.position() + length;
+            FieldSchema fieldSchema = fields.get(index);
+            CodecNode codec = fieldSchema.codec;
+            if (codec.primitiveConverter != null) {
+                codec.primitiveConverter.readField(instance, fieldSchema.accessor, reader);
+            } else {
+                fieldSchema.accessor.set(instance, readValue(reader, codec, registry));
+            }
+            checkTagLength(tag, fieldSchema, reader, end);
+        }
+    }
+
+    // The low bit of each tag marks a field that changed to null.
+    private static void writeTaggedDelta(
+            List<FieldSchema> schemaFields,
+            byte[][] fields,
+            boolean[] present,
+            BinaryWriter writer) {
+        int count = 0;
+        for (boolean p : present) if (p) count++;
+
+        writer.writeVarInt(count);
+        for (int i = 0; i < fields.length; i++) {
+            if (!present[i]) continue;
+            int tag = schemaFields.get(i).tag;
+            if (fields[i] == null) {
+                writer.writeVarInt(tag << 1 | 1);
+                continue;
+            }
+            writer.writeVarInt(tag << 1);
+            writer.writeVarInt(fields[i].length);
+            writer.writeBytes(fields[i]);
+        }
+    }
+
+    private static boolean[] readTaggedDelta(
+            byte[] data,
+            List<FieldSchema> fields,
+            int[] indexByTag,
+            Object[] values,
+            byte[][] encoded,
+            BinaryReader reader,
+            ChirpRegistry registry) {
+        boolean[] present = new boolean[fields.size()];
+        int count = reader.readVarInt();
+        for (int n = 0; n < count; n++) {
+            int key = reader.readVarInt();
+            int tag = key >>> 1;
+            int index = tag < indexByTag.length ? indexByTag[tag] - 1 : -1;
+            if ((key & 1) != 0) {
+                if (index >= 0) present[index] = true;
+                continue;
+            }
+
+            int length = reader.readVarInt();
+            if (index < 0) {
+                reader.skip(length);
+                continue;
+            }
+
+            int start = reader.position();
+            int end = start + length;
+            values[index] = readValue(reader, fields.get(index).codec, registry);
+            if (encoded != null) encoded[index] = Arrays.copyOfRange(data, start, end);
+            present[index] = true;
+            checkTagLength(tag, fields.get(index), reader, end);
+        }
+        return present;
+    }
+
+    private static void checkTagLength(
+            int tag, FieldSchema fieldSchema, BinaryReader reader, int end) {
+        if (reader.position() != end) {
+            throw new IllegalArgumentException(
+                    "Field "
+                            + fieldSchema.fieldName
+                            + " (tag "
+                            + tag
+                            + ") did not match its encoded length. Was its type changed without"
+                            + " changing its tag?");
+        }
+    }
+
+    public static void writeValue(
+            Object value, Type type, BinaryWriter writer, ChirpRegistry registry) {
+        writeValue(value, registry.resolveCodec(type), writer, registry);
+    }
+
+    public static void writeValue(
+            Object value, CodecNode codec, BinaryWriter writer, ChirpRegistry registry) {
+        if (value == null) {
+            throw new IllegalArgumentException(
+                    "Null values must be encoded through a null bitmap, not written directly");
+        }
+
+        if (codec.compositeConverter != null) {
+            codec.compositeConverter.write(value, codec, writer, registry);
+            return;
+        }
+
+        if (codec.binaryConverter != null) {
+            codec.binaryConverter.write(value, codec.type, writer, registry);
+            return;
+        }
+
+        if (codec.converter != null) {
+            JsonElement element = codec.converter.serialize(value, codec.type, registry);
+            writer.writeString(element == null ? "null" : element.toString());
+            return;
+        }
+
+        if (codec.objectSchema != null) {
+            writeFields(
+                    value,
+                    codec.objectSchema.fields,
+                    codec.objectSchema.indexByTag,
+                    writer,
+                    registry);
+            return;
+        }
+
+        if (codec.polymorphicSchema != null) {
+            int index = codec.polymorphicSchema.indexOf(value.getClass());
+            ObjectSchema subtype = codec.polymorphicSchema.subtypes[index];
+            writer.writeVarInt(index);
+            writeFields(value, subtype.fields, subtype.indexByTag, writer, registry);
+            return;
+        }
+
+        if (codec.objectType) {
+            throw PacketSerializer.missingObjectSchema(codec.type);
+        }
+
+        throw new IllegalArgumentException(
+                "No converter or strategy for type: "
+                        + codec.type.getTypeName()
+                        + " (for value: "
+                        + value
+                        + ")");
+    }
+
+    public static Object readValue(BinaryReader reader, Type type, ChirpRegistry registry) {
+        return readValue(reader, registry.resolveCodec(type), registry);
+    }
+
+    public static Object readValue(BinaryReader reader, CodecNode codec, ChirpRegistry registry) {
+        if (codec.compositeConverter != null) {
+            return codec.compositeConverter.read(reader, codec, registry);
+        }
+
+        if (codec.binaryConverter != null) {
+            return codec.binaryConverter.read(reader, codec.type, registry);
+        }
+
+        if (codec.converter != null) {
+            JsonElement element = JsonParser.parseString(reader.readString());
+            return codec.converter.deserialize(element, codec.type, registry);
+        }
+
+        if (codec.objectSchema != null) {
+            Object instance = codec.objectSchema.instantiator.newInstance();
+            readFields(
+                    instance,
+                    codec.objectSchema.fields,
+                    codec.objectSchema.indexByTag,
+                    reader,
+                    registry);
+            return codec.objectSchema.instantiator.complete(instance);
+        }
+
+        if (codec.polymorphicSchema != null) {
+            ObjectSchema subtype = codec.polymorphicSchema.subtype(reader.readVarInt());
+            Object instance = subtype.instantiator.newInstance();
+            readFields(instance, subtype.fields, subtype.indexByTag, reader, registry);
+            return subtype.instantiator.complete(instance);
+        }
+
+        if (codec.objectType) {
+            throw PacketSerializer.missingObjectSchema(codec.type);
+        }
+
+        throw new IllegalArgumentException(
+                "No converter or strategy for type: " + codec.type.getTypeName());
+    }
+}
@@ -0,0 +1,52 @@
+package io.fjsn.chirp.internal.serialization;
+
+import java.util.Arrays;
+
+// Per-thread scratch arrays for the fields of the object being encoded or decoded, one set per
+// nesting level, so a packet and every object nested in it do not each allocate their own.
+final class FieldScratch {
+
+    private static final int MIN_FIELDS = 8;
+
+    private static final ThreadLocal<FieldScratch> SCRATCH =
+            ThreadLocal.withInitial(FieldScratch::new);
+
+    private Object[][] values = new Object[4][];
+    private boolean[][] flags = new boolean[4][];
+    private int depth;
+
+    private FieldScratch() {}
+
+    static FieldScratch get() {
+        return SCRATCH.get();
+    }
+
+    // Returns the level to hand to values, flags and exit. The arrays may be longer than size.
+    int enter(int size) {
+        int level = depth++;
+        if (level == values.length) {
+            values = Arrays.copyOf(values, level << 1);
+            flags = Arrays.copyOf(flags, level << 1);
+        }
+        if (values[level] == null || values[level].length < size) {
+            int capacity = Math.max(MIN_FIELDS, size);
+            values[level] = new Object[capacity];
+            flags[level] = new boolean[capacity];
+        }
+        return level;
+    }
+
+    Object[] values(int level) {
+        return values[level];
+    }
+
+    boolean[] flags(int level) {
+        return flags[level];
+    }
+
+    // Clears the values so the scratch arrays do not keep field values alive.
+    void exit(int level, int size) {
+        Arrays.fill(values[level], 0, size, null);
+        depth = level;
+    }
+}
@@ -0,0 +1,102 @@
+package io.fjsn.chirp.internal.serialization;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.converter.FieldCodec;
+import io.fjsn.chirp.converter.FieldReader;
+import io.fjsn.chirp.internal.schema.CodecNode;
+
+import java.io.IOException;
+
+public class JsonFieldReader implements FieldReader {
+
+    private final JsonReader reader;
+    private final ChirpRegistry registry;
+
+    public JsonFieldReader(JsonReader reader, ChirpRegistry registry) {
+        this.reader = reader;
+        this.registry = registry;
+    }
+
+    @Override
+    public ChirpRegistry registry() {
+        return registry;
+    }
+
+    @Override
+    public boolean readBoolean() throws IOException {
+        return reader.nextBoolean();
+    }
+
+    @Override
+    public int readInt() throws IOException {
+        return reader.nextInt();
+    }
+
+    @Override
+    public long readLong() throws IOException {
+        return reader.nextLong();
+    }
+
+    @Override
+    public float readFloat() throws IOException {
+        return (float) reader.nextDouble();
+    }
+
+    @Override
+    public double readDouble() throws IOException {
+        return reader.nextDouble();
+    }
+
+    @Override
+    public String readString() throws IOException {
+        return reader.nextString();
+    }
+
+    @Override
+    public void beginObject() throws IOException {
+        reader.beginObject();
+    }
+
+    @Override
+    public void name(String expected) throws IOException {
+        String name = reader.nextName();
+        if (!name.equals(expected)) {
+            throw new IllegalArgumentException(
+                    "Expected member '" + expected + "' but found '" + name + "'");
+        }
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        reader.endObject();
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+        reader.beginArray();
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        return reader.hasNext();
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        reader.endArray();
+    }
+
+    @Override
+    public Object readValue(FieldCodec codec) throws IOException {
+        return StreamingPacketSerializer.readValue(reader, (CodecNode) codec, registry);
+    }
+
+    @Override
+    public JsonElement readJson() throws IOException {
+        return JsonParser.parseReader(reader);
+    }
+}
@@ -0,0 +1,99 @@
+package io.fjsn.chirp.internal.serialization;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.stream.JsonWriter;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.converter.FieldCodec;
+import io.fjsn.chirp.converter.FieldWriter;
+import io.fjsn.chirp.internal.schema.CodecNode;
+
+import java.io.IOException;
+
+public class JsonFieldWriter implements FieldWriter {
+
+    private static final Gson GSON = new Gson();
+
+    private final JsonWriter writer;
+    private final ChirpRegistry registry;
+
+    public JsonFieldWriter(JsonWriter writer, ChirpRegistry registry) {
+        this.writer = writer;
+        this.registry = registry;
+    }
+
+    @Override
+    public ChirpRegistry registry() {
+        return registry;
+    }
+
+    @Override
+    public void writeBoolean(boolean value) throws IOException {
+        writer.value(value);
+    }
+
+    @Override
+    public void writeInt(int value) throws IOException {
+        writer.value(value);
+    }
+
+    @Override
+    public void writeLong(long value) throws IOException {
+        writer.value(value);
+    }
+
+    @Override
+    public void writeFloat(float value) throws IOException {
+        writer.value(value);
+    }
+
+    @Override
+    public void writeDouble(double value) throws IOException {
+        writer.value(value);
+    }
+
+    @Override
+    public void writeString(String value) throws IOException {
+        if (value == null) {
+            throw new IllegalArgumentException("Strings cannot be null, use writeValue instead");
+        }
+        writer.value(value);
+    }
+
+    @Override
+    public void beginObject() throws IOException {
+        writer.beginObject();
+    }
+
+    @Override
+    public void name(String name) throws IOException {
+        writer.name(name);
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        writer.endObject();
+    }
+
+    @Override
+    public void beginArray(int size) throws IOException {
+        writer.beginArray();
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        writer.endArray();
+    }
+
+    @Override
+    public void writeValue(Object value, FieldCodec codec) throws IOException {
+        StreamingPacketSerializer.writeValue(value, (CodecNode) codec, writer, registry);
+    }
+
+    @Override
+    public void writeJson(JsonElement element) throws IOException {
+        GSON.toJson(element == null ? JsonNull.INSTANCE : element, writer);
+    }
+}
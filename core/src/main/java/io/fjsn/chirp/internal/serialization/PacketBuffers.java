@@ -0,0 +1,92 @@
+package io.fjsn.chirp.internal.serialization;
+
+import io.fjsn.chirp.BufferStats;
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.converter.BinaryWriter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PacketBuffers {
+
+    public static final PacketBuffers BINARY = new PacketBuffers("binary");
+    public static final PacketBuffers JSON = new PacketBuffers("json");
+
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int MAX_RETAINED_CAPACITY = 256 * 1024;
+
+    private static final class Slot {
+        private BinaryWriter writer;
+        private int capacity;
+        private boolean inUse;
+    }
+
+    private final BufferStats stats;
+    private final ThreadLocal<Slot> slots = ThreadLocal.withInitial(Slot::new);
+    private final ClassValue<AtomicInteger> estimates =
+            new ClassValue<>() {
+                @Override
+                protected AtomicInteger computeValue(Class<?> packetClass) {
+                    return stats.sizeEstimate(ChirpRegistry.packetTypeName(packetClass));
+                }
+            };
+
+    private PacketBuffers(String format) {
+        this.stats = new BufferStats(format);
+    }
+
+    public BufferStats getStats() {
+        return stats;
+    }
+
+    public BinaryWriter acquire(Class<?> packetClass) {
+        stats.recordAcquisition();
+
+        // Presize with some headroom so a packet slightly above average does not grow the buffer.
+        int estimate = estimates.get(packetClass).get();
+        int expected = Math.max(INITIAL_CAPACITY, estimate + (estimate >>> 2));
+
+        Slot slot = slots.get();
+        if (slot.inUse) {
+            stats.recordAllocation();
+            return new BinaryWriter(expected);
+        }
+
+        if (slot.writer == null) {
+            slot.writer = new BinaryWriter(expected);
+            stats.recordAllocation();
+            stats.recordPooled(slot.writer.capacity());
+        } else {
+            slot.writer.reset();
+        }
+
+        slot.capacity = slot.writer.capacity();
+        slot.writer.ensureCapacity(expected);
+        slot.inUse = true;
+        return slot.writer;
+    }
+
+    public byte[] finish(Class<?> packetClass, BinaryWriter writer) {
+        byte[] bytes = writer.toByteArray();
+
+        AtomicInteger estimate = estimates.get(packetClass);
+        int previous = estimate.get();
+        estimate.set(previous == 0 ? bytes.length : previous + ((bytes.length - previous) >> 3));
+        return bytes;
+    }
+
+    public void release(BinaryWriter writer) {
+        Slot slot = slots.get();
+        if (slot.writer != writer) return;
+
+        slot.inUse = false;
+        int capacity = writer.capacity();
+        if (capacity > slot.capacity) {
+            stats.recordGrowth();
+            stats.recordRetainedGrowth(capacity - slot.capacity);
+        }
+        if (capacity > MAX_RETAINED_CAPACITY) {
+            slot.writer = null;
+            stats.recordDiscard(capacity);
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package io.fjsn.chirp.internal.serialization;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.CompressionStats;
+import io.fjsn.chirp.converter.BinaryReader;
+import io.fjsn.chirp.converter.BinaryWriter;
+import io.fjsn.chirp.internal.schema.CodecNode;
+import io.fjsn.chirp.internal.schema.FieldSchema;
+import io.fjsn.chirp.internal.schema.ObjectSchema;
+import io.fjsn.chirp.internal.schema.PacketSchema;
+import io.fjsn.chirp.internal.util.ChirpLogger;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Adler32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+public class PacketCompressor {
+
+    public static final byte MARKER = (byte) 0xC2;
+
+    private static final int MAX_DICTIONARY_SIZE = 32 * 1024;
+
+    // Deflate cannot expand input by more than 1032:1, and nothing larger is ever published, so
+    // lengths beyond either are rejected before the payload is allocated.
+    private static final int MAX_PAYLOAD_SIZE = 64 * 1024 * 1024;
+    private static final int MAX_INFLATE_RATIO = 1032;
+
+    // Envelope keys and values shared by every JSON packet.
+    private static final String[] ENVELOPE_TOKENS = {
+        "null",
+        "false",
+        "true",
+        "\"respondingTo\":\"",
+        "\"data\":{",
+        "\"sent\":",
+        "\"self\":",
+        "\"responding\":",
+        "\"origin\":\"",
+        "\"type\":\"",
+        "{\"packetId\":\""
+    };
+
+    private static final ThreadLocal<Deflater> DEFLATER = ThreadLocal.withInitial(Deflater::new);
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
+
+    private record Dictionary(String type, byte[] bytes, int id) {}
+
+    private final ChirpRegistry registry;
+    private final Map<Class<?>, Dictionary> dictionaries = new ConcurrentHashMap<>();
+    private final Map<Integer, Dictionary> dictionariesById = new ConcurrentHashMap<>();
+    private final Map<String, CompressionStats> stats = new ConcurrentHashMap<>();
+
+    private volatile int codecGeneration;
+
+    private volatile int threshold = -1;
+
+    public PacketCompressor(ChirpRegistry registry) {
+        this.registry = registry;
+        this.codecGeneration = registry.getCodecGeneration();
+    }
+
+    public static boolean isCompressed(byte[] data) {
+        return data != null && data.length > 0 && data[0] == MARKER;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public void setThreshold(int threshold) {
+        this.threshold = threshold;
+    }
+
+    public boolean isEnabled() {
+        return threshold >= 0;
+    }
+
+    public Map<String, CompressionStats> getStats() {
+        return Collections.unmodifiableMap(stats);
+    }
+
+    public byte[] compress(Class<?> packetClass, byte[] payload) {
+        if (!isEnabled()) return payload;
+
+        Dictionary dictionary = dictionary(packetClass);
+        CompressionStats typeStats = stats(dictionary.type);
+        if (payload.length < threshold) {
+            typeStats.recordSkipped();
+            return payload;
+        }
+
+        long startTime = System.nanoTime();
+
+        Deflater deflater = DEFLATER.get();
+        deflater.reset();
+        deflater.setDictionary(dictionary.bytes);
+        deflater.setInput(payload);
+        deflater.finish();
+
+        BinaryWriter header = new BinaryWriter(8);
+        header.writeByte(MARKER);
+        header.writeVarInt(payload.length);
+
+        // A frame that would not be smaller than the payload is abandoned and sent as-is.
+        byte[] buffer = new byte[Math.max(0, payload.length - header.size())];
+        int length = 0;
+        while (!deflater.finished() && length < buffer.length) {
+            length += deflater.deflate(buffer, length, buffer.length - length);
+        }
+
+        long endTime = System.nanoTime();
+        if (!deflater.finished()) {
+            typeStats.recordIncompressible(endTime - startTime);
+            return payload;
+        }
+
+        BinaryWriter writer = new BinaryWriter(header.size() + length);
+        writer.writeBytes(header.toByteArray());
+        writer.writeBytes(buffer, 0, length);
+        byte[] frame = writer.toByteArray();
+
+        typeStats.recordCompressed(payload.length, frame.length, endTime - startTime);
+        ChirpLogger.debug(
+                "Compressed "
+                        + dictionary.type
+                        + " from "
+                        + payload.length
+                        + " to "
+                        + frame.length
+                        + " bytes in "
+                        + (endTime - startTime) / 1_000_000.0
+                        + "ms.");
+        return frame;
+    }
+
+    public byte[] decompress(byte[] frame) throws DataFormatException {
+        long startTime = System.nanoTime();
+
+        BinaryReader reader = new BinaryReader(frame);
+        if (reader.readByte() != MARKER) {
+            throw new IllegalArgumentException("Invalid compressed packet marker");
+        }
+
+        int rawLength = reader.readVarInt();
+        if (rawLength < 0
+                || rawLength > MAX_PAYLOAD_SIZE
+                || rawLength > (long) reader.remaining() * MAX_INFLATE_RATIO) {
+            throw new IllegalArgumentException("Invalid compressed packet length: " + rawLength);
+        }
+
+        Inflater inflater = INFLATER.get();
+        inflater.reset();
+        inflater.setInput(frame, reader.position(), reader.remaining());
+
+        byte[] payload = new byte[rawLength];
+        Dictionary dictionary = null;
+        int length = 0;
+        while (length < rawLength && !inflater.finished()) {
+            int inflated = inflater.inflate(payload, length, rawLength - length);
+            if (inflated == 0 && inflater.needsDictionary()) {
+                if (dictionary != null) break;
+                dictionary = dictionary(inflater.getAdler());
+                inflater.setDictionary(dictionary.bytes);
+            } else if (inflated == 0 && inflater.needsInput()) {
+                break;
+            }
+            length += inflated;
+        }
+
+        if (length != rawLength || !inflater.finished()) {
+            throw new IllegalArgumentException("Compressed packet is truncated");
+        }
+
+        long endTime = System.nanoTime();
+        if (dictionary != null) stats(dictionary.type).recordDecompressed(endTime - startTime);
+        ChirpLogger.debug(
+                "Decompressed "
+                        + frame.length
+                        + " bytes to "
+                        + rawLength
+                        + " in "
+                        + (endTime - startTime) / 1_000_000.0
+                        + "ms.");
+        return payload;
+    }
+
+    private CompressionStats stats(String type) {
+        return stats.computeIfAbsent(type, CompressionStats::new);
+    }
+
+    // Dictionaries are built from the field codecs, so they are dropped whenever those are
+    // relinked. One built while a relink was in progress is used but not kept.
+    private Dictionary dictionary(Class<?> packetClass) {
+        int generation = registry.getCodecGeneration();
+        if (generation != codecGeneration) {
+            synchronized (this) {
+                if (generation != codecGeneration) {
+                    dictionaries.clear();
+                    dictionariesById.clear();
+                    codecGeneration = generation;
+                }
+            }
+        }
+
+        Dictionary dictionary = dictionaries.get(packetClass);
+        if (dictionary != null) return dictionary;
+
+        dictionary = buildDictionary(registry.getPacketSchema(packetClass));
+        if (registry.getCodecGeneration() == generation) {
+            dictionaries.put(packetClass, dictionary);
+            dictionariesById.put(dictionary.id, dictionary);
+        }
+        return dictionary;
+    }
+
+    private Dictionary dictionary(int id) {
+        Dictionary dictionary = dictionariesById.get(id);
+        if (dictionary != null) return dictionary;
+
+        for (PacketSchema schema : registry.getPacketSchemaRegistry().values()) {
+            dictionary(schema.packetClass);
+        }
+
+        dictionary = dictionariesById.get(id);
+        if (dictionary == null) {
+            throw new IllegalStateException(
+                    "Unknown compression dictionary: "
+                            + Integer.toHexString(id)
+                            + ". The sender's schema does not match any packet registered on this"
+                            + " node.");
+        }
+        return dictionary;
+    }
+
+    // Deflate references recent bytes more cheaply, so the most common tokens go last.
+    private static Dictionary buildDictionary(PacketSchema schema) {
+        String type = ChirpRegistry.packetTypeName(schema.packetClass);
+
+        Set<String> tokens = new LinkedHashSet<>();
+        collectTokens(schema.fields, tokens, new HashSet<>());
+
+        StringBuilder text = new StringBuilder();
+        for (String token : tokens) text.append(token);
+        text.append(type);
+        for (String token : ENVELOPE_TOKENS) text.append(token);
+        text.append(type);
+
+        byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_DICTIONARY_SIZE) {
+            byte[] trimmed = new byte[MAX_DICTIONARY_SIZE];
+            System.arraycopy(
+                    bytes, bytes.length - MAX_DICTIONARY_SIZE, trimmed, 0, MAX_DICTIONARY_SIZE);
+            bytes = trimmed;
+        }
+
+        Adler32 adler = new Adler32();
+        adler.update(bytes);
+        return new Dictionary(type, bytes, (int) adler.getValue());
+    }
+
+    private static void collectTokens(
+            List<FieldSchema> fields, Set<String> tokens, Set<Class<?>> visited) {
+        // The dictionary identifies the schema on the wire, so fields that are allowed to differ
+        // between nodes cannot contribute to it.
+        if (!fields.isEmpty() && fields.get(0).tag > 0) return;
+
+        for (FieldSchema fieldSchema : fields) {
+            if (fieldSchema.codec != null) collectTokens(fieldSchema.codec, tokens, visited);
+            tokens.add("\"" + fieldSchema.fieldName + "\":");
+        }
+    }
+
+    private static void collectTokens(CodecNode codec, Set<String> tokens, Set<Class<?>> visited) {
+        if (codec.type instanceof Class<?> clazz && clazz.isEnum()) {
+            for (Object constant : clazz.getEnumConstants()) {
+                tokens.add("\"" + ((Enum<?>) constant).name() + "\"");
+            }
+        }
+        if (codec.objectSchema != null && visited.add(codec.objectSchema.objectClass)) {
+            collectTokens(codec.objectSchema.fields, tokens, visited);
+        }
+        if (codec.polymorphicSchema != null) {
+            for (ObjectSchema subtype : codec.polymorphicSchema.subtypes) {
+                if (visited.add(subtype.objectClass)) {
+                    collectTokens(subtype.fields, tokens, visited);
+                }
+            }
+        }
+        for (CodecNode argument : codec.arguments) {
+            collectTokens(argument, tokens, visited);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package io.fjsn.chirp.internal.serialization;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.PacketDropStats;
+import io.fjsn.chirp.converter.BinaryReader;
+import io.fjsn.chirp.internal.schema.PacketSchema;
+import io.fjsn.chirp.internal.util.ChirpLogger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// Tracks the last state of every keyed packet sent to and received from each channel. Both sides
+// evict their least recently used keys once MAX_TRACKED_KEYS is reached, which at worst costs an
+// extra snapshot on the sender or dropped deltas on the receiver until the next snapshot.
+public class PacketDeltas {
+
+    private static final int MAX_TRACKED_KEYS = 65_536;
+
+    public record Frame(List<String> channels, byte[] payload) {}
+
+    private record SenderKey(Class<?> type, Object key) {}
+
+    private record ReceiverKey(String origin, String channel, Class<?> type, Object key) {}
+
+    private record SentState(int version, byte[][] fields) {}
+
+    private static final class SentStream {
+        private final Map<String, SentState> channels = new HashMap<>();
+        private int sends;
+    }
+
+    private record ReceivedState(int version, byte[][] fields) {}
+
+    private static final SentState SNAPSHOT = new SentState(0, null);
+
+    // Dropped deltas are logged at most this often, with the number dropped in between.
+    private static final long DROP_WARNING_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final Map<SenderKey, SentStream> sentStreams = boundedMap();
+    private final Map<ReceiverKey, ReceivedState> receivedStates = boundedMap();
+    private final Function<String, PacketDropStats> dropStats;
+    private final AtomicLong lastDropWarning =
+            new AtomicLong(System.nanoTime() - DROP_WARNING_INTERVAL_NANOS);
+    private final AtomicLong unreportedDrops = new AtomicLong();
+
+    public PacketDeltas(Function<String, PacketDropStats> dropStats) {
+        this.dropStats = dropStats;
+    }
+
+    // Channels that last received the same state share one payload, so a multicast to nodes
+    // that are in step is still serialized once.
+    public List<Frame> encode(
+            Object packet,
+            PacketSchema schema,
+            List<String> channels,
+            UUID packetId,
+            String origin,
+            boolean responding,
+            UUID respondingTo,
+            boolean self,
+            long sent,
+            ChirpRegistry registry) {
+        Object key = schema.fields.get(schema.keyIndex).accessor.get(packet);
+        if (key == null) {
+            throw new IllegalArgumentException(
+                    "Key field "
+                            + schema.fields.get(schema.keyIndex).fieldName
+                            + " of "
+                            + ChirpRegistry.packetTypeName(schema.packetClass)
+                            + " cannot be null");
+        }
+
+        byte[][] fields = BinaryPacketSerializer.encodeFields(packet, schema, registry);
+
+        List<Frame> frames = new ArrayList<>();
+        synchronized (sentStreams) {
+            SentStream stream =
+                    sentStreams.computeIfAbsent(
+                            new SenderKey(schema.packetClass, key), ignored -> new SentStream());
+            // Snapshots are due for every channel at once, so channels that drifted apart are
+            // back in step, and share a frame, after the next one.
+            boolean snapshotDue = stream.sends++ % Math.max(1, schema.snapshotInterval) == 0;
+
+            Map<SentState, List<String>> groups = new IdentityHashMap<>();
+            int snapshotVersion = 1;
+            for (String channel : channels) {
+                SentState base = stream.channels.get(channel);
+                if (base == null || snapshotDue) {
+                    if (base != null) snapshotVersion = Math.max(snapshotVersion, base.version + 1);
+                    base = SNAPSHOT;
+                }
+                groups.computeIfAbsent(base, ignored -> new ArrayList<>()).add(channel);
+            }
+
+            for (Map.Entry<SentState, List<String>> group : groups.entrySet()) {
+                SentState base = group.getKey();
+                boolean snapshot = base == SNAPSHOT;
+
+                boolean[] present = new boolean[fields.length];
+                for (int i = 0; i < fields.length; i++) {
+                    present[i] =
+                            snapshot
+                                    || i == schema.keyIndex
+                                    || !Arrays.equals(fields[i], base.fields[i]);
+                }
+
+                int version = snapshot ? snapshotVersion : Math.max(1, base.version + 1);
+                SentState next = new SentState(version, fields);
+                for (String channel : group.getValue()) {
+                    stream.channels.put(channel, next);
+                }
+
+                frames.add(
+                        new Frame(
+                                group.getValue(),
+                                BinaryPacketSerializer.serializeDelta(
+                                        packet,
+                                        packetId,
+                                        origin,
+                                        responding,
+                                        respondingTo,
+                                        self,
+                                        sent,
+                                        version,
+                                        snapshot ? 0 : base.version,
+                                        fields,
+                                        present,
+                                        registry)));
+            }
+        }
+        return frames;
+    }
+
+    // Returns null when the delta's base is not the state last received for its key. Fields the
+    // delta leaves out are decoded again from the stored base, so every packet gets its own
+    // instances and handlers that modify them cannot corrupt later merges.
+    public Object[] apply(
+            String origin,
+            String channel,
+            PacketSchema schema,
+            int version,
+            int baseVersion,
+            Object[] values,
+            byte[][] encoded,
+            boolean[] present,
+            ChirpRegistry registry) {
+        String type = ChirpRegistry.packetTypeName(schema.packetClass);
+        Object key = values[schema.keyIndex];
+        if (!present[schema.keyIndex] || key == null) {
+            throw new IllegalArgumentException("Keyed packet " + type + " is missing its key");
+        }
+
+        ReceiverKey receiverKey = new ReceiverKey(origin, channel, schema.packetClass, key);
+        byte[][] merged;
+        synchronized (receivedStates) {
+            if (baseVersion == 0) {
+                receivedStates.put(receiverKey, new ReceivedState(version, encoded));
+                return values;
+            }
+
+            ReceivedState base = receivedStates.get(receiverKey);
+            if (base == null || base.version != baseVersion) {
+                recordDrop(schema, type, key, origin, version, baseVersion, base);
+                return null;
+            }
+
+            merged = base.fields.clone();
+            for (int i = 0; i < merged.length; i++) {
+                if (present[i]) merged[i] = encoded[i];
+            }
+            receivedStates.put(receiverKey, new ReceivedState(version, merged));
+        }
+
+        for (int i = 0; i < merged.length; i++) {
+            if (present[i] || merged[i] == null) continue;
+            values[i] =
+                    BinaryPacketSerializer.readValue(
+                            new BinaryReader(merged[i]), schema.fields.get(i).codec, registry);
+        }
+        return values;
+    }
+
+    // Nodes that join late or restart cannot apply deltas until the next snapshot, which is at
+    // most snapshotInterval packets away for each key.
+    private void recordDrop(
+            PacketSchema schema,
+            String type,
+            Object key,
+            String origin,
+            int version,
+            int baseVersion,
+            ReceivedState base) {
+        dropStats.apply(type).recordMissingDeltaBase();
+        long dropped = unreportedDrops.incrementAndGet();
+
+        long now = System.nanoTime();
+        long last = lastDropWarning.get();
+        if (now - last < DROP_WARNING_INTERVAL_NANOS || !lastDropWarning.compareAndSet(last, now)) {
+            return;
+        }
+        unreportedDrops.addAndGet(-dropped);
+        ChirpLogger.warning(
+                "Dropped "
+                        + dropped
+                        + " delta(s) whose base this node does not have, most recently v"
+                        + version
+                        + " of "
+                        + type
+                        + " for key "
+                        + key
+                        + " from "
+                        + origin
+                        + " (have "
+                        + (base == null ? "no base" : "v" + base.version)
+                        + ", need v"
+                        + baseVersion
+                        + "). Keys catch up within "
+                        + schema.snapshotInterval
+                        + " packets, at their next snapshot.");
+    }
+
+    private static <K, V> Map<K, V> boundedMap() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > MAX_TRACKED_KEYS;
+            }
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package io.fjsn.chirp.internal.serialization;
+
+import java.util.UUID;
+
+public class PacketEnvelope extends PacketHeader {
+    public final Object packet;
+
+    public PacketEnvelope(
+            UUID packetId,
+            String type,
+            String origin,
+            boolean responding,
+            UUID respondingTo,
+            boolean self,
+            long sent,
+            Object packet) {
+        super(packetId, type, origin, responding, respondingTo, self, sent);
+        this.packet = packet;
+    }
+
+    public PacketEnvelope(PacketHeader header, Object packet) {
+        this(
+                header.packetId,
+                header.type,
+                header.origin,
+                header.responding,
+                header.respondingTo,
+                header.self,
+                header.sent,
+                packet);
+    }
+}
@@ -0,0 +1,30 @@
+package io.fjsn.chirp.internal.serialization;
+
+import java.util.UUID;
+
+public class PacketHeader {
+    public final UUID packetId;
+    public final String type;
+    public final String origin;
+    public final boolean responding;
+    public final UUID respondingTo;
+    public final boolean self;
+    public final long sent;
+
+    public PacketHeader(
+            UUID packetId,
+            String type,
+            String origin,
+            boolean responding,
+            UUID respondingTo,
+            boolean self,
+            long sent) {
+        this.packetId = packetId;
+        this.type = type;
+        this.origin = origin;
+        this.responding = responding;
+        this.respondingTo = respondingTo;
+        this.self = self;
+        this.sent = sent;
+    }
+}
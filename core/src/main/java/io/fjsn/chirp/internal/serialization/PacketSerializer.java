@@ -0,0 +1,352 @@
+package io.fjsn.chirp.internal.serialization;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.internal.schema.CodecNode;
+import io.fjsn.chirp.internal.schema.FieldSchema;
+import io.fjsn.chirp.internal.schema.ObjectSchema;
+import io.fjsn.chirp.internal.schema.PacketSchema;
+import io.fjsn.chirp.internal.util.ChirpLogger;
+
+import java.lang.reflect.Type;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+public class PacketSerializer {
+
+    public static JsonObject serialize(
+            Object packet,
+            UUID packetId,
+            String origin,
+            boolean responding,
+            UUID respondingTo,
+            boolean self,
+            long sent,
+            ChirpRegistry registry) {
+
+        if (packet == null) throw new IllegalArgumentException("Packet cannot be null");
+
+        JsonObject json =
+                serializeHeader(packet, packetId, origin, responding, respondingTo, self, sent);
+        json.add(
+                "data",
+                serializeData(packet, registry.getPacketSchema(packet.getClass()), registry));
+        return json;
+    }
+
+    private static JsonObject serializeHeader(
+            Object packet,
+            UUID packetId,
+            String origin,
+            boolean responding,
+            UUID respondingTo,
+            boolean self,
+            long sent) {
+        JsonObject json = new JsonObject();
+        String type = ChirpRegistry.packetTypeName(packet.getClass());
+
+        json.addProperty("packetId", packetId.toString());
+        json.addProperty("type", type);
+        json.addProperty("origin", origin);
+        json.addProperty("responding", responding);
+        if (responding) json.addProperty("respondingTo", respondingTo.toString());
+        json.addProperty("self", self);
+        json.addProperty("sent", sent);
+        return json;
+    }
+
+    private static JsonObject serializeData(
+            Object packet, PacketSchema schema, ChirpRegistry registry) {
+        JsonObject data = new JsonObject();
+        for (FieldSchema fieldSchema : schema.fields) {
+            Object value = fieldSchema.accessor.get(packet);
+            JsonElement element = serializeValue(value, fieldSchema.codec, registry);
+            data.add(fieldSchema.fieldName, element);
+        }
+        return data;
+    }
+
+    public static Object deserialize(JsonObject json, ChirpRegistry registry)
+            throws ReflectiveOperationException {
+        return deserialize(json, false, registry);
+    }
+
+    private static Object deserialize(JsonObject json, boolean project, ChirpRegistry registry)
+            throws ReflectiveOperationException {
+
+        if (json == null) throw new IllegalArgumentException("JsonObject cannot be null");
+
+        String type = json.get("type").getAsString().toUpperCase();
+        JsonObject data = json.getAsJsonObject("data");
+
+        PacketSchema schema = registry.getPacketSchemaRegistry().get(type);
+        if (schema == null) {
+            throw new IllegalStateException(
+                    "Unknown packet type or schema not found for: "
+                            + type
+                            + ". Ensure it's registered during Chirp initialization.");
+        }
+
+        return deserializeData(schema, data, project ? schema.projection : null, registry);
+    }
+
+    public static Object deserializeData(
+            PacketSchema schema, JsonObject data, ChirpRegistry registry)
+            throws ReflectiveOperationException {
+        return deserializeData(schema, data, null, registry);
+    }
+
+    public static Object deserializeData(
+            PacketSchema schema, JsonObject data, boolean[] projection, ChirpRegistry registry)
+            throws ReflectiveOperationException {
+        Object packet = schema.instantiator.newInstance();
+
+        for (int i = 0; i < schema.fields.size(); i++) {
+            if (projection != null && !projection[i]) continue;
+
+            FieldSchema fieldSchema = schema.fields.get(i);
+            String fieldName = fieldSchema.fieldName;
+
+            if (!data.has(fieldName) || data.get(fieldName).isJsonNull()) {
+                if (!fieldSchema.rawType.isPrimitive()) {
+                    fieldSchema.accessor.set(packet, null);
+                }
+                continue;
+            }
+
+            JsonElement element = data.get(fieldName);
+            Object value = deserializeValue(element, fieldSchema.codec, registry);
+            fieldSchema.accessor.set(packet, value);
+        }
+
+        return schema.instantiator.complete(packet);
+    }
+
+    public static PacketEnvelope deserializeEnvelope(JsonObject json, ChirpRegistry registry)
+            throws ReflectiveOperationException {
+        return deserializeEnvelope(json, registry, null);
+    }
+
+    // Returns null for a header the filter rejects, in which case the data is not deserialized.
+    public static PacketEnvelope deserializeEnvelope(
+            JsonObject json, ChirpRegistry registry, Predicate<PacketHeader> filter)
+            throws ReflectiveOperationException {
+        if (json == null) throw new IllegalArgumentException("JsonObject cannot be null");
+
+        boolean responding = json.get("responding").getAsBoolean();
+        PacketHeader header =
+                new PacketHeader(
+                        UUID.fromString(json.get("packetId").getAsString()),
+                        json.get("type").getAsString(),
+                        json.get("origin").getAsString(),
+                        responding,
+                        json.has("respondingTo")
+                                ? UUID.fromString(json.get("respondingTo").getAsString())
+                                : null,
+                        json.get("self").getAsBoolean(),
+                        json.get("sent").getAsLong());
+        if (filter != null && !filter.test(header)) return null;
+
+        // Responses go to callbacks, which expect the whole packet.
+        Object packet = deserialize(json, !responding, registry);
+        return new PacketEnvelope(header, packet);
+    }
+
+    public static Object fromJsonString(String jsonString, ChirpRegistry registry)
+            throws ReflectiveOperationException {
+        long startTime = System.nanoTime();
+        JsonObject json = JsonParser.parseString(jsonString).getAsJsonObject();
+        Object deserialized = deserialize(json, registry);
+        long endTime = System.nanoTime();
+        ChirpLogger.debug(
+                "Deserialized JSON string to object in "
+                        + (endTime - startTime) / 1_000_000.0
+                        + "ms.");
+        return deserialized;
+    }
+
+    public static String toJsonString(
+            Object packet,
+            UUID packetId,
+            String origin,
+            boolean responding,
+            UUID respondingTo,
+            boolean self,
+            long sent,
+            ChirpRegistry registry) {
+        long startTime = System.nanoTime();
+        if (packet == null) throw new IllegalArgumentException("Packet cannot be null");
+
+        PacketSchema schema = registry.getPacketSchema(packet.getClass());
+        String jsonString;
+        if (schema.bodyCache != null) {
+            // The cached body is spliced in before the envelope's closing brace.
+            String header =
+                    serializeHeader(packet, packetId, origin, responding, respondingTo, self, sent)
+                            .toString();
+            String data =
+                    schema.bodyCache.json(
+                            packet, cached -> serializeData(cached, schema, registry).toString());
+            jsonString = header.substring(0, header.length() - 1) + ",\"data\":" + data + "}";
+        } else {
+            jsonString =
+                    serialize(
+                                    packet,
+                                    packetId,
+                                    origin,
+                                    responding,
+                                    respondingTo,
+                                    self,
+                                    sent,
+                                    registry)
+                            .toString();
+        }
+        long endTime = System.nanoTime();
+        ChirpLogger.debug(
+                "Serialized object to JSON string in "
+                        + (endTime - startTime) / 1_000_000.0
+                        + "ms.");
+        return jsonString;
+    }
+
+    public static String toPrettyJsonString(
+            Object packet,
+            UUID packetId,
+            String origin,
+            boolean responding,
+            UUID respondingTo,
+            boolean self,
+            long sent,
+            ChirpRegistry registry) {
+
+        long startTime = System.nanoTime();
+        JsonObject json =
+                serialize(packet, packetId, origin, responding, respondingTo, self, sent, registry);
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        String prettyJson = gson.toJson(json);
+        long endTime = System.nanoTime();
+        ChirpLogger.debug(
+                "Serialized object to pretty JSON string in "
+                        + (endTime - startTime) / 1_000_000.0
+                        + "ms.");
+        return prettyJson;
+    }
+
+    public static JsonElement serializeValue(Object value, Type type, ChirpRegistry registry) {
+        if (value == null) return JsonNull.INSTANCE;
+        return serializeValue(value, registry.resolveCodec(type), registry);
+    }
+
+    public static JsonElement serializeValue(
+            Object value, CodecNode codec, ChirpRegistry registry) {
+        if (value == null) return JsonNull.INSTANCE;
+
+        if (codec.compositeConverter != null) {
+            return codec.compositeConverter.serialize(value, codec, registry);
+        }
+
+        if (codec.converter != null) {
+            return codec.converter.serialize(value, codec.type, registry);
+        }
+
+        if (codec.objectSchema != null) {
+            return serializeObject(value, codec.objectSchema, registry);
+        }
+
+        if (codec.polymorphicSchema != null) {
+            int index = codec.polymorphicSchema.indexOf(value.getClass());
+            JsonArray array = new JsonArray(2);
+            array.add(index);
+            array.add(serializeObject(value, codec.polymorphicSchema.subtypes[index], registry));
+            return array;
+        }
+
+        if (codec.objectType) {
+            throw missingObjectSchema(codec.type);
+        }
+
+        throw new IllegalArgumentException(
+                "No converter or strategy for type: "
+                        + codec.type.getTypeName()
+                        + " (for value: "
+                        + value
+                        + ")");
+    }
+
+    public static Object deserializeValue(JsonElement json, Type type, ChirpRegistry registry) {
+        if (json == null || json.isJsonNull()) return null;
+        return deserializeValue(json, registry.resolveCodec(type), registry);
+    }
+
+    public static Object deserializeValue(
+            JsonElement json, CodecNode codec, ChirpRegistry registry) {
+        if (json == null || json.isJsonNull()) return null;
+
+        if (codec.compositeConverter != null) {
+            return codec.compositeConverter.deserialize(json, codec, registry);
+        }
+
+        if (codec.converter != null) {
+            return codec.converter.deserialize(json, codec.type, registry);
+        }
+
+        if (codec.objectSchema != null) {
+            return deserializeObject(json.getAsJsonObject(), codec.objectSchema, registry);
+        }
+
+        if (codec.polymorphicSchema != null) {
+            JsonArray array = json.getAsJsonArray();
+            ObjectSchema subtype = codec.polymorphicSchema.subtype(array.get(0).getAsInt());
+            return deserializeObject(array.get(1).getAsJsonObject(), subtype, registry);
+        }
+
+        if (codec.objectType) {
+            throw missingObjectSchema(codec.type);
+        }
+
+        throw new IllegalArgumentException(
+                "No converter or strategy for type: "
+                        + codec.type.getTypeName()
+                        + " (for JSON: "
+                        + json
+                        + ")");
+    }
+
+    private static JsonObject serializeObject(
+            Object value, ObjectSchema schema, ChirpRegistry registry) {
+        JsonObject obj = new JsonObject();
+        for (FieldSchema fieldSchema : schema.fields) {
+            Object nestedVal = fieldSchema.accessor.get(value);
+            obj.add(fieldSchema.fieldName, serializeValue(nestedVal, fieldSchema.codec, registry));
+        }
+        return obj;
+    }
+
+    private static Object deserializeObject(
+            JsonObject obj, ObjectSchema schema, ChirpRegistry registry) {
+        Object instance = schema.instantiator.newInstance();
+        for (FieldSchema fieldSchema : schema.fields) {
+            if (obj.has(fieldSchema.fieldName)) {
+                JsonElement el = obj.get(fieldSchema.fieldName);
+                Object nestedVal = deserializeValue(el, fieldSchema.codec, registry);
+                fieldSchema.accessor.set(instance, nestedVal);
+            }
+        }
+        return schema.instantiator.complete(instance);
+    }
+
+    static IllegalStateException missingObjectSchema(Type type) {
+        return new IllegalStateException(
+                "No pre-computed schema found for nested object type: "
+                        + type.getTypeName()
+                        + ". All custom @ChirpField types must have schemas registered"
+                        + " during initialization or have a FieldConverter.");
+    }
+}
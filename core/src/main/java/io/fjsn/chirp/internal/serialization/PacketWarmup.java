@@ -0,0 +1,232 @@
+package io.fjsn.chirp.internal.serialization;
+
+import io.fjsn.chirp.Chirp;
+import io.fjsn.chirp.ChirpPacketEvent;
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.PacketFormat;
+import io.fjsn.chirp.annotation.ChirpHandler;
+import io.fjsn.chirp.annotation.ChirpListener;
+import io.fjsn.chirp.internal.handler.EventDispatcher;
+import io.fjsn.chirp.internal.schema.CodecNode;
+import io.fjsn.chirp.internal.schema.FieldSchema;
+import io.fjsn.chirp.internal.schema.Instantiator;
+import io.fjsn.chirp.internal.schema.ObjectSchema;
+import io.fjsn.chirp.internal.schema.PacketSchema;
+import io.fjsn.chirp.internal.util.ChirpLogger;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+// Runs every registered packet through the configured format and the dispatcher before the node
+// goes live, so the first real packets do not run interpreted. Packets are built from sample
+// values, and dispatched to a no-op listener rather than the registered ones.
+public class PacketWarmup {
+
+    private static final int MAX_DEPTH = 4;
+    private static final UUID WARMUP_ID = new UUID(0, 0);
+
+    @ChirpListener(scan = false)
+    public static class NoopListener {
+
+        @ChirpHandler
+        public void onPacket(ChirpPacketEvent<Object> event) {}
+    }
+
+    public static void run(Chirp chirp, int iterations) {
+        long startTime = System.nanoTime();
+        ChirpRegistry registry = chirp.getRegistry();
+
+        List<Object> packets = new ArrayList<>();
+        for (PacketSchema schema : registry.getPacketSchemaRegistry().values()) {
+            try {
+                packets.add(fill(schema.instantiator, schema.fields, 0));
+            } catch (RuntimeException e) {
+                ChirpLogger.debug(
+                        "PacketWarmup: Skipping "
+                                + ChirpRegistry.packetTypeName(schema.packetClass)
+                                + ", could not build a sample: "
+                                + e.getMessage());
+            }
+        }
+        int skipped = registry.getPacketSchemaRegistry().size() - packets.size();
+
+        ChirpRegistry noopRegistry = new ChirpRegistry();
+        noopRegistry.registerListener(new NoopListener());
+        EventDispatcher dispatcher = new EventDispatcher(noopRegistry);
+
+        // Every serializer call logs its timing at debug level, which would otherwise flood the
+        // log with one line per warm-up round trip.
+        boolean debug = ChirpLogger.debug;
+        ChirpLogger.debug = false;
+        try {
+            for (int i = 0; i < iterations && !packets.isEmpty(); i++) {
+                Iterator<Object> iterator = packets.iterator();
+                while (iterator.hasNext()) {
+                    Object packet = iterator.next();
+                    try {
+                        Object received = roundTrip(chirp, packet);
+                        dispatcher.dispatchEventToListeners(
+                                new ChirpPacketEvent<>(
+                                        chirp,
+                                        WARMUP_ID,
+                                        received,
+                                        chirp.getOrigin(),
+                                        false,
+                                        null,
+                                        false,
+                                        0L,
+                                        0L));
+                    } catch (Exception e) {
+                        iterator.remove();
+                        skipped++;
+                        ChirpLogger.warning(
+                                "PacketWarmup: Skipping "
+                                        + ChirpRegistry.packetTypeName(packet.getClass())
+                                        + ", it failed to round-trip: "
+                                        + e.getMessage());
+                    }
+                }
+            }
+        } finally {
+            ChirpLogger.debug = debug;
+        }
+
+        long endTime = System.nanoTime();
+        ChirpLogger.info(
+                "Warmed up "
+                        + packets.size()
+                        + " packet types ("
+                        + skipped
+                        + " skipped) over "
+                        + iterations
+                        + " iterations in "
+                        + (endTime - startTime) / 1_000_000.0
+                        + "ms.");
+    }
+
+    private static Object roundTrip(Chirp chirp, Object packet) throws Exception {
+        ChirpRegistry registry = chirp.getRegistry();
+        String origin = chirp.getOrigin();
+        if (chirp.getFormat() == PacketFormat.BINARY) {
+            byte[] bytes =
+                    BinaryPacketSerializer.serialize(
+                            packet, WARMUP_ID, origin, false, null, false, 0L, registry);
+            return BinaryPacketSerializer.deserialize(bytes, registry).packet;
+        } else if (chirp.isStreaming()) {
+            byte[] bytes =
+                    StreamingPacketSerializer.toJsonBytes(
+                            packet, WARMUP_ID, origin, false, null, false, 0L, registry);
+            return StreamingPacketSerializer.fromJsonBytes(bytes, registry).packet;
+        } else {
+            String json =
+                    PacketSerializer.toJsonString(
+                            packet, WARMUP_ID, origin, false, null, false, 0L, registry);
+            return PacketSerializer.fromJsonString(json, registry);
+        }
+    }
+
+    private static Object fill(Instantiator instantiator, List<FieldSchema> fields, int depth) {
+        Object instance = instantiator.newInstance();
+        for (FieldSchema fieldSchema : fields) {
+            Object value = sample(fieldSchema.codec, depth);
+            if (value != null) fieldSchema.accessor.set(instance, value);
+        }
+        return instantiator.complete(instance);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object sample(CodecNode codec, int depth) {
+        if (codec == null) return null;
+        Type type = codec.type;
+        Class<?> raw =
+                type instanceof ParameterizedType parameterized
+                        ? (Class<?>) parameterized.getRawType()
+                        : type instanceof Class<?> clazz ? clazz : null;
+        if (raw == null) return null;
+
+        if (raw == boolean.class || raw == Boolean.class) return true;
+        if (raw == byte.class || raw == Byte.class) return (byte) 1;
+        if (raw == short.class || raw == Short.class) return (short) 1;
+        if (raw == char.class || raw == Character.class) return 'c';
+        if (raw == int.class || raw == Integer.class) return 1;
+        if (raw == long.class || raw == Long.class) return 1L;
+        if (raw == float.class || raw == Float.class) return 1.5f;
+        if (raw == double.class || raw == Double.class) return 1.5;
+        if (raw == String.class) return "warmup";
+        if (raw == UUID.class) return WARMUP_ID;
+        if (raw.isEnum()) {
+            Object[] constants = raw.getEnumConstants();
+            return constants.length == 0 ? null : constants[0];
+        }
+        if (raw.isArray()) {
+            return raw.getComponentType().isPrimitive()
+                    ? Array.newInstance(raw.getComponentType(), 2)
+                    : null;
+        }
+        if (raw == BitSet.class) {
+            BitSet bits = new BitSet();
+            bits.set(1);
+            return bits;
+        }
+        if (depth >= MAX_DEPTH) return null;
+
+        Object element = codec.arguments.length > 0 ? sample(codec.arguments[0], depth + 1) : null;
+        if (raw == Optional.class) return Optional.ofNullable(element);
+        if (raw == EnumSet.class) {
+            return element instanceof Enum<?> constant ? EnumSet.of((Enum) constant) : null;
+        }
+        if (Collection.class.isAssignableFrom(raw)) {
+            Collection collection =
+                    isConcrete(raw)
+                            ? (Collection) newInstance(raw)
+                            : Set.class.isAssignableFrom(raw)
+                                    ? new LinkedHashSet<>()
+                                    : new ArrayList<>();
+            if (element != null) collection.add(element);
+            return collection;
+        }
+        if (Map.class.isAssignableFrom(raw)) {
+            Map map = isConcrete(raw) ? (Map) newInstance(raw) : new LinkedHashMap<>();
+            Object value =
+                    codec.arguments.length > 1 ? sample(codec.arguments[1], depth + 1) : null;
+            if (element != null && value != null) map.put(element, value);
+            return map;
+        }
+
+        if (codec.objectSchema != null) {
+            return fill(codec.objectSchema.instantiator, codec.objectSchema.fields, depth + 1);
+        }
+        if (codec.polymorphicSchema != null) {
+            ObjectSchema subtype = codec.polymorphicSchema.subtypes[0];
+            return fill(subtype.instantiator, subtype.fields, depth + 1);
+        }
+        return null;
+    }
+
+    private static boolean isConcrete(Class<?> type) {
+        return !type.isInterface() && !Modifier.isAbstract(type.getModifiers());
+    }
+
+    private static Object newInstance(Class<?> type) {
+        try {
+            return type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                    "Cannot instantiate " + type.getName() + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package io.fjsn.chirp.internal.serialization;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.converter.BinaryFieldConverter;
+import io.fjsn.chirp.converter.BinaryReader;
+import io.fjsn.chirp.converter.BinaryWriter;
+import io.fjsn.chirp.converter.FieldConverter;
+import io.fjsn.chirp.converter.JsonStreamConverter;
+import io.fjsn.chirp.converter.StreamingFieldConverter;
+import io.fjsn.chirp.internal.schema.CodecNode;
+import io.fjsn.chirp.internal.schema.CompositeConverter;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.reflect.Type;
+
+// Registers a StreamingFieldConverter alongside the built-in converters. Binary and streaming
+// JSON write straight to the output; only the tree serializer, kept for .streaming(false),
+// round-trips each value through JSON text.
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class StreamingConverterAdapter
+        implements FieldConverter<Object>,
+                BinaryFieldConverter<Object>,
+                JsonStreamConverter<Object>,
+                CompositeConverter<Object> {
+
+    private final StreamingFieldConverter converter;
+
+    public StreamingConverterAdapter(StreamingFieldConverter<?> converter) {
+        if (converter == null) {
+            throw new IllegalArgumentException("Converter cannot be null");
+        }
+        this.converter = converter;
+    }
+
+    public StreamingFieldConverter<?> getConverter() {
+        return converter;
+    }
+
+    @Override
+    public JsonElement serialize(Object value, Type type, ChirpRegistry registry) {
+        if (value == null) return null;
+        return serialize(value, registry.resolveCodec(type), registry);
+    }
+
+    @Override
+    public Object deserialize(JsonElement json, Type type, ChirpRegistry registry) {
+        if (json == null || json.isJsonNull()) return null;
+        return deserialize(json, registry.resolveCodec(type), registry);
+    }
+
+    @Override
+    public void write(Object value, Type type, BinaryWriter writer, ChirpRegistry registry) {
+        write(value, registry.resolveCodec(type), writer, registry);
+    }
+
+    @Override
+    public Object read(BinaryReader reader, Type type, ChirpRegistry registry) {
+        return read(reader, registry.resolveCodec(type), registry);
+    }
+
+    @Override
+    public void write(Object value, Type type, JsonWriter writer, ChirpRegistry registry)
+            throws IOException {
+        write(value, registry.resolveCodec(type), writer, registry);
+    }
+
+    @Override
+    public Object read(JsonReader reader, Type type, ChirpRegistry registry) throws IOException {
+        return read(reader, registry.resolveCodec(type), registry);
+    }
+
+    @Override
+    public JsonElement serialize(Object value, CodecNode node, ChirpRegistry registry) {
+        if (value == null) return null;
+        try {
+            StringWriter json = new StringWriter();
+            write(value, node, new JsonWriter(json), registry);
+            return JsonParser.parseString(json.toString());
+        } catch (IOException e) {
+            throw new IllegalStateException(
+                    "Failed to serialize " + node.type.getTypeName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(JsonElement json, CodecNode node, ChirpRegistry registry) {
+        if (json == null || json.isJsonNull()) return null;
+        try {
+            return read(new JsonReader(new StringReader(json.toString())), node, registry);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(
+                    "Failed to deserialize " + node.type.getTypeName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void write(Object value, CodecNode node, BinaryWriter writer, ChirpRegistry registry) {
+        try {
+            converter.write(value, node, new BinaryFieldWriter(writer, registry));
+        } catch (IOException e) {
+            throw new IllegalStateException(
+                    "Failed to write " + node.type.getTypeName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Object read(BinaryReader reader, CodecNode node, ChirpRegistry registry) {
+        try {
+            return converter.read(node, new BinaryFieldReader(reader, registry));
+        } catch (IOException e) {
+            throw new IllegalArgumentException(
+                    "Failed to read " + node.type.getTypeName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void write(Object value, CodecNode node, JsonWriter writer, ChirpRegistry registry)
+            throws IOException {
+        converter.write(value, node, new JsonFieldWriter(writer, registry));
+    }
+
+    @Override
+    public Object read(JsonReader reader, CodecNode node, ChirpRegistry registry)
+            throws IOException {
+        return converter.read(node, new JsonFieldReader(reader, registry));
+    }
+}
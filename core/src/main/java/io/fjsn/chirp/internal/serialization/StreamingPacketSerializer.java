@@ -0,0 +1,715 @@
+package io.fjsn.chirp.internal.serialization;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.Strictness;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.converter.BinaryWriter;
+import io.fjsn.chirp.internal.schema.CodecNode;
+import io.fjsn.chirp.internal.schema.FieldSchema;
+import io.fjsn.chirp.internal.schema.ObjectSchema;
+import io.fjsn.chirp.internal.schema.PacketSchema;
+import io.fjsn.chirp.internal.util.ChirpLogger;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+public class StreamingPacketSerializer {
+
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    // packetId, type, origin, responding, self and sent; respondingTo only comes with responses.
+    private static final int HEADER_FIELDS = 6;
+
+    // Matches JsonElement#toString so legacy converter output is byte-for-byte identical.
+    private static final Gson ELEMENT_GSON =
+            new GsonBuilder().disableHtmlEscaping().serializeNulls().create();
+
+    private static final ThreadLocal<StringBuilderWriter> BUFFERS =
+            ThreadLocal.withInitial(StringBuilderWriter::new);
+
+    public static String toJsonString(
+            Object packet,
+            UUID packetId,
+            String origin,
+            boolean responding,
+            UUID respondingTo,
+            boolean self,
+            long sent,
+            ChirpRegistry registry) {
+        long startTime = System.nanoTime();
+
+        if (packet == null) throw new IllegalArgumentException("Packet cannot be null");
+
+        String type = ChirpRegistry.packetTypeName(packet.getClass());
+        PacketSchema schema = registry.getPacketSchema(packet.getClass());
+
+        StringBuilderWriter buffer = BUFFERS.get();
+        buffer.reset();
+
+        writePacket(
+                buffer,
+                packet,
+                schema,
+                type,
+                packetId,
+                origin,
+                responding,
+                respondingTo,
+                self,
+                sent,
+                registry);
+
+        String jsonString = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            BUFFERS.remove();
+        }
+
+        long endTime = System.nanoTime();
+        ChirpLogger.debug(
+                "Serialized object to JSON string (streaming) in "
+                        + (endTime - startTime) / 1_000_000.0
+                        + "ms.");
+        return jsonString;
+    }
+
+    // Encodes straight to pooled UTF-8 bytes, skipping the intermediate String and its re-encoding.
+    public static byte[] toJsonBytes(
+            Object packet,
+            UUID packetId,
+            String origin,
+            boolean responding,
+            UUID respondingTo,
+            boolean self,
+            long sent,
+            ChirpRegistry registry) {
+        long startTime = System.nanoTime();
+
+        if (packet == null) throw new IllegalArgumentException("Packet cannot be null");
+
+        String type = ChirpRegistry.packetTypeName(packet.getClass());
+        PacketSchema schema = registry.getPacketSchema(packet.getClass());
+
+        byte[] bytes;
+        BinaryWriter buffer = PacketBuffers.JSON.acquire(packet.getClass());
+        try {
+            writePacket(
+                    new Utf8Writer(buffer),
+                    packet,
+                    schema,
+                    type,
+                    packetId,
+                    origin,
+                    responding,
+                    respondingTo,
+                    self,
+                    sent,
+                    registry);
+            bytes = PacketBuffers.JSON.finish(packet.getClass(), buffer);
+        } finally {
+            PacketBuffers.JSON.release(buffer);
+        }
+
+        long endTime = System.nanoTime();
+        ChirpLogger.debug(
+                "Serialized object to "
+                        + bytes.length
+                        + " JSON bytes (streaming) in "
+                        + (endTime - startTime) / 1_000_000.0
+                        + "ms.");
+        return bytes;
+    }
+
+    private static void writePacket(
+            Writer output,
+            Object packet,
+            PacketSchema schema,
+            String type,
+            UUID packetId,
+            String origin,
+            boolean responding,
+            UUID respondingTo,
+            boolean self,
+            long sent,
+            ChirpRegistry registry) {
+        try {
+            JsonWriter writer = new JsonWriter(output);
+            writer.setStrictness(Strictness.LENIENT);
+
+            writer.beginObject();
+            writer.name("packetId").value(packetId.toString());
+            writer.name("type").value(type);
+            writer.name("origin").value(origin);
+            writer.name("responding").value(responding);
+            if (responding) writer.name("respondingTo").value(respondingTo.toString());
+            writer.name("self").value(self);
+            writer.name("sent").value(sent);
+            writer.name("data");
+            if (schema.bodyCache != null) {
+                writer.jsonValue(
+                        schema.bodyCache.json(
+                                packet, cached -> writeData(cached, schema, registry)));
+            } else {
+                writeFields(packet, schema.fields, writer, registry);
+            }
+            writer.endObject();
+            writer.flush();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write packet JSON: " + e.getMessage(), e);
+        }
+    }
+
+    private static String writeData(Object packet, PacketSchema schema, ChirpRegistry registry) {
+        StringWriter output = new StringWriter();
+        try {
+            JsonWriter writer = new JsonWriter(output);
+            writer.setStrictness(Strictness.LENIENT);
+            writeFields(packet, schema.fields, writer, registry);
+            writer.flush();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write packet JSON: " + e.getMessage(), e);
+        }
+        return output.toString();
+    }
+
+    public static PacketEnvelope fromJsonString(String jsonString, ChirpRegistry registry)
+            throws ReflectiveOperationException {
+        return fromJson(new StringReader(jsonString), registry, null);
+    }
+
+    public static PacketEnvelope fromJsonBytes(byte[] json, ChirpRegistry registry)
+            throws ReflectiveOperationException {
+        return fromJson(new Utf8Reader(json), registry, null);
+    }
+
+    // Returns null for a header the filter rejects, in which case the body is not decoded.
+    public static PacketEnvelope fromJsonBytes(
+            byte[] json, ChirpRegistry registry, Predicate<PacketHeader> filter)
+            throws ReflectiveOperationException {
+        return fromJson(new Utf8Reader(json), registry, filter);
+    }
+
+    private static PacketEnvelope fromJson(
+            Reader input, ChirpRegistry registry, Predicate<PacketHeader> filter)
+            throws ReflectiveOperationException {
+        long startTime = System.nanoTime();
+
+        UUID packetId = null;
+        String type = null;
+        String origin = null;
+        boolean responding = false;
+        UUID respondingTo = null;
+        boolean self = false;
+        long sent = 0L;
+        int headerFields = 0;
+        PacketHeader header = null;
+        Object packet = null;
+        JsonObject bufferedData = null;
+
+        try (JsonReader reader = new JsonReader(input)) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "packetId" -> {
+                        packetId = UUID.fromString(reader.nextString());
+                        headerFields++;
+                    }
+                    case "type" -> {
+                        type = reader.nextString();
+                        headerFields++;
+                    }
+                    case "origin" -> {
+                        origin = reader.nextString();
+                        headerFields++;
+                    }
+                    case "responding" -> {
+                        responding = reader.nextBoolean();
+                        headerFields++;
+                    }
+                    case "respondingTo" -> respondingTo = UUID.fromString(reader.nextString());
+                    case "self" -> {
+                        self = reader.nextBoolean();
+                        headerFields++;
+                    }
+                    case "sent" -> {
+                        sent = reader.nextLong();
+                        headerFields++;
+                    }
+                    case "data" -> {
+                        if (headerFields < HEADER_FIELDS || (responding && respondingTo == null)) {
+                            // Producers other than Chirp may not put the header first.
+                            bufferedData = JsonParser.parseReader(reader).getAsJsonObject();
+                            continue;
+                        }
+
+                        header =
+                                new PacketHeader(
+                                        packetId,
+                                        type,
+                                        origin,
+                                        responding,
+                                        respondingTo,
+                                        self,
+                                        sent);
+                        if (filter != null && !filter.test(header)) return null;
+
+                        PacketSchema schema = findPacketSchema(type, registry);
+                        boolean[] projection = responding ? null : schema.projection;
+                        packet = schema.instantiator.newInstance();
+                        readPacketFields(packet, schema.fields, projection, reader, registry);
+                        packet = schema.instantiator.complete(packet);
+                    }
+                    default -> reader.skipValue();
+                }
+            }
+            reader.endObject();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed packet JSON: " + e.getMessage(), e);
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("Packet JSON is missing its 'type' property");
+        }
+        if (header == null) {
+            if (bufferedData == null) {
+                throw new IllegalArgumentException("Packet JSON is missing its 'data' property");
+            }
+            header = new PacketHeader(packetId, type, origin, responding, respondingTo, self, sent);
+            if (filter != null && !filter.test(header)) return null;
+
+            PacketSchema schema = findPacketSchema(type, registry);
+            packet =
+                    PacketSerializer.deserializeData(
+                            schema, bufferedData, responding ? null : schema.projection, registry);
+        }
+
+        long endTime = System.nanoTime();
+        ChirpLogger.debug(
+                "Deserialized JSON string to object (streaming) in "
+                        + (endTime - startTime) / 1_000_000.0
+                        + "ms.");
+
+        return new PacketEnvelope(header, packet);
+    }
+
+    private static PacketSchema findPacketSchema(String type, ChirpRegistry registry) {
+        PacketSchema schema = registry.getPacketSchemaRegistry().get(type.toUpperCase());
+        if (schema == null) {
+            throw new IllegalStateException(
+                    "Unknown packet type or schema not found for: "
+                            + type
+                            + ". Ensure it's registered during Chirp initialization.");
+        }
+        return schema;
+    }
+
+    private static void writeFields(
+            Object instance, List<FieldSchema> fields, JsonWriter writer, ChirpRegistry registry)
+            throws IOException {
+        writer.beginObject();
+        for (FieldSchema fieldSchema : fields) {
+            CodecNode codec = fieldSchema.codec;
+            writer.name(fieldSchema.fieldName);
+            if (codec.primitiveConverter != null) {
+                codec.primitiveConverter.writeField(instance, fieldSchema.accessor, writer);
+                continue;
+            }
+            writeValue(fieldSchema.accessor.get(instance), codec, writer, registry);
+        }
+        writer.endObject();
+    }
+
+    private static void readPacketFields(
+            Object packet,
+            List<FieldSchema> fields,
+            boolean[] projection,
+            JsonReader reader,
+            ChirpRegistry registry)
+            throws IOException {
+        boolean[] seen = readFields(packet, fields, projection, reader, registry);
+
+        // Mirror the tree-based path, which clears any field missing from the payload.
+        for (int i = 0; i < seen.length; i++) {
+            FieldSchema fieldSchema = fields.get(i);
+            if (!seen[i] && !fieldSchema.rawType.isPrimitive()) {
+                fieldSchema.accessor.set(packet, null);
+            }
+        }
+    }
+
+    // Fields left out of the projection are skipped without being decoded, and keep the value
+    // they were constructed with.
+    private static boolean[] readFields(
+            Object instance,
+            List<FieldSchema> fields,
+            boolean[] projection,
+            JsonReader reader,
+            ChirpRegistry registry)
+            throws IOException {
+        boolean[] seen = new boolean[fields.size()];
+        int expected = 0;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            int index = indexOf(fields, name, expected);
+            if (index < 0) {
+                reader.skipValue();
+                continue;
+            }
+
+            FieldSchema fieldSchema = fields.get(index);
+            seen[index] = true;
+            expected = index + 1;
+            if (projection != null && !projection[index]) {
+                reader.skipValue();
+                continue;
+            }
+
+            CodecNode codec = fieldSchema.codec;
+            if (codec.primitiveConverter != null && reader.peek() != JsonToken.NULL) {
+                codec.primitiveConverter.readField(instance, fieldSchema.accessor, reader);
+                continue;
+            }
+
+            Object value = readValue(reader, codec, registry);
+            if (value != null || !fieldSchema.rawType.isPrimitive()) {
+                fieldSchema.accessor.set(instance, value);
+            }
+        }
+        reader.endObject();
+        return seen;
+    }
+
+    private static int indexOf(List<FieldSchema> fields, String name, int expected) {
+        int size = fields.size();
+        for (int i = 0; i < size; i++) {
+            int index = (expected + i) % size;
+            if (fields.get(index).fieldName.equals(name)) return index;
+        }
+        return -1;
+    }
+
+    public static void writeValue(
+            Object value, Type type, JsonWriter writer, ChirpRegistry registry) throws IOException {
+        if (value == null) {
+            writer.nullValue();
+            return;
+        }
+        writeValue(value, registry.resolveCodec(type), writer, registry);
+    }
+
+    public static void writeValue(
+            Object value, CodecNode codec, JsonWriter writer, ChirpRegistry registry)
+            throws IOException {
+        if (value == null) {
+            writer.nullValue();
+            return;
+        }
+
+        if (codec.compositeConverter != null) {
+            codec.compositeConverter.write(value, codec, writer, registry);
+            return;
+        }
+
+        if (codec.streamConverter != null) {
+            codec.streamConverter.write(value, codec.type, writer, registry);
+            return;
+        }
+
+        if (codec.converter != null) {
+            JsonElement element = codec.converter.serialize(value, codec.type, registry);
+            if (element == null) {
+                writer.nullValue();
+            } else {
+                ELEMENT_GSON.toJson(element, writer);
+            }
+            return;
+        }
+
+        if (codec.objectSchema != null) {
+            writeFields(value, codec.objectSchema.fields, writer, registry);
+            return;
+        }
+
+        if (codec.polymorphicSchema != null) {
+            int index = codec.polymorphicSchema.indexOf(value.getClass());
+            writer.beginArray();
+            writer.value(index);
+            writeFields(value, codec.polymorphicSchema.subtypes[index].fields, writer, registry);
+            writer.endArray();
+            return;
+        }
+
+        if (codec.objectType) {
+            throw PacketSerializer.missingObjectSchema(codec.type);
+        }
+
+        throw new IllegalArgumentException(
+                "No converter or strategy for type: "
+                        + codec.type.getTypeName()
+                        + " (for value: "
+                        + value
+                        + ")");
+    }
+
+    public static Object readValue(JsonReader reader, Type type, ChirpRegistry registry)
+            throws IOException {
+        return readValue(reader, registry.resolveCodec(type), registry);
+    }
+
+    public static Object readValue(JsonReader reader, CodecNode codec, ChirpRegistry registry)
+            throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+
+        if (codec.compositeConverter != null) {
+            return codec.compositeConverter.read(reader, codec, registry);
+        }
+
+        if (codec.streamConverter != null) {
+            return codec.streamConverter.read(reader, codec.type, registry);
+        }
+
+        if (codec.converter != null) {
+            return codec.converter.deserialize(
+                    JsonParser.parseReader(reader), codec.type, registry);
+        }
+
+        if (codec.objectSchema != null) {
+            Object instance = codec.objectSchema.instantiator.newInstance();
+            readFields(instance, codec.objectSchema.fields, null, reader, registry);
+            return codec.objectSchema.instantiator.complete(instance);
+        }
+
+        if (codec.polymorphicSchema != null) {
+            reader.beginArray();
+            ObjectSchema subtype = codec.polymorphicSchema.subtype(reader.nextInt());
+            Object instance = subtype.instantiator.newInstance();
+            readFields(instance, subtype.fields, null, reader, registry);
+            reader.endArray();
+            return subtype.instantiator.complete(instance);
+        }
+
+        if (codec.objectType) {
+            throw PacketSerializer.missingObjectSchema(codec.type);
+        }
+
+        throw new IllegalArgumentException(
+                "No converter or strategy for type: " + codec.type.getTypeName());
+    }
+
+    private static final class StringBuilderWriter extends Writer {
+
+        private final StringBuilder builder = new StringBuilder(256);
+
+        void reset() {
+            builder.setLength(0);
+        }
+
+        int capacity() {
+            return builder.capacity();
+        }
+
+        @Override
+        public void write(int c) {
+            builder.append((char) c);
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            builder.append(chars, offset, length);
+        }
+
+        @Override
+        public void write(String string, int offset, int length) {
+            builder.append(string, offset, offset + length);
+        }
+
+        @Override
+        public Writer append(CharSequence sequence) {
+            builder.append(sequence);
+            return this;
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() {}
+
+        @Override
+        public String toString() {
+            return builder.toString();
+        }
+    }
+
+    private static final class Utf8Writer extends Writer {
+
+        private final BinaryWriter buffer;
+        private int highSurrogate = -1;
+
+        Utf8Writer(BinaryWriter buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int c) {
+            writeChar((char) c);
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            buffer.ensureCapacity(length);
+            for (int i = offset; i < offset + length; i++) writeChar(chars[i]);
+        }
+
+        @Override
+        public void write(String string, int offset, int length) {
+            buffer.ensureCapacity(length);
+            for (int i = offset; i < offset + length; i++) writeChar(string.charAt(i));
+        }
+
+        private void writeChar(char c) {
+            if (highSurrogate >= 0) {
+                int high = highSurrogate;
+                highSurrogate = -1;
+                if (Character.isLowSurrogate(c)) {
+                    int codePoint = Character.toCodePoint((char) high, c);
+                    buffer.writeByte(0xF0 | (codePoint >>> 18));
+                    buffer.writeByte(0x80 | ((codePoint >>> 12) & 0x3F));
+                    buffer.writeByte(0x80 | ((codePoint >>> 6) & 0x3F));
+                    buffer.writeByte(0x80 | (codePoint & 0x3F));
+                    return;
+                }
+                buffer.writeByte('?');
+            }
+
+            if (c < 0x80) {
+                buffer.writeByte(c);
+            } else if (c < 0x800) {
+                buffer.writeByte(0xC0 | (c >>> 6));
+                buffer.writeByte(0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c)) {
+                highSurrogate = c;
+            } else if (Character.isLowSurrogate(c)) {
+                buffer.writeByte('?');
+            } else {
+                buffer.writeByte(0xE0 | (c >>> 12));
+                buffer.writeByte(0x80 | ((c >>> 6) & 0x3F));
+                buffer.writeByte(0x80 | (c & 0x3F));
+            }
+        }
+
+        @Override
+        public void flush() {
+            if (highSurrogate >= 0) {
+                highSurrogate = -1;
+                buffer.writeByte('?');
+            }
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+    }
+
+    private static final class Utf8Reader extends Reader {
+
+        private final byte[] bytes;
+        private int position;
+        private int lowSurrogate = -1;
+
+        Utf8Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public int read(char[] chars, int offset, int length) {
+            if (length == 0) return 0;
+            if (position >= bytes.length && lowSurrogate < 0) return -1;
+
+            int count = 0;
+            if (lowSurrogate >= 0) {
+                chars[offset + count++] = (char) lowSurrogate;
+                lowSurrogate = -1;
+            }
+
+            while (count < length && position < bytes.length) {
+                int b = bytes[position];
+                if (b >= 0) {
+                    chars[offset + count++] = (char) b;
+                    position++;
+                    continue;
+                }
+
+                int codePoint = readMultiByte();
+                if (codePoint < 0x10000) {
+                    chars[offset + count++] = (char) codePoint;
+                } else {
+                    chars[offset + count++] = Character.highSurrogate(codePoint);
+                    if (count < length) {
+                        chars[offset + count++] = Character.lowSurrogate(codePoint);
+                    } else {
+                        lowSurrogate = Character.lowSurrogate(codePoint);
+                    }
+                }
+            }
+            return count;
+        }
+
+        private int readMultiByte() {
+            int b = bytes[position] & 0xFF;
+            int extra;
+            int codePoint;
+            if ((b & 0xE0) == 0xC0) {
+                extra = 1;
+                codePoint = b & 0x1F;
+            } else if ((b & 0xF0) == 0xE0) {
+                extra = 2;
+                codePoint = b & 0x0F;
+            } else if ((b & 0xF8) == 0xF0) {
+                extra = 3;
+                codePoint = b & 0x07;
+            } else {
+                position++;
+                return 0xFFFD;
+            }
+
+            if (position + extra >= bytes.length) {
+                position = bytes.length;
+                return 0xFFFD;
+            }
+            for (int i = 1; i <= extra; i++) {
+                int next = bytes[position + i] & 0xFF;
+                if ((next & 0xC0) != 0x80) {
+                    position += i;
+                    return 0xFFFD;
+                }
+                codePoint = (codePoint << 6) | (next & 0x3F);
+            }
+            position += extra + 1;
+            return codePoint > Character.MAX_CODE_POINT ? 0xFFFD : codePoint;
+        }
+
+        @Override
+        public void close() {}
+    }
+}
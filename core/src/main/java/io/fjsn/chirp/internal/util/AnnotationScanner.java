@@ -5,6 +5,7 @@ import io.fjsn.chirp.annotation.ChirpConverter;
 import io.fjsn.chirp.annotation.ChirpListener;
 import io.fjsn.chirp.annotation.ChirpPacket;
 import io.fjsn.chirp.converter.FieldConverter;
+import io.fjsn.chirp.converter.StreamingFieldConverter;
 
 import org.reflections.Reflections;
 import org.reflections.scanners.Scanners;
@@ -12,35 +13,58 @@ import org.reflections.scanners.Scanners;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
 import java.util.stream.Collectors;
 
 public class AnnotationScanner {
 
     public static void scan(String packageName, ChirpRegistry registry) {
+        scan(packageName, registry, false);
+    }
+
+    public static void scan(String packageName, ChirpRegistry registry, boolean parallel) {
         long startTime = System.currentTimeMillis();
-        Reflections reflections = new Reflections(packageName, Scanners.TypesAnnotated);
         ChirpLogger.info("AnnotationScanner: Starting scan for package: " + packageName);
 
         long currentSegmentStart = System.nanoTime();
-        for (Class<?> packetClass :
-                reflections.getTypesAnnotatedWith(ChirpPacket.class).stream()
-                        .filter(c -> !c.getPackage().getName().contains("shaded"))
-                        .collect(Collectors.toList())) {
-            ChirpPacket chirpPacketAnnotation = packetClass.getAnnotation(ChirpPacket.class);
-            if (chirpPacketAnnotation != null && !chirpPacketAnnotation.scan()) {
-                continue;
-            }
+        Collection<Class<?>> packetClasses;
+        Collection<Class<?>> converterClasses;
+        Collection<Class<?>> listenerClasses;
+        ScanIndex index = ScanIndex.load(packageName, AnnotationScanner.class.getClassLoader());
+        if (index != null) {
+            packetClasses = index.packets;
+            converterClasses = index.converters;
+            listenerClasses = index.listeners;
+        } else {
+            Reflections reflections = new Reflections(packageName, Scanners.TypesAnnotated);
+            packetClasses = reflections.getTypesAnnotatedWith(ChirpPacket.class);
+            converterClasses = reflections.getTypesAnnotatedWith(ChirpConverter.class);
+            listenerClasses = reflections.getTypesAnnotatedWith(ChirpListener.class);
+        }
+        ChirpLogger.debug(
+                "AnnotationScanner: "
+                        + (index != null ? "Read build-time index" : "Scanned classpath")
+                        + " in "
+                        + (System.nanoTime() - currentSegmentStart) / 1_000_000.0
+                        + "ms.");
 
-            try {
-                registry.registerPacket(packetClass);
-            } catch (IllegalArgumentException e) {
-                throw new RuntimeException(
-                        "AnnotationScanner: Failed to register packet during scan: "
-                                + packetClass.getName()
-                                + " - "
-                                + e.getMessage(),
-                        e);
-            }
+        currentSegmentStart = System.nanoTime();
+        List<Class<?>> scannedPackets =
+                packetClasses.stream()
+                        .filter(c -> !c.getPackage().getName().contains("shaded"))
+                        .filter(
+                                c -> {
+                                    ChirpPacket annotation = c.getAnnotation(ChirpPacket.class);
+                                    return annotation == null || annotation.scan();
+                                })
+                        .collect(Collectors.toList());
+        try {
+            registry.registerPackets(scannedPackets, parallel);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException(
+                    "AnnotationScanner: Failed to register packet during scan: " + e.getMessage(),
+                    e);
         }
         long packetScanTime = System.nanoTime() - currentSegmentStart;
         ChirpLogger.debug(
@@ -50,7 +74,7 @@ public class AnnotationScanner {
 
         currentSegmentStart = System.nanoTime();
         for (Class<?> converterClass :
-                reflections.getTypesAnnotatedWith(ChirpConverter.class).stream()
+                converterClasses.stream()
                         .filter(c -> !c.getPackage().getName().contains("shaded"))
                         .collect(Collectors.toList())) {
 
@@ -61,25 +85,34 @@ public class AnnotationScanner {
             }
 
             try {
-                if (!FieldConverter.class.isAssignableFrom(converterClass)) {
+                boolean streaming = StreamingFieldConverter.class.isAssignableFrom(converterClass);
+                if (!streaming && !FieldConverter.class.isAssignableFrom(converterClass)) {
                     throw new IllegalArgumentException(
                             "Converter class "
                                     + converterClass.getName()
-                                    + " does not implement FieldConverter");
+                                    + " does not implement FieldConverter or"
+                                    + " StreamingFieldConverter");
                 }
 
-                Class<?> convertedType = getConverterGenericType(converterClass);
+                Class<?> spi = streaming ? StreamingFieldConverter.class : FieldConverter.class;
+                Class<?> convertedType = getConverterGenericType(converterClass, spi);
                 if (convertedType == null) {
                     throw new IllegalArgumentException(
                             "Cannot determine generic type for converter: "
                                     + converterClass.getName()
-                                    + ". Ensure it implements FieldConverter<T>.");
+                                    + ". Ensure it implements "
+                                    + spi.getSimpleName()
+                                    + "<T>.");
                 }
 
-                FieldConverter<?> converterInstance =
-                        (FieldConverter<?>) converterClass.getDeclaredConstructor().newInstance();
-
-                registry.registerConverter(convertedType, converterInstance);
+                Object converterInstance = converterClass.getDeclaredConstructor().newInstance();
+                if (streaming) {
+                    registry.registerConverter(
+                            convertedType, (StreamingFieldConverter<?>) converterInstance);
+                } else {
+                    registry.registerConverter(
+                            convertedType, (FieldConverter<?>) converterInstance);
+                }
             } catch (Exception e) {
                 throw new RuntimeException(
                         "AnnotationScanner: Failed to register converter during scan: "
@@ -97,7 +130,7 @@ public class AnnotationScanner {
 
         currentSegmentStart = System.nanoTime();
         for (Class<?> listenerClass :
-                reflections.getTypesAnnotatedWith(ChirpListener.class).stream()
+                listenerClasses.stream()
                         .filter(c -> !c.getPackage().getName().contains("shaded"))
                         .collect(Collectors.toList())) {
 
@@ -137,13 +170,12 @@ public class AnnotationScanner {
                         + "ms.");
     }
 
-    private static Class<?> getConverterGenericType(Class<?> converterClass) {
+    private static Class<?> getConverterGenericType(Class<?> converterClass, Class<?> spi) {
         for (Type iface : converterClass.getGenericInterfaces()) {
             if (iface instanceof ParameterizedType) {
                 ParameterizedType paramType = (ParameterizedType) iface;
                 if (paramType.getRawType() instanceof Class
-                        && FieldConverter.class.isAssignableFrom(
-                                (Class<?>) paramType.getRawType())) {
+                        && spi.isAssignableFrom((Class<?>) paramType.getRawType())) {
                     Type[] typeArgs = paramType.getActualTypeArguments();
                     if (typeArgs.length == 1) {
                         Type typeArg = typeArgs[0];
@@ -0,0 +1,61 @@
+package io.fjsn.chirp.internal.util;
+
+import io.fjsn.chirp.internal.handler.GeneratedDispatcher;
+import io.fjsn.chirp.internal.schema.GeneratedCodec;
+
+// Finds the classes chirp-processor generated next to a packet or listener at build time. Each
+// class is looked up once; classes compiled without the processor simply have none.
+public class GeneratedClasses {
+
+    public static final String CODEC_SUFFIX = "$ChirpCodec";
+    public static final String DISPATCHER_SUFFIX = "$ChirpDispatcher";
+
+    private static final ClassValue<GeneratedCodec> CODECS =
+            new ClassValue<>() {
+                @Override
+                protected GeneratedCodec computeValue(Class<?> type) {
+                    return load(type, CODEC_SUFFIX, GeneratedCodec.class);
+                }
+            };
+
+    private static final ClassValue<GeneratedDispatcher> DISPATCHERS =
+            new ClassValue<>() {
+                @Override
+                protected GeneratedDispatcher computeValue(Class<?> type) {
+                    return load(type, DISPATCHER_SUFFIX, GeneratedDispatcher.class);
+                }
+            };
+
+    public static GeneratedCodec codec(Class<?> type) {
+        return CODECS.get(type);
+    }
+
+    public static GeneratedDispatcher dispatcher(Class<?> type) {
+        return DISPATCHERS.get(type);
+    }
+
+    private static <T> T load(Class<?> owner, String suffix, Class<T> generatedType) {
+        Class<?> generated;
+        try {
+            generated = Class.forName(owner.getName() + suffix, true, owner.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+
+        try {
+            if (!generatedType.isAssignableFrom(generated)) {
+                throw new IllegalStateException(
+                        "it does not implement " + generatedType.getSimpleName());
+            }
+            ChirpLogger.debug("GeneratedClasses: Using " + generated.getName() + ".");
+            return generatedType.cast(generated.getDeclaredConstructor().newInstance());
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            ChirpLogger.warning(
+                    "GeneratedClasses: Ignoring "
+                            + generated.getName()
+                            + ", falling back to runtime generation: "
+                            + e.getMessage());
+            return null;
+        }
+    }
+}
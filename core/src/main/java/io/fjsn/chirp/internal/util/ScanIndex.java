@@ -0,0 +1,92 @@
+package io.fjsn.chirp.internal.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// Reads the META-INF/chirp.index files chirp-processor writes at build time. Each line is a kind
+// (packet, converter or listener) followed by the binary name of an annotated class.
+public class ScanIndex {
+
+    public static final String RESOURCE = "META-INF/chirp.index";
+
+    public final List<Class<?>> packets = new ArrayList<>();
+    public final List<Class<?>> converters = new ArrayList<>();
+    public final List<Class<?>> listeners = new ArrayList<>();
+
+    // Returns null when no index on the classpath lists a class in the package, in which case the
+    // package has to be scanned.
+    public static ScanIndex load(String packageName, ClassLoader loader) {
+        Set<URL> resources = new LinkedHashSet<>();
+        for (ClassLoader candidate :
+                new ClassLoader[] {loader, Thread.currentThread().getContextClassLoader()}) {
+            if (candidate == null) continue;
+            try {
+                Enumeration<URL> urls = candidate.getResources(RESOURCE);
+                while (urls.hasMoreElements()) resources.add(urls.nextElement());
+            } catch (IOException e) {
+                ChirpLogger.warning(
+                        "ScanIndex: Failed to list " + RESOURCE + ": " + e.getMessage());
+            }
+        }
+
+        ScanIndex index = new ScanIndex();
+        Set<String> seen = new LinkedHashSet<>();
+        boolean found = false;
+        for (URL resource : resources) {
+            try (BufferedReader reader =
+                    new BufferedReader(
+                            new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (line.isEmpty() || line.startsWith("#") || !seen.add(line)) continue;
+
+                    int space = line.indexOf(' ');
+                    if (space < 0) {
+                        throw new IllegalStateException("Malformed entry: " + line);
+                    }
+                    String kind = line.substring(0, space);
+                    String className = line.substring(space + 1);
+                    if (!inPackage(className, packageName)) continue;
+
+                    found = true;
+                    List<Class<?>> classes =
+                            switch (kind) {
+                                case "packet" -> index.packets;
+                                case "converter" -> index.converters;
+                                case "listener" -> index.listeners;
+                                default ->
+                                        throw new IllegalStateException(
+                                                "Unknown entry kind: " + kind);
+                            };
+                    classes.add(Class.forName(className, false, loader));
+                }
+            } catch (ClassNotFoundException e) {
+                // A stale index must not hide classes that scanning would find.
+                ChirpLogger.warning(
+                        "ScanIndex: "
+                                + resource
+                                + " lists missing class "
+                                + e.getMessage()
+                                + ", falling back to scanning.");
+                return null;
+            } catch (IOException | IllegalStateException e) {
+                throw new RuntimeException(
+                        "ScanIndex: Failed to read " + resource + ": " + e.getMessage(), e);
+            }
+        }
+        return found ? index : null;
+    }
+
+    private static boolean inPackage(String className, String packageName) {
+        return packageName.isEmpty() || className.startsWith(packageName + ".");
+    }
+}
@@ -0,0 +1,294 @@
+package io.fjsn.chirp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.fjsn.chirp.annotation.ChirpField;
+import io.fjsn.chirp.annotation.ChirpHandler;
+import io.fjsn.chirp.annotation.ChirpListener;
+import io.fjsn.chirp.annotation.ChirpPacket;
+import io.fjsn.chirp.converter.impl.IntegerConverter;
+import io.fjsn.chirp.converter.impl.MapConverter;
+import io.fjsn.chirp.converter.impl.StringConverter;
+import io.fjsn.chirp.internal.schema.CodecNode;
+import io.fjsn.chirp.internal.schema.FieldAccessor;
+import io.fjsn.chirp.internal.schema.GeneratedCodec;
+import io.fjsn.chirp.internal.schema.Instantiator;
+import io.fjsn.chirp.internal.schema.PacketSchema;
+import io.fjsn.chirp.internal.util.AnnotationScanner;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+class ChirpRegistryTest {
+
+    private ChirpRegistry registry;
+
+    @ChirpPacket
+    public static class ValidPacket {}
+
+    @ChirpPacket
+    public static class InvalidPacket {
+
+        public InvalidPacket(String arg) {}
+    }
+
+    public static class Point {
+
+        @ChirpField private int x;
+
+        public Point() {}
+    }
+
+    @ChirpPacket
+    public static class PathPacket {
+
+        @ChirpField private Map<String, List<Point>> paths;
+
+        public PathPacket() {}
+    }
+
+    public static class Other {
+
+        @ChirpPacket
+        public static class ValidPacket {}
+    }
+
+    @ChirpPacket
+    public static class GeneratedPacket {
+
+        @ChirpField int level;
+        @ChirpField private String name;
+
+        // Stands in for the GeneratedPacket$ChirpCodec chirp-processor would write.
+        public static class ChirpCodec implements GeneratedCodec {
+
+            static final Instantiator INSTANTIATOR = GeneratedPacket::new;
+
+            @Override
+            public Instantiator instantiator() {
+                return INSTANTIATOR;
+            }
+
+            @Override
+            public FieldAccessor accessor(String fieldName) {
+                if (!fieldName.equals("level")) return null;
+                return new FieldAccessor() {
+                    @Override
+                    public Object get(Object instance) {
+                        return ((GeneratedPacket) instance).level;
+                    }
+
+                    @Override
+                    public void set(Object instance, Object value) {
+                        ((GeneratedPacket) instance).level = (Integer) value;
+                    }
+                };
+            }
+        }
+    }
+
+    @ChirpListener
+    public static class TestListener {
+
+        @ChirpHandler
+        public void onPacket(ChirpPacketEvent<ValidPacket> event) {}
+    }
+
+    @BeforeEach
+    void setUp() {
+        registry = new ChirpRegistry();
+    }
+
+    @Test
+    void shouldRegisterPacketSuccessfully() {
+        registry.registerPacket(ValidPacket.class);
+
+        assertThat(registry.getPacketRegistry()).containsKey("VALID_PACKET");
+        assertThat(registry.getPacketSchemaRegistry()).containsKey("VALID_PACKET");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenRegisteringPacketWithNoNoArgConstructor() {
+        IllegalArgumentException exception =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> registry.registerPacket(InvalidPacket.class));
+
+        assertThat(exception.getMessage()).contains("must have a no-argument constructor");
+    }
+
+    @Test
+    void shouldLinkFieldCodecsAtRegistration() {
+        registry.registerDefaultConverters();
+        registry.registerPacket(PathPacket.class);
+
+        PacketSchema schema = registry.getPacketSchema(PathPacket.class);
+        CodecNode paths = schema.fields.get(0).codec;
+        CodecNode points = paths.arguments[1].arguments[0];
+
+        assertThat(paths.compositeConverter).isInstanceOf(MapConverter.class);
+        assertThat(paths.arguments[0].converter).isInstanceOf(StringConverter.class);
+        assertThat(points.objectSchema.objectClass).isEqualTo(Point.class);
+        assertThat(points.objectSchema.fields.get(0).codec.converter)
+                .isInstanceOf(IntegerConverter.class);
+        assertThat(ChirpRegistry.packetTypeName(PathPacket.class)).isEqualTo("PATH_PACKET");
+    }
+
+    @Test
+    void parallelRegistrationShouldLinkLikeSerialRegistration() {
+        registry.registerDefaultConverters();
+        registry.registerPackets(List.of(PathPacket.class, ValidPacket.class), true);
+
+        ChirpRegistry serial = new ChirpRegistry();
+        serial.registerDefaultConverters();
+        serial.registerPacket(PathPacket.class);
+        serial.registerPacket(ValidPacket.class);
+
+        CodecNode points =
+                registry.getPacketSchema(PathPacket.class)
+                        .fields
+                        .get(0)
+                        .codec
+                        .arguments[1]
+                        .arguments[0];
+        assertThat(points.objectSchema.objectClass).isEqualTo(Point.class);
+        assertThat(registry.getPacketRegistry()).containsOnlyKeys("PATH_PACKET", "VALID_PACKET");
+        assertThat(registry.getPacketFingerprint(registry.getPacketSchema(PathPacket.class)))
+                .isEqualTo(serial.getPacketFingerprint(serial.getPacketSchema(PathPacket.class)));
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> registry.registerPackets(List.of(Other.ValidPacket.class), true));
+    }
+
+    @Test
+    void shouldRelinkCodecsWhenConverterIsRegisteredLater() {
+        registry.registerDefaultConverters();
+        registry.registerPacket(PathPacket.class);
+
+        MapConverter converter = new MapConverter();
+        registry.getConverterRegistry().remove("JAVA_UTIL_MAP");
+        registry.registerConverter(Map.class, converter);
+
+        assertThat(registry.getPacketSchema(PathPacket.class).fields.get(0).codec.converter)
+                .isSameAs(converter);
+    }
+
+    @Test
+    void shouldRejectPacketTypeNameCollisions() {
+        registry.registerPacket(ValidPacket.class);
+
+        IllegalArgumentException exception =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> registry.registerPacket(Other.ValidPacket.class));
+
+        assertThat(exception.getMessage()).contains("same simple name");
+    }
+
+    @Test
+    void fingerprintShouldReflectNestedSchemas() {
+        registry.registerDefaultConverters();
+        registry.registerPacket(PathPacket.class);
+        registry.registerPacket(ValidPacket.class);
+
+        String paths = registry.getPacketFingerprint(registry.getPacketSchema(PathPacket.class));
+        String valid = registry.getPacketFingerprint(registry.getPacketSchema(ValidPacket.class));
+
+        assertThat(paths).hasSize(16).isNotEqualTo(valid);
+        assertThat(registry.getPacketFingerprint(registry.getPacketSchema(PathPacket.class)))
+                .isEqualTo(paths);
+    }
+
+    @Test
+    void fingerprintShouldReflectEnumConstants(@TempDir Path directory) throws Exception {
+        String before = enumFingerprint(directory.resolve("before"), "LOBBY, GAME");
+        assertThat(enumFingerprint(directory.resolve("same"), "LOBBY, GAME")).isEqualTo(before);
+        assertThat(enumFingerprint(directory.resolve("reordered"), "GAME, LOBBY"))
+                .isNotEqualTo(before);
+        assertThat(enumFingerprint(directory.resolve("added"), "LOBBY, GAME, END"))
+                .isNotEqualTo(before);
+    }
+
+    // Each version of the enum needs its own class loader, since they share a class name.
+    private static String enumFingerprint(Path directory, String constants) throws Exception {
+        Path source = Files.createDirectories(directory.resolve("fp")).resolve("ModePacket.java");
+        Files.writeString(
+                source,
+                "package fp; import io.fjsn.chirp.annotation.*; import java.util.EnumSet;"
+                        + " @ChirpPacket public class ModePacket { public enum Mode { "
+                        + constants
+                        + " } @ChirpField Mode mode; @ChirpField EnumSet<Mode> modes;"
+                        + " public ModePacket() {} }");
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertThat(
+                        compiler.run(
+                                null,
+                                null,
+                                null,
+                                "-proc:none",
+                                "-cp",
+                                System.getProperty("java.class.path"),
+                                "-d",
+                                directory.toString(),
+                                source.toString()))
+                .isZero();
+
+        try (URLClassLoader loader =
+                new URLClassLoader(
+                        new URL[] {directory.toUri().toURL()},
+                        ChirpRegistryTest.class.getClassLoader())) {
+            Class<?> packetClass = loader.loadClass("fp.ModePacket");
+            ChirpRegistry registry = new ChirpRegistry();
+            registry.registerDefaultConverters();
+            registry.registerPacket(packetClass);
+            return registry.getPacketFingerprint(registry.getPacketSchema(packetClass));
+        }
+    }
+
+    @Test
+    void shouldPreferGeneratedCodecs() {
+        registry.registerDefaultConverters();
+        registry.registerPacket(GeneratedPacket.class);
+
+        PacketSchema schema = registry.getPacketSchema(GeneratedPacket.class);
+        assertThat(schema.instantiator).isSameAs(GeneratedPacket.ChirpCodec.INSTANTIATOR);
+        assertThat(schema.fields.get(0).accessor.getClass().getEnclosingClass())
+                .isEqualTo(GeneratedPacket.ChirpCodec.class);
+        assertThat(schema.fields.get(1).accessor.getClass().getEnclosingClass())
+                .isNotEqualTo(GeneratedPacket.ChirpCodec.class);
+    }
+
+    @Test
+    void scannerShouldReadBuildTimeIndex() {
+        // Scanning the package itself would fail on InvalidPacket, which the index leaves out.
+        AnnotationScanner.scan("io.fjsn.chirp", registry);
+
+        assertThat(registry.getPacketRegistry()).containsOnlyKeys("VALID_PACKET");
+        assertThat(registry.getListenerRegistry().keySet())
+                .singleElement()
+                .isInstanceOf(TestListener.class);
+    }
+
+    @Test
+    void shouldRegisterListenerSuccessfully() {
+        TestListener listener = new TestListener();
+
+        registry.registerListener(listener);
+
+        assertThat(registry.getListenerRegistry()).containsKey(listener);
+        assertThat(registry.getListenerRegistry().get(listener)).hasSize(1);
+    }
+}
@@ -0,0 +1,135 @@
+package io.fjsn.chirp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.fjsn.chirp.annotation.ChirpField;
+import io.fjsn.chirp.annotation.ChirpHandler;
+import io.fjsn.chirp.annotation.ChirpListener;
+import io.fjsn.chirp.annotation.ChirpPacket;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class ChirpTest {
+
+    @Mock private JedisPool jedisPool;
+
+    @Mock private Jedis jedis;
+
+    @Mock private Pipeline pipeline;
+
+    @Spy private ChirpRegistry registry;
+
+    private Chirp chirp;
+
+    @ChirpPacket
+    public static class SimplePacket {
+
+        @ChirpField private String data = "test-data";
+
+        public SimplePacket() {}
+    }
+
+    @ChirpPacket
+    public static class ScorePacket {
+
+        @ChirpField private List<String> names;
+        @ChirpField private int[] points;
+        @ChirpField private SimplePacket nested;
+    }
+
+    @ChirpListener
+    public static class CountingListener {
+
+        private int received;
+
+        @ChirpHandler
+        public void onScore(ChirpPacketEvent<ScorePacket> event) {
+            received++;
+        }
+    }
+
+    @BeforeEach
+    void setup() {
+        when(jedisPool.getResource()).thenReturn(jedis);
+        chirp = new Chirp("test-channel", "test-origin", registry, jedisPool);
+        registry.registerDefaultConverters();
+    }
+
+    @Test
+    void publishShouldSerializeAndSendPacketToJedis() {
+        registry.registerPacket(SimplePacket.class);
+        SimplePacket packet = new SimplePacket();
+        ArgumentCaptor<byte[]> channelCaptor = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<byte[]> messageCaptor = ArgumentCaptor.forClass(byte[].class);
+
+        chirp.publish(packet);
+
+        verify(jedis).publish(channelCaptor.capture(), messageCaptor.capture());
+
+        assertThat(new String(channelCaptor.getValue(), StandardCharsets.UTF_8))
+                .isEqualTo("chirp:test-channel");
+        assertThat(new String(messageCaptor.getValue(), StandardCharsets.UTF_8))
+                .isNotNull()
+                .contains("\"type\":\"SIMPLE_PACKET\"")
+                .contains("\"origin\":\"test-origin\"")
+                .contains("\"data\":\"test-data\"");
+    }
+
+    @Test
+    void multicastShouldSerializeOnceAndPipelinePublishes() {
+        registry.registerPacket(SimplePacket.class);
+        when(jedis.pipelined()).thenReturn(pipeline);
+        ArgumentCaptor<byte[]> channelCaptor = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<byte[]> messageCaptor = ArgumentCaptor.forClass(byte[].class);
+        ChirpCallback<SimplePacket> callback =
+                ChirpCallback.ofMultiple(SimplePacket.class, responses -> {});
+
+        chirp.publish(new SimplePacket(), List.of("lobby-1", "lobby-2", "lobby-1"), callback);
+
+        verify(pipeline, times(2)).publish(channelCaptor.capture(), messageCaptor.capture());
+        verify(pipeline).sync();
+        verify(jedis, never()).publish(any(byte[].class), any(byte[].class));
+
+        assertThat(channelCaptor.getAllValues())
+                .extracting(channel -> new String(channel, StandardCharsets.UTF_8))
+                .containsExactly("chirp:test-channel:lobby-1", "chirp:test-channel:lobby-2");
+        assertThat(messageCaptor.getAllValues().get(0))
+                .isSameAs(messageCaptor.getAllValues().get(1));
+        assertThat(registry.getCallbackRegistry()).hasSize(1).containsValue(callback);
+    }
+
+    @Test
+    void warmupShouldNotPublishOrReachRegisteredHandlers() {
+        registry.registerPacket(SimplePacket.class);
+        registry.registerPacket(ScorePacket.class);
+        CountingListener listener = new CountingListener();
+        registry.registerListener(listener);
+
+        chirp.warmup(50);
+
+        assertThat(listener.received).isZero();
+        verify(jedis, never()).publish(any(byte[].class), any(byte[].class));
+
+        chirp.publish(new SimplePacket());
+        verify(jedis).publish(any(byte[].class), any(byte[].class));
+    }
+}
@@ -0,0 +1,303 @@
+package io.fjsn.chirp.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.gson.JsonParser;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.annotation.ChirpField;
+import io.fjsn.chirp.annotation.ChirpPacket;
+import io.fjsn.chirp.converter.BinaryReader;
+import io.fjsn.chirp.internal.schema.FieldSchema;
+import io.fjsn.chirp.internal.schema.PacketSchema;
+import io.fjsn.chirp.internal.serialization.BinaryPacketSerializer;
+import io.fjsn.chirp.internal.serialization.PacketEnvelope;
+import io.fjsn.chirp.internal.serialization.PacketHeader;
+import io.fjsn.chirp.internal.serialization.PacketSerializer;
+import io.fjsn.chirp.internal.serialization.StreamingPacketSerializer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+class BinaryPacketSerializerTest {
+
+    private ChirpRegistry registry;
+
+    public enum Mode {
+        LOBBY,
+        GAME
+    }
+
+    public static class Position {
+
+        @ChirpField private double x;
+        @ChirpField private double y;
+
+        public Position() {}
+
+        public Position(double x, double y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    @ChirpPacket
+    public static class StatePacket {
+
+        @ChirpField private String name;
+        @ChirpField private int players;
+        @ChirpField private long uptime;
+        @ChirpField private boolean open;
+        @ChirpField private UUID serverId;
+        @ChirpField private Mode mode;
+        @ChirpField private List<String> tags;
+        @ChirpField private Map<String, Integer> scores;
+        @ChirpField private Optional<String> motd;
+        @ChirpField private Position spawn;
+        @ChirpField private String missing;
+
+        public StatePacket() {}
+    }
+
+    @ChirpPacket
+    public static class StatsPacket {
+
+        @ChirpField private boolean alive = true;
+        @ChirpField private byte level = -3;
+        @ChirpField private short kills = 1200;
+        @ChirpField private char rank = 'S';
+        @ChirpField private int health = -20;
+        @ChirpField private long score = Long.MAX_VALUE;
+        @ChirpField private float speed = 0.35f;
+        @ChirpField private double x = -1024.125;
+
+        public StatsPacket() {}
+    }
+
+    @ChirpPacket
+    public static class CollectionsPacket {
+
+        @ChirpField private List<String> list = List.of("a");
+        @ChirpField private Set<String> set = Set.of("b");
+        @ChirpField private Map<String, String> map = Map.of("c", "d");
+
+        public CollectionsPacket() {}
+    }
+
+    @BeforeEach
+    void setUp() {
+        registry = new ChirpRegistry();
+        registry.registerDefaultConverters();
+        registry.registerPacket(StatePacket.class);
+        registry.registerPacket(StatsPacket.class);
+        registry.registerPacket(CollectionsPacket.class);
+    }
+
+    @Test
+    void shouldAddressNegotiatedPacketsByTypeId() throws ReflectiveOperationException {
+        StatsPacket packet = new StatsPacket();
+        UUID packetId = UUID.randomUUID();
+        byte[] named =
+                BinaryPacketSerializer.serialize(
+                        packet, packetId, "origin", false, null, false, 1L, registry);
+
+        registry.assignPacketTypeId(registry.getPacketSchema(StatsPacket.class), 3);
+        byte[] numbered =
+                BinaryPacketSerializer.serialize(
+                        packet, packetId, "origin", false, null, false, 1L, registry);
+
+        assertThat(numbered.length).isLessThan(named.length);
+        PacketEnvelope envelope = BinaryPacketSerializer.deserialize(numbered, registry);
+        assertThat(envelope.type).isEqualTo("STATS_PACKET");
+        assertThat(envelope.packet).usingRecursiveComparison().isEqualTo(packet);
+
+        ChirpRegistry other = new ChirpRegistry();
+        other.registerDefaultConverters();
+        other.registerPacket(StatsPacket.class);
+        assertThatThrownBy(() -> BinaryPacketSerializer.deserialize(numbered, other))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Unknown packet type id: 3");
+    }
+
+    @Test
+    void shouldWritePrimitiveFieldsWithoutBoxing() throws Exception {
+        PacketSchema schema = registry.getPacketSchema(StatsPacket.class);
+        for (FieldSchema fieldSchema : schema.fields) {
+            assertThat(fieldSchema.codec.primitiveConverter).isNotNull();
+
+            String suffix =
+                    Character.toUpperCase(fieldSchema.rawType.getName().charAt(0))
+                            + fieldSchema.rawType.getName().substring(1);
+            assertThat(
+                            fieldSchema
+                                    .accessor
+                                    .getClass()
+                                    .getDeclaredMethod("get" + suffix, Object.class))
+                    .isNotNull();
+        }
+
+        StatsPacket packet = new StatsPacket();
+        UUID packetId = UUID.randomUUID();
+
+        byte[] bytes =
+                BinaryPacketSerializer.serialize(
+                        packet, packetId, "origin", false, null, false, 1L, registry);
+        assertThat(BinaryPacketSerializer.deserialize(bytes, registry).packet)
+                .usingRecursiveComparison()
+                .isEqualTo(packet);
+
+        String streamed =
+                StreamingPacketSerializer.toJsonString(
+                        packet, packetId, "origin", false, null, false, 1L, registry);
+        assertThat(streamed)
+                .isEqualTo(
+                        PacketSerializer.toJsonString(
+                                packet, packetId, "origin", false, null, false, 1L, registry));
+        assertThat(StreamingPacketSerializer.fromJsonString(streamed, registry).packet)
+                .usingRecursiveComparison()
+                .isEqualTo(packet);
+    }
+
+    @Test
+    void shouldRoundTripPacketThroughBinaryFormat() throws ReflectiveOperationException {
+        StatePacket packet = new StatePacket();
+        packet.name = "lobby-1";
+        packet.players = -12;
+        packet.uptime = 123_456_789_000L;
+        packet.open = true;
+        packet.serverId = UUID.randomUUID();
+        packet.mode = Mode.GAME;
+        packet.tags = new ArrayList<>(Arrays.asList("a", null, "c"));
+        packet.scores = Map.of("fred", 3, "alex", 7);
+        packet.motd = Optional.of("welcome");
+        packet.spawn = new Position(1.5, -2.25);
+
+        UUID packetId = UUID.randomUUID();
+        byte[] bytes =
+                BinaryPacketSerializer.serialize(
+                        packet, packetId, "lobby-1", false, null, true, 42L, registry);
+        PacketEnvelope envelope = BinaryPacketSerializer.deserialize(bytes, registry);
+
+        assertThat(envelope.packetId).isEqualTo(packetId);
+        assertThat(envelope.type).isEqualTo("STATE_PACKET");
+        assertThat(envelope.origin).isEqualTo("lobby-1");
+        assertThat(envelope.self).isTrue();
+        assertThat(envelope.sent).isEqualTo(42L);
+        assertThat(envelope.packet).usingRecursiveComparison().isEqualTo(packet);
+
+        String json =
+                PacketSerializer.toJsonString(
+                        packet, packetId, "lobby-1", false, null, true, 42L, registry);
+        assertThat(bytes.length).isLessThan(json.length() / 2);
+    }
+
+    @Test
+    void oversizedCollectionCountsShouldBeRejectedBeforeAllocating()
+            throws ReflectiveOperationException {
+        byte[] bytes =
+                BinaryPacketSerializer.serialize(
+                        new CollectionsPacket(),
+                        UUID.randomUUID(),
+                        "origin",
+                        false,
+                        null,
+                        false,
+                        0L,
+                        registry);
+        assertThat(BinaryPacketSerializer.deserialize(bytes, registry).packet)
+                .usingRecursiveComparison()
+                .isEqualTo(new CollectionsPacket());
+
+        // Each collection is written as its size, an empty null bitmap and its first string.
+        for (char first : new char[] {'a', 'b', 'c'}) {
+            byte[] hostile = withHugeCount(bytes, first);
+            assertThatThrownBy(() -> BinaryPacketSerializer.deserialize(hostile, registry))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("size: " + Integer.MAX_VALUE);
+        }
+
+        BinaryReader reader = new BinaryReader(new byte[2]);
+        assertThatThrownBy(() -> reader.readBitmap(Integer.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class);
+        reader.readByte();
+        assertThatThrownBy(() -> reader.readBytes(Integer.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unexpected end");
+    }
+
+    private static byte[] withHugeCount(byte[] bytes, char first) {
+        for (int i = 0; i + 3 < bytes.length; i++) {
+            if (bytes[i] == 1 && bytes[i + 1] == 0 && bytes[i + 2] == 1 && bytes[i + 3] == first) {
+                byte[] hostile = new byte[bytes.length + 4];
+                System.arraycopy(bytes, 0, hostile, 0, i);
+                byte[] count = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+                System.arraycopy(count, 0, hostile, i, count.length);
+                System.arraycopy(bytes, i + 1, hostile, i + 5, bytes.length - i - 1);
+                return hostile;
+            }
+        }
+        throw new AssertionError("No collection starting with " + first);
+    }
+
+    @Test
+    void rejectedHeadersShouldNotHaveTheirBodyDecoded() throws ReflectiveOperationException {
+        UUID packetId = UUID.randomUUID();
+        List<PacketHeader> headers = new ArrayList<>();
+        Predicate<PacketHeader> reject =
+                header -> {
+                    headers.add(header);
+                    return false;
+                };
+
+        // A truncated body would fail to decode, so these only pass if it is never read.
+        byte[] binary =
+                BinaryPacketSerializer.serialize(
+                        new StatsPacket(), packetId, "origin", false, null, true, 7L, registry);
+        byte[] truncated = Arrays.copyOf(binary, binary.length - 8);
+        assertThat(BinaryPacketSerializer.deserialize(truncated, registry, null, "chirp", reject))
+                .isNull();
+
+        String json =
+                "{\"packetId\":\""
+                        + packetId
+                        + "\",\"type\":\"STATE_PACKET\",\"origin\":\"origin\","
+                        + "\"responding\":false,\"self\":true,\"sent\":7,"
+                        + "\"data\":{\"players\":\"many\"}}";
+        assertThat(StreamingPacketSerializer.fromJsonBytes(json.getBytes(), registry, reject))
+                .isNull();
+        assertThat(
+                        PacketSerializer.deserializeEnvelope(
+                                JsonParser.parseString(json).getAsJsonObject(), registry, reject))
+                .isNull();
+
+        // Producers that put the data first are still filtered before it is decoded.
+        String reordered =
+                "{\"data\":{\"players\":\"many\"},"
+                        + json.substring(1, json.indexOf(",\"data\""))
+                        + "}";
+        assertThat(StreamingPacketSerializer.fromJsonBytes(reordered.getBytes(), registry, reject))
+                .isNull();
+
+        assertThat(headers)
+                .hasSize(4)
+                .allSatisfy(
+                        header -> {
+                            assertThat(header.packetId).isEqualTo(packetId);
+                            assertThat(header.origin).isEqualTo("origin");
+                            assertThat(header.self).isTrue();
+                            assertThat(header.sent).isEqualTo(7L);
+                        });
+        assertThat(headers.get(0).type).isEqualTo("STATS_PACKET");
+        assertThat(headers.get(1).type).isEqualTo("STATE_PACKET");
+    }
+}
@@ -0,0 +1,209 @@
+package io.fjsn.chirp.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.gson.JsonParser;
+
+import io.fjsn.chirp.ChirpPacketEvent;
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.annotation.ChirpField;
+import io.fjsn.chirp.annotation.ChirpHandler;
+import io.fjsn.chirp.annotation.ChirpListener;
+import io.fjsn.chirp.annotation.ChirpPacket;
+import io.fjsn.chirp.internal.serialization.BinaryPacketSerializer;
+import io.fjsn.chirp.internal.serialization.PacketSerializer;
+import io.fjsn.chirp.internal.serialization.StreamingPacketSerializer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+class FieldProjectionTest {
+
+    private ChirpRegistry registry;
+
+    public enum Mode {
+        LOBBY,
+        GAME
+    }
+
+    public static class Position {
+
+        @ChirpField private double x;
+        @ChirpField private double y;
+
+        public Position() {}
+
+        public Position(double x, double y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    @ChirpPacket
+    public static class StatePacket {
+
+        @ChirpField private String name;
+        @ChirpField private int players;
+        @ChirpField private long uptime;
+        @ChirpField private boolean open;
+        @ChirpField private UUID serverId;
+        @ChirpField private Mode mode;
+        @ChirpField private List<String> tags;
+        @ChirpField private Map<String, Integer> scores;
+        @ChirpField private Optional<String> motd;
+        @ChirpField private Position spawn;
+        @ChirpField private String missing;
+
+        public StatePacket() {}
+    }
+
+    public static class V1 {
+
+        @ChirpPacket
+        public static class ProfilePacket {
+
+            @ChirpField(tag = 1)
+            private String name;
+
+            @ChirpField(tag = 2)
+            private int level;
+
+            @ChirpField(tag = 3)
+            private List<String> badges;
+
+            public ProfilePacket() {}
+        }
+    }
+
+    @ChirpListener(scan = false)
+    public static class LobbyListener {
+
+        @ChirpHandler(fields = "players")
+        public void onState(ChirpPacketEvent<StatePacket> event) {}
+
+        @ChirpHandler(fields = "level")
+        public void onProfile(ChirpPacketEvent<V1.ProfilePacket> event) {}
+    }
+
+    @ChirpListener(scan = false)
+    public static class AuditListener {
+
+        @ChirpHandler
+        public void onState(ChirpPacketEvent<StatePacket> event) {}
+    }
+
+    @ChirpListener(scan = false)
+    public static class TypoListener {
+
+        @ChirpHandler(fields = "player")
+        public void onState(ChirpPacketEvent<StatePacket> event) {}
+    }
+
+    @BeforeEach
+    void setUp() {
+        registry = new ChirpRegistry();
+        registry.registerDefaultConverters();
+        registry.registerPacket(StatePacket.class);
+    }
+
+    @Test
+    void handlersListingFieldsShouldOnlyDecodeThoseFields() throws ReflectiveOperationException {
+        registry.registerPacket(V1.ProfilePacket.class);
+        registry.registerListener(new LobbyListener());
+
+        StatePacket state = new StatePacket();
+        state.name = "lobby-1";
+        state.players = 12;
+        state.uptime = 5000L;
+        state.tags = List.of("eu");
+        UUID packetId = UUID.randomUUID();
+
+        // Untagged binary fields have no length, so decoding stops after the last one listed.
+        StatePacket binary =
+                (StatePacket)
+                        BinaryPacketSerializer.deserialize(
+                                        BinaryPacketSerializer.serialize(
+                                                state, packetId, "origin", false, null, false, 1L,
+                                                registry),
+                                        registry)
+                                .packet;
+        assertThat(binary.players).isEqualTo(12);
+        assertThat(binary.uptime).isZero();
+        assertThat(binary.tags).isNull();
+
+        String json =
+                StreamingPacketSerializer.toJsonString(
+                        state, packetId, "origin", false, null, false, 1L, registry);
+        StatePacket streamed =
+                (StatePacket) StreamingPacketSerializer.fromJsonString(json, registry).packet;
+        assertThat(streamed.players).isEqualTo(12);
+        assertThat(streamed.name).isNull();
+        assertThat(streamed.tags).isNull();
+        StatePacket tree =
+                (StatePacket)
+                        PacketSerializer.deserializeEnvelope(
+                                        JsonParser.parseString(json).getAsJsonObject(), registry)
+                                .packet;
+        assertThat(tree).usingRecursiveComparison().isEqualTo(streamed);
+
+        V1.ProfilePacket profile = new V1.ProfilePacket();
+        profile.name = "fjsn";
+        profile.level = 40;
+        profile.badges = List.of("founder");
+        V1.ProfilePacket tagged =
+                (V1.ProfilePacket)
+                        BinaryPacketSerializer.deserialize(
+                                        BinaryPacketSerializer.serialize(
+                                                profile, packetId, "origin", false, null, false, 1L,
+                                                registry),
+                                        registry)
+                                .packet;
+        assertThat(tagged.level).isEqualTo(40);
+        assertThat(tagged.name).isNull();
+        assertThat(tagged.badges).isNull();
+
+        // Responses are handed to callbacks, which get the whole packet.
+        StatePacket response =
+                (StatePacket)
+                        BinaryPacketSerializer.deserialize(
+                                        BinaryPacketSerializer.serialize(
+                                                state, packetId, "origin", true, packetId, false,
+                                                1L, registry),
+                                        registry)
+                                .packet;
+        assertThat(response.tags).containsExactly("eu");
+
+        registry.registerListener(new AuditListener());
+        assertThat(registry.getPacketSchema(StatePacket.class).projection).isNull();
+        assertThat(registry.getPacketSchema(V1.ProfilePacket.class).projection)
+                .containsExactly(false, true, false);
+
+        assertThatThrownBy(() -> registry.registerListener(new TypoListener()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("unknown field 'player'");
+        assertThat(registry.getPacketSchema(StatePacket.class).projection).isNull();
+    }
+
+    @Test
+    void unknownFieldsShouldBeRejectedWhenTheListenerIsRegisteredFirst() {
+        ChirpRegistry listenerFirst = new ChirpRegistry();
+        listenerFirst.registerDefaultConverters();
+        listenerFirst.registerListener(new TypoListener());
+
+        assertThatThrownBy(() -> listenerFirst.registerPacket(StatePacket.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("TypoListener#onState")
+                .hasMessageContaining("unknown field 'player'");
+
+        // The rejected packet is not left half-registered.
+        assertThat(listenerFirst.getPacketSchemaRegistry()).doesNotContainKey("STATE_PACKET");
+        assertThatThrownBy(() -> listenerFirst.getPacketSchema(StatePacket.class))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
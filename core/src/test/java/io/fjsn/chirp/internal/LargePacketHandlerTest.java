@@ -0,0 +1,137 @@
+package io.fjsn.chirp.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.fjsn.chirp.LargePacketStats;
+import io.fjsn.chirp.LargePacketStrategy;
+import io.fjsn.chirp.converter.BinaryWriter;
+import io.fjsn.chirp.internal.redis.LargePacketHandler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import redis.clients.jedis.Jedis;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+class LargePacketHandlerTest {
+
+    private Jedis jedis;
+    private LargePacketHandler handler;
+
+    public static class GuildSyncPacket {}
+
+    @BeforeEach
+    void setUp() {
+        jedis = mock(Jedis.class);
+        handler = new LargePacketHandler("chirp:test", () -> jedis);
+    }
+
+    private static byte[] payload(int length) {
+        byte[] payload = new byte[length];
+        new Random(7).nextBytes(payload);
+        return payload;
+    }
+
+    @Test
+    void smallPayloadsShouldBePublishedAsIs() {
+        handler.configure(LargePacketStrategy.CHUNK, 4096);
+        byte[] payload = payload(4096);
+
+        assertThat(handler.split(jedis, GuildSyncPacket.class, payload)).containsExactly(payload);
+        assertThat(handler.getStats()).isEmpty();
+    }
+
+    @Test
+    void chunksShouldBeReassembledPerChannel() {
+        handler.configure(LargePacketStrategy.CHUNK, 4096);
+        byte[] payload = payload(10_000);
+
+        List<byte[]> chunks = handler.split(jedis, GuildSyncPacket.class, payload);
+        assertThat(chunks).hasSize(3).allSatisfy(chunk -> assertThat(chunk).hasSizeLessThan(4200));
+        assertThat(LargePacketHandler.isLargePacketFrame(chunks.get(0))).isTrue();
+
+        assertThat(handler.receive("lobby-1", chunks.get(0))).isNull();
+        assertThat(handler.receive("lobby-2", chunks.get(0))).isNull();
+        assertThat(handler.receive("lobby-1", chunks.get(1))).isNull();
+        // A repeated chunk is ignored rather than counted twice.
+        assertThat(handler.receive("lobby-1", chunks.get(1))).isNull();
+        assertThat(handler.receive("lobby-1", chunks.get(2))).isEqualTo(payload);
+
+        // A transfer joined halfway through can never be completed, so it is not started.
+        LargePacketHandler late = new LargePacketHandler("chirp:test", () -> jedis);
+        assertThat(late.receive("lobby-1", chunks.get(1))).isNull();
+        assertThat(late.receive("lobby-1", chunks.get(2))).isNull();
+
+        LargePacketStats stats = handler.getStats().get("GUILD_SYNC_PACKET");
+        assertThat(stats.getChunkedPackets()).isEqualTo(1);
+        assertThat(stats.getChunksSent()).isEqualTo(3);
+        assertThat(stats.getLargestPacket()).isEqualTo(10_000);
+        assertThat(stats.getReassembledPackets()).isEqualTo(1);
+    }
+
+    @Test
+    void chunkHeadersShouldBeBoundedByTheirLength() {
+        handler.configure(LargePacketStrategy.CHUNK, 1024);
+        byte marker = handler.split(jedis, GuildSyncPacket.class, payload(2048)).get(0)[0];
+
+        // A huge count would otherwise size the transfer's bookkeeping before any data arrives.
+        assertThatThrownBy(
+                        () -> handler.receive("lobby-1", chunk(marker, Integer.MAX_VALUE, 10, 0)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid chunk header");
+        assertThatThrownBy(() -> handler.receive("lobby-1", chunk(marker, 3, 2048, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> handler.receive("lobby-1", chunk(marker, 2, 2048, 1500)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(handler.receive("lobby-1", chunk(marker, 2, 2048, 0))).isNull();
+    }
+
+    private static byte[] chunk(byte marker, int count, int length, int offset) {
+        BinaryWriter writer = new BinaryWriter(1100);
+        writer.writeByte(marker);
+        writer.writeUUID(UUID.randomUUID());
+        writer.writeString("GUILD_SYNC_PACKET");
+        writer.writeVarInt(0);
+        writer.writeVarInt(count);
+        writer.writeVarInt(length);
+        writer.writeVarInt(offset);
+        writer.writeBytes(payload(1024), 0, 1024);
+        return writer.toByteArray();
+    }
+
+    @Test
+    void claimCheckShouldStoreTheBodyAndPublishAReference() {
+        handler.configure(LargePacketStrategy.CLAIM_CHECK, 1024);
+        byte[] payload = payload(50_000);
+
+        List<byte[]> messages = handler.split(jedis, GuildSyncPacket.class, payload);
+        ArgumentCaptor<byte[]> key = ArgumentCaptor.forClass(byte[].class);
+        verify(jedis).setex(key.capture(), anyLong(), any(byte[].class));
+        assertThat(new String(key.getValue())).startsWith("chirp:test:claim:");
+        assertThat(messages).hasSize(1);
+        assertThat(messages.get(0)).hasSizeLessThan(100);
+
+        when(jedis.get(key.getValue())).thenReturn(payload);
+        assertThat(handler.receive("lobby-1", messages.get(0))).isEqualTo(payload);
+
+        when(jedis.get(key.getValue())).thenReturn(null);
+        assertThat(handler.receive("lobby-1", messages.get(0))).isNull();
+
+        LargePacketStats stats = handler.getStats().get("GUILD_SYNC_PACKET");
+        assertThat(stats.getClaimCheckedPackets()).isEqualTo(1);
+        assertThat(stats.getClaimsFetched()).isEqualTo(1);
+        assertThat(stats.getClaimsMissing()).isEqualTo(1);
+        verify(jedis, never()).publish(any(byte[].class), any(byte[].class));
+    }
+}
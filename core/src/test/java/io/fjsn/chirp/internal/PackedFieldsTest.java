@@ -0,0 +1,94 @@
+package io.fjsn.chirp.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.annotation.ChirpField;
+import io.fjsn.chirp.annotation.ChirpPacket;
+import io.fjsn.chirp.internal.serialization.BinaryPacketSerializer;
+import io.fjsn.chirp.internal.serialization.PacketSerializer;
+import io.fjsn.chirp.internal.serialization.StreamingPacketSerializer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+class PackedFieldsTest {
+
+    private ChirpRegistry registry;
+
+    public enum Mode {
+        LOBBY,
+        GAME
+    }
+
+    @ChirpPacket
+    public static class PackedPacket {
+
+        @ChirpField private int[] heights;
+        @ChirpField private long[] timestamps;
+        @ChirpField private byte[] payload;
+        @ChirpField private boolean[] flags;
+        @ChirpField private double[] weights;
+        @ChirpField private char[] code;
+        @ChirpField private EnumSet<Mode> modes;
+        @ChirpField private BitSet chunks;
+        @ChirpField private List<Integer> slots;
+        @ChirpField private Map<Integer, String> owners;
+
+        public PackedPacket() {}
+    }
+
+    @BeforeEach
+    void setUp() {
+        registry = new ChirpRegistry();
+        registry.registerDefaultConverters();
+        registry.registerPacket(PackedPacket.class);
+    }
+
+    @Test
+    void shouldPackPrimitiveArraysEnumSetsAndIntegerCollections() throws Exception {
+        PackedPacket packet = new PackedPacket();
+        packet.heights = new int[256];
+        for (int i = 0; i < packet.heights.length; i++) packet.heights[i] = i % 48 - 16;
+        packet.timestamps = new long[] {0L, -1L, Long.MIN_VALUE, 1_700_000_000_000L};
+        packet.payload = new byte[] {1, -2, 3, 127};
+        packet.flags = new boolean[] {true, false, true, true, false, false, false, false, true};
+        packet.weights = new double[] {0.5, -1e300, Double.NEGATIVE_INFINITY};
+        packet.code = new char[] {'c', 'h', '\u00e9'};
+        packet.modes = EnumSet.of(Mode.GAME);
+        packet.chunks = BitSet.valueOf(new long[] {0b1011L, 1L << 40});
+        packet.slots = new ArrayList<>(Arrays.asList(4, null, -9));
+        packet.owners = Map.of(7, "fred", -3, "alex");
+
+        UUID packetId = UUID.randomUUID();
+        byte[] bytes =
+                BinaryPacketSerializer.serialize(
+                        packet, packetId, "origin", false, null, false, 1L, registry);
+        assertThat(BinaryPacketSerializer.deserialize(bytes, registry).packet)
+                .usingRecursiveComparison()
+                .isEqualTo(packet);
+        assertThat(bytes.length).isLessThan(400);
+
+        String json =
+                PacketSerializer.toJsonString(
+                        packet, packetId, "origin", false, null, false, 1L, registry);
+        assertThat(
+                        StreamingPacketSerializer.toJsonString(
+                                packet, packetId, "origin", false, null, false, 1L, registry))
+                .isEqualTo(json);
+        assertThat(PacketSerializer.fromJsonString(json, registry))
+                .usingRecursiveComparison()
+                .isEqualTo(packet);
+        assertThat(StreamingPacketSerializer.fromJsonString(json, registry).packet)
+                .usingRecursiveComparison()
+                .isEqualTo(packet);
+    }
+}
@@ -0,0 +1,160 @@
+package io.fjsn.chirp.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.annotation.ChirpField;
+import io.fjsn.chirp.annotation.ChirpPacket;
+import io.fjsn.chirp.internal.schema.PacketSchema;
+import io.fjsn.chirp.internal.serialization.BinaryPacketSerializer;
+import io.fjsn.chirp.internal.serialization.PacketEnvelope;
+import io.fjsn.chirp.internal.serialization.PacketSerializer;
+import io.fjsn.chirp.internal.serialization.StreamingPacketSerializer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+class PacketBodyCacheTest {
+
+    private ChirpRegistry registry;
+
+    @ChirpPacket(immutable = true)
+    public static class BannerPacket {
+
+        @ChirpField(version = true)
+        private int revision;
+
+        @ChirpField private String text;
+        @ChirpField private List<String> lines;
+    }
+
+    @ChirpPacket(immutable = true)
+    public static class NoticePacket {
+
+        @ChirpField(version = true)
+        private Long revision;
+
+        @ChirpField private String text;
+    }
+
+    @ChirpPacket(immutable = true)
+    public static class UnversionedPacket {
+
+        @ChirpField private String text;
+    }
+
+    @ChirpPacket
+    public static class VersionedPacket {
+
+        @ChirpField(version = true)
+        private int revision;
+    }
+
+    @BeforeEach
+    void setUp() {
+        registry = new ChirpRegistry();
+        registry.registerDefaultConverters();
+    }
+
+    @Test
+    void immutablePacketsShouldReuseTheirEncodedBody() throws ReflectiveOperationException {
+        registry.registerPacket(BannerPacket.class);
+        PacketSchema schema = registry.getPacketSchema(BannerPacket.class);
+        BannerPacket packet = new BannerPacket();
+        packet.revision = 1;
+        packet.text = "Welcome";
+        packet.lines = List.of("Double XP", "Season 4");
+
+        byte[] first =
+                BinaryPacketSerializer.serialize(
+                        packet, UUID.randomUUID(), "origin", false, null, false, 1L, registry);
+        byte[] second =
+                BinaryPacketSerializer.serialize(
+                        packet, UUID.randomUUID(), "other", false, null, false, 2L, registry);
+        assertThat(BinaryPacketSerializer.deserialize(second, registry).packet)
+                .usingRecursiveComparison()
+                .isEqualTo(packet);
+        assertThat(BinaryPacketSerializer.deserialize(first, registry).origin).isEqualTo("origin");
+
+        // The streaming and tree writers share a cache and still produce the same envelope.
+        UUID packetId = UUID.randomUUID();
+        String streamed =
+                StreamingPacketSerializer.toJsonString(
+                        packet, packetId, "origin", true, packetId, false, 3L, registry);
+        String tree =
+                PacketSerializer.toJsonString(
+                        packet, packetId, "origin", true, packetId, false, 3L, registry);
+        assertThat(tree).isEqualTo(streamed);
+        assertThat(PacketSerializer.fromJsonString(tree, registry))
+                .usingRecursiveComparison()
+                .isEqualTo(packet);
+
+        assertThat(schema.bodyCache.getStats().getHits()).isEqualTo(2);
+        assertThat(schema.bodyCache.getStats().getMisses()).isEqualTo(2);
+
+        // A new revision is encoded again, even for the same instance.
+        packet.revision = 2;
+        packet.text = "Goodbye";
+        PacketEnvelope envelope =
+                BinaryPacketSerializer.deserialize(
+                        BinaryPacketSerializer.serialize(
+                                packet, packetId, "origin", false, null, false, 4L, registry),
+                        registry);
+        assertThat(((BannerPacket) envelope.packet).text).isEqualTo("Goodbye");
+        assertThat(schema.bodyCache.getStats().getMisses()).isEqualTo(3);
+
+        ChirpRegistry other = new ChirpRegistry();
+        other.registerDefaultConverters();
+        assertThatThrownBy(() -> other.registerPacket(VersionedPacket.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("immutable");
+        assertThatThrownBy(() -> other.registerPacket(UnversionedPacket.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("version = true");
+    }
+
+    @Test
+    void packetsWithoutAVersionShouldBeEncodedEveryTime() throws ReflectiveOperationException {
+        registry.registerPacket(NoticePacket.class);
+        PacketSchema schema = registry.getPacketSchema(NoticePacket.class);
+        NoticePacket packet = new NoticePacket();
+        packet.text = "Restarting soon";
+
+        BinaryPacketSerializer.serialize(
+                packet, UUID.randomUUID(), "origin", false, null, false, 1L, registry);
+        packet.text = "Restarting now";
+        PacketEnvelope envelope =
+                BinaryPacketSerializer.deserialize(
+                        BinaryPacketSerializer.serialize(
+                                packet,
+                                UUID.randomUUID(),
+                                "origin",
+                                false,
+                                null,
+                                false,
+                                2L,
+                                registry),
+                        registry);
+        assertThat(((NoticePacket) envelope.packet).text).isEqualTo("Restarting now");
+
+        StreamingPacketSerializer.toJsonString(
+                packet, UUID.randomUUID(), "origin", false, null, false, 3L, registry);
+        packet.text = "Restarted";
+        String json =
+                StreamingPacketSerializer.toJsonString(
+                        packet, UUID.randomUUID(), "origin", false, null, false, 4L, registry);
+        assertThat(
+                        ((NoticePacket)
+                                        StreamingPacketSerializer.fromJsonString(json, registry)
+                                                .packet)
+                                .text)
+                .isEqualTo("Restarted");
+
+        assertThat(schema.bodyCache.getStats().getHits()).isZero();
+        assertThat(schema.bodyCache.getStats().getMisses()).isEqualTo(4);
+    }
+}
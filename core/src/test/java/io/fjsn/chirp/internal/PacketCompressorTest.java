@@ -0,0 +1,166 @@
+package io.fjsn.chirp.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.CompressionStats;
+import io.fjsn.chirp.annotation.ChirpField;
+import io.fjsn.chirp.annotation.ChirpPacket;
+import io.fjsn.chirp.converter.BinaryWriter;
+import io.fjsn.chirp.converter.FieldConverter;
+import io.fjsn.chirp.internal.serialization.PacketCompressor;
+import io.fjsn.chirp.internal.serialization.StreamingPacketSerializer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+class PacketCompressorTest {
+
+    private ChirpRegistry registry;
+    private PacketCompressor compressor;
+
+    public enum Tier {
+        BRONZE,
+        SILVER,
+        GOLD
+    }
+
+    @ChirpPacket
+    public static class LeaderboardPacket {
+
+        @ChirpField private Map<String, Integer> scores = new LinkedHashMap<>();
+        @ChirpField private Tier tier = Tier.GOLD;
+
+        public LeaderboardPacket() {}
+    }
+
+    @ChirpPacket
+    public static class OtherPacket {
+
+        @ChirpField private String name;
+
+        public OtherPacket() {}
+    }
+
+    public static class Reward {
+
+        @ChirpField private String crate;
+        @ChirpField private int amount;
+
+        public Reward() {}
+    }
+
+    @ChirpPacket
+    public static class SeasonPacket {
+
+        @ChirpField private Reward reward;
+
+        public SeasonPacket() {}
+    }
+
+    public static class RewardConverter implements FieldConverter<Reward> {
+
+        @Override
+        public JsonElement serialize(Reward value, Type type, ChirpRegistry registry) {
+            return new JsonPrimitive(value.crate);
+        }
+
+        @Override
+        public Reward deserialize(JsonElement json, Type type, ChirpRegistry registry) {
+            Reward reward = new Reward();
+            reward.crate = json.getAsString();
+            return reward;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        registry = new ChirpRegistry();
+        registry.registerDefaultConverters();
+        registry.registerPacket(LeaderboardPacket.class);
+        compressor = new PacketCompressor(registry);
+        compressor.setThreshold(256);
+    }
+
+    private byte[] leaderboard(int entries) throws ReflectiveOperationException {
+        LeaderboardPacket packet = new LeaderboardPacket();
+        for (int i = 0; i < entries; i++) packet.scores.put("player-" + i, i * 37);
+        return StreamingPacketSerializer.toJsonString(
+                        packet, UUID.randomUUID(), "origin", false, null, false, 1L, registry)
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void shouldRoundTripPayloadsAboveThreshold() throws Exception {
+        byte[] payload = leaderboard(200);
+
+        byte[] frame = compressor.compress(LeaderboardPacket.class, payload);
+
+        assertThat(PacketCompressor.isCompressed(frame)).isTrue();
+        assertThat(frame.length).isLessThan(payload.length / 2);
+        assertThat(new PacketCompressor(registry).decompress(frame)).isEqualTo(payload);
+
+        CompressionStats stats = compressor.getStats().get("LEADERBOARD_PACKET");
+        assertThat(stats.getCompressedPackets()).isEqualTo(1);
+        assertThat(stats.getRawBytes()).isEqualTo(payload.length);
+        assertThat(stats.getRatio()).isLessThan(0.5);
+    }
+
+    @Test
+    void shouldLeavePayloadsBelowThresholdUntouched() throws Exception {
+        byte[] payload = leaderboard(1);
+
+        assertThat(compressor.compress(LeaderboardPacket.class, payload)).isSameAs(payload);
+        assertThat(compressor.getStats().get("LEADERBOARD_PACKET").getSkippedPackets())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectFramesWithUnknownDictionary() throws Exception {
+        byte[] frame = compressor.compress(LeaderboardPacket.class, leaderboard(200));
+
+        ChirpRegistry other = new ChirpRegistry();
+        other.registerDefaultConverters();
+        other.registerPacket(OtherPacket.class);
+
+        assertThatThrownBy(() -> new PacketCompressor(other).decompress(frame))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Unknown compression dictionary");
+    }
+
+    @Test
+    void shouldRejectImplausibleLengthsBeforeAllocating() {
+        BinaryWriter writer = new BinaryWriter();
+        writer.writeByte(PacketCompressor.MARKER);
+        writer.writeVarInt(Integer.MAX_VALUE);
+        writer.writeBytes(new byte[16]);
+        byte[] frame = writer.toByteArray();
+
+        assertThatThrownBy(() -> compressor.decompress(frame))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid compressed packet length");
+    }
+
+    @Test
+    void shouldRebuildDictionariesWhenCodecsAreRelinked() throws Exception {
+        registry.registerPacket(SeasonPacket.class);
+        byte[] payload = leaderboard(200);
+        compressor.compress(SeasonPacket.class, payload);
+
+        // The converter replaces Reward's fields, so the dictionary changes with it.
+        registry.registerConverter(Reward.class, new RewardConverter());
+        byte[] frame = compressor.compress(SeasonPacket.class, payload);
+
+        assertThat(new PacketCompressor(registry).decompress(frame)).isEqualTo(payload);
+    }
+}
@@ -0,0 +1,158 @@
+package io.fjsn.chirp.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.PacketDropStats;
+import io.fjsn.chirp.annotation.ChirpField;
+import io.fjsn.chirp.annotation.ChirpPacket;
+import io.fjsn.chirp.internal.schema.PacketSchema;
+import io.fjsn.chirp.internal.serialization.BinaryPacketSerializer;
+import io.fjsn.chirp.internal.serialization.PacketDeltas;
+import io.fjsn.chirp.internal.serialization.PacketEnvelope;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+class PacketDeltasTest {
+
+    private ChirpRegistry registry;
+    private final Map<String, PacketDropStats> dropStats = new ConcurrentHashMap<>();
+
+    @ChirpPacket(snapshotInterval = 3)
+    public static class StatusPacket {
+
+        @ChirpField(key = true)
+        private String server;
+
+        @ChirpField private int players;
+        @ChirpField private String motd;
+        @ChirpField private List<String> tags;
+
+        public StatusPacket() {}
+    }
+
+    @BeforeEach
+    void setUp() {
+        registry = new ChirpRegistry();
+        registry.registerDefaultConverters();
+        registry.registerPacket(StatusPacket.class);
+    }
+
+    private PacketDeltas deltas() {
+        return new PacketDeltas(type -> dropStats.computeIfAbsent(type, PacketDropStats::new));
+    }
+
+    @Test
+    void shouldSendOnlyChangedFieldsOfKeyedPackets() throws ReflectiveOperationException {
+        PacketSchema schema = registry.getPacketSchema(StatusPacket.class);
+        PacketDeltas sender = deltas();
+        PacketDeltas receiver = deltas();
+
+        StatusPacket packet = new StatusPacket();
+        packet.server = "lobby-1";
+        packet.players = 10;
+        packet.motd = "a long message of the day that rarely changes";
+        packet.tags = List.of("eu", "survival");
+
+        List<PacketDeltas.Frame> snapshot = encode(sender, packet, schema, List.of("c"));
+        packet.players = 11;
+        List<PacketDeltas.Frame> delta = encode(sender, packet, schema, List.of("c"));
+
+        assertThat(delta.get(0).payload().length).isLessThan(snapshot.get(0).payload().length / 2);
+        assertThat(decode(snapshot.get(0), receiver).packet)
+                .usingRecursiveComparison()
+                .isEqualTo(snapshot(packet, 10));
+        assertThat(decode(delta.get(0), receiver).packet)
+                .usingRecursiveComparison()
+                .isEqualTo(packet);
+
+        // A node that missed the snapshot drops deltas until the next one.
+        PacketDeltas lateReceiver = deltas();
+        assertThat(decode(delta.get(0), lateReceiver)).isNull();
+        packet.motd = "changed";
+        assertThat(decode(encode(sender, packet, schema, List.of("c")).get(0), lateReceiver))
+                .isNull();
+        assertThat(dropStats.get("STATUS_PACKET").getMissingDeltaBases()).isEqualTo(2);
+        List<PacketDeltas.Frame> periodic = encode(sender, packet, schema, List.of("c"));
+        assertThat(decode(periodic.get(0), lateReceiver).packet)
+                .usingRecursiveComparison()
+                .isEqualTo(packet);
+
+        // A channel joining a multicast gets its own snapshot until the next periodic one.
+        assertThat(encode(sender, packet, schema, List.of("c", "d"))).hasSize(2);
+        assertThat(encode(sender, packet, schema, List.of("c", "d"))).hasSize(2);
+        assertThat(encode(sender, packet, schema, List.of("c", "d")))
+                .singleElement()
+                .satisfies(frame -> assertThat(frame.channels()).containsExactly("c", "d"));
+    }
+
+    private List<PacketDeltas.Frame> encode(
+            PacketDeltas sender, StatusPacket packet, PacketSchema schema, List<String> channels) {
+        return sender.encode(
+                packet,
+                schema,
+                channels,
+                UUID.randomUUID(),
+                "origin",
+                false,
+                null,
+                false,
+                1L,
+                registry);
+    }
+
+    private PacketEnvelope decode(PacketDeltas.Frame frame, PacketDeltas receiver)
+            throws ReflectiveOperationException {
+        return BinaryPacketSerializer.deserialize(
+                frame.payload(), registry, receiver, frame.channels().get(0));
+    }
+
+    private static StatusPacket snapshot(StatusPacket packet, int players) {
+        StatusPacket copy = new StatusPacket();
+        copy.server = packet.server;
+        copy.players = players;
+        copy.motd = packet.motd;
+        copy.tags = packet.tags;
+        return copy;
+    }
+
+    @Test
+    void handlersChangingDeliveredPacketsShouldNotCorruptLaterDeltas()
+            throws ReflectiveOperationException {
+        PacketSchema schema = registry.getPacketSchema(StatusPacket.class);
+        PacketDeltas sender = deltas();
+        PacketDeltas receiver = deltas();
+
+        StatusPacket packet = new StatusPacket();
+        packet.server = "lobby-1";
+        packet.players = 10;
+        packet.tags = List.of("eu", "survival");
+
+        StatusPacket delivered =
+                (StatusPacket)
+                        decode(encode(sender, packet, schema, List.of("c")).get(0), receiver)
+                                .packet;
+        delivered.tags.clear();
+        delivered.tags.add("modified");
+
+        packet.players = 11;
+        StatusPacket merged =
+                (StatusPacket)
+                        decode(encode(sender, packet, schema, List.of("c")).get(0), receiver)
+                                .packet;
+        assertThat(merged.tags).containsExactly("eu", "survival").isNotSameAs(delivered.tags);
+        assertThat(merged.players).isEqualTo(11);
+
+        merged.tags.add("again");
+        packet.players = 12;
+        assertThat(decode(encode(sender, packet, schema, List.of("c")).get(0), receiver).packet)
+                .usingRecursiveComparison()
+                .isEqualTo(packet);
+    }
+}
@@ -0,0 +1,114 @@
+package io.fjsn.chirp.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import io.fjsn.chirp.Chirp;
+import io.fjsn.chirp.ChirpCallback;
+import io.fjsn.chirp.ChirpPacketEvent;
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.PacketDropStats;
+import io.fjsn.chirp.annotation.ChirpHandler;
+import io.fjsn.chirp.annotation.ChirpListener;
+import io.fjsn.chirp.annotation.ChirpPacket;
+import io.fjsn.chirp.internal.handler.EventDispatcher;
+import io.fjsn.chirp.internal.redis.PacketReceiver;
+import io.fjsn.chirp.internal.serialization.PacketHeader;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class PacketReceiverTest {
+
+    @Mock private Chirp chirp;
+
+    private ChirpRegistry registry;
+    private PacketReceiver receiver;
+
+    @ChirpPacket
+    public static class QueuePacket {}
+
+    @ChirpPacket
+    public static class ProxyPacket {}
+
+    @ChirpListener(scan = false)
+    public static class QueueListener {
+
+        @ChirpHandler
+        public void onQueue(ChirpPacketEvent<QueuePacket> event) {}
+    }
+
+    @ChirpListener(scan = false)
+    public static class AnyListener {
+
+        @ChirpHandler
+        public void onAny(ChirpPacketEvent<Object> event) {}
+    }
+
+    private static PacketHeader header(String type, String origin, UUID respondingTo) {
+        return new PacketHeader(
+                UUID.randomUUID(), type, origin, respondingTo != null, respondingTo, false, 1L);
+    }
+
+    @BeforeEach
+    void setUp() {
+        registry = new ChirpRegistry();
+        registry.registerDefaultConverters();
+        registry.registerPacket(QueuePacket.class);
+        registry.registerPacket(ProxyPacket.class);
+        registry.registerListener(new QueueListener());
+        lenient().when(chirp.getOrigin()).thenReturn("lobby-1");
+        when(chirp.getRegistry()).thenReturn(registry);
+        receiver = new PacketReceiver(chirp, new EventDispatcher(registry));
+    }
+
+    @Test
+    void shouldDropSelfEchoes() {
+        assertThat(receiver.accept(header("QUEUE_PACKET", "lobby-2", null), 40)).isTrue();
+        assertThat(receiver.accept(header("QUEUE_PACKET", "lobby-1", null), 40)).isFalse();
+
+        PacketDropStats stats = receiver.getDropStats().get("QUEUE_PACKET");
+        assertThat(stats.getSelfEchoes()).isEqualTo(1);
+        assertThat(stats.getSkippedBytes()).isEqualTo(40);
+    }
+
+    @Test
+    void shouldDropRegisteredPacketsWithoutAHandler() {
+        assertThat(receiver.accept(header("PROXY_PACKET", "lobby-2", null), 60)).isFalse();
+        assertThat(receiver.accept(header("proxy_packet", "lobby-2", null), 60)).isFalse();
+
+        // Unknown types are left to the deserializer to report.
+        assertThat(receiver.accept(header("LOBBY_PACKET", "lobby-2", null), 60)).isTrue();
+
+        // Listeners registered at runtime are picked up straight away.
+        registry.registerListener(new AnyListener());
+        assertThat(receiver.accept(header("PROXY_PACKET", "lobby-2", null), 60)).isTrue();
+
+        Map<String, PacketDropStats> stats = receiver.getDropStats();
+        assertThat(stats.get("PROXY_PACKET").getUnhandled()).isEqualTo(1);
+        assertThat(stats.get("proxy_packet").getUnhandled()).isEqualTo(1);
+        assertThat(stats).doesNotContainKey("LOBBY_PACKET");
+    }
+
+    @Test
+    void shouldCountResponsesWithoutACallback() {
+        // Responses are kept only while this node still waits on their callback.
+        UUID request = UUID.randomUUID();
+        assertThat(receiver.accept(header("PROXY_PACKET", "lobby-2", request), 60)).isFalse();
+        registry.registerCallback(request, ChirpCallback.ofSingle(ProxyPacket.class, event -> {}));
+        assertThat(receiver.accept(header("PROXY_PACKET", "lobby-2", request), 60)).isTrue();
+
+        PacketDropStats stats = receiver.getDropStats().get("PROXY_PACKET");
+        assertThat(stats.getLateResponses()).isEqualTo(1);
+        assertThat(stats.getUnhandled()).isZero();
+        assertThat(stats.getDropped()).isEqualTo(1);
+        assertThat(stats.getSkippedBytes()).isEqualTo(60);
+    }
+}
@@ -0,0 +1,228 @@
+package io.fjsn.chirp.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.gson.JsonObject;
+
+import io.fjsn.chirp.BufferStats;
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.annotation.ChirpField;
+import io.fjsn.chirp.annotation.ChirpPacket;
+import io.fjsn.chirp.internal.schema.FieldSchema;
+import io.fjsn.chirp.internal.schema.PacketSchema;
+import io.fjsn.chirp.internal.schema.ReflectiveFieldAccessor;
+import io.fjsn.chirp.internal.schema.ReflectiveInstantiator;
+import io.fjsn.chirp.internal.serialization.BinaryPacketSerializer;
+import io.fjsn.chirp.internal.serialization.PacketBuffers;
+import io.fjsn.chirp.internal.serialization.PacketEnvelope;
+import io.fjsn.chirp.internal.serialization.PacketSerializer;
+import io.fjsn.chirp.internal.serialization.StreamingPacketSerializer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+class PacketSerializerTest {
+
+    private ChirpRegistry registry;
+
+    @ChirpPacket
+    public static class TestPacket {
+
+        @ChirpField private String message;
+        @ChirpField private int number;
+
+        public TestPacket() {}
+
+        public TestPacket(String message, int number) {
+            this.message = message;
+            this.number = number;
+        }
+    }
+
+    public static class Entry {
+
+        @ChirpField private String label;
+        @ChirpField private float weight;
+
+        public Entry() {}
+
+        public Entry(String label, float weight) {
+            this.label = label;
+            this.weight = weight;
+        }
+    }
+
+    @ChirpPacket
+    public static class RichPacket {
+
+        @ChirpField private String text = "quote \" and <tag> \u00e9";
+        @ChirpField private double ratio = 0.1;
+        @ChirpField private char grade = 'A';
+
+        @ChirpField
+        private List<Entry> entries =
+                Arrays.asList(new Entry("a", 1.5f), null, new Entry(null, -0.25f));
+
+        @ChirpField private Map<String, Long> totals = Map.of("x", 1L);
+        @ChirpField private Optional<UUID> owner = Optional.of(UUID.randomUUID());
+        @ChirpField private String missing;
+
+        public RichPacket() {}
+    }
+
+    public record Slot(String item, int amount) {}
+
+    @ChirpPacket
+    public record InventoryPacket(UUID owner, List<Slot> slots, long version) {}
+
+    @ChirpPacket
+    public static class ScorePacket {
+
+        @ChirpField private final String player;
+        @ChirpField private final int score;
+
+        public ScorePacket(@ChirpField String player, @ChirpField int score) {
+            this.player = player;
+            this.score = score;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        registry = new ChirpRegistry();
+        registry.registerDefaultConverters();
+        registry.registerPacket(TestPacket.class);
+        registry.registerPacket(RichPacket.class);
+        registry.registerPacket(InventoryPacket.class);
+        registry.registerPacket(ScorePacket.class);
+    }
+
+    @Test
+    void streamingSerializerShouldMatchTreeOutput() throws ReflectiveOperationException {
+        RichPacket packet = new RichPacket();
+        UUID packetId = UUID.randomUUID();
+
+        String tree =
+                PacketSerializer.toJsonString(
+                        packet, packetId, "origin", true, packetId, false, 7L, registry);
+        String streamed =
+                StreamingPacketSerializer.toJsonString(
+                        packet, packetId, "origin", true, packetId, false, 7L, registry);
+
+        assertThat(streamed).isEqualTo(tree);
+
+        PacketEnvelope envelope = StreamingPacketSerializer.fromJsonString(streamed, registry);
+        assertThat(envelope.respondingTo).isEqualTo(packetId);
+        assertThat(envelope.packet).usingRecursiveComparison().isEqualTo(packet);
+    }
+
+    @Test
+    void pooledJsonBytesShouldMatchStringOutput() throws ReflectiveOperationException {
+        RichPacket packet = new RichPacket();
+        packet.text = "caf\u00e9 \u20ac \ud83d\udc26 \\ done";
+        UUID packetId = UUID.randomUUID();
+
+        String streamed =
+                StreamingPacketSerializer.toJsonString(
+                        packet, packetId, "origin", false, null, false, 7L, registry);
+        byte[] bytes =
+                StreamingPacketSerializer.toJsonBytes(
+                        packet, packetId, "origin", false, null, false, 7L, registry);
+
+        assertThat(bytes).isEqualTo(streamed.getBytes(StandardCharsets.UTF_8));
+
+        PacketEnvelope envelope = StreamingPacketSerializer.fromJsonBytes(bytes, registry);
+        assertThat(envelope.packet).usingRecursiveComparison().isEqualTo(packet);
+
+        BufferStats stats = PacketBuffers.JSON.getStats();
+        assertThat(stats.getAcquisitions()).isPositive();
+        assertThat(stats.getPooledBuffers()).isPositive();
+        assertThat(stats.getSizeEstimates()).containsKey("RICH_PACKET");
+    }
+
+    @Test
+    void shouldConstructRecordsAndFinalFieldPackets() throws ReflectiveOperationException {
+        InventoryPacket inventory =
+                new InventoryPacket(
+                        UUID.randomUUID(), List.of(new Slot("sword", 1), new Slot(null, 64)), 9L);
+        ScorePacket score = new ScorePacket("steve", 42);
+        UUID packetId = UUID.randomUUID();
+
+        for (Object packet : List.of(inventory, score)) {
+            String json =
+                    PacketSerializer.toJsonString(
+                            packet, packetId, "origin", false, null, false, 1L, registry);
+            byte[] binary =
+                    BinaryPacketSerializer.serialize(
+                            packet, packetId, "origin", false, null, false, 1L, registry);
+
+            assertThat(PacketSerializer.fromJsonString(json, registry))
+                    .usingRecursiveComparison()
+                    .isEqualTo(packet);
+            assertThat(StreamingPacketSerializer.fromJsonString(json, registry).packet)
+                    .usingRecursiveComparison()
+                    .isEqualTo(packet);
+            assertThat(BinaryPacketSerializer.deserialize(binary, registry).packet)
+                    .usingRecursiveComparison()
+                    .isEqualTo(packet);
+        }
+
+        PacketEnvelope partial =
+                StreamingPacketSerializer.fromJsonString(
+                        "{\"type\":\"SCORE_PACKET\",\"data\":{\"player\":\"alex\"}}", registry);
+        assertThat(partial.packet).usingRecursiveComparison().isEqualTo(new ScorePacket("alex", 0));
+    }
+
+    @Test
+    void schemaShouldUseGeneratedAccessors() {
+        PacketSchema schema = registry.getPacketSchemaRegistry().get("RICH_PACKET");
+        TestPacket packet =
+                (TestPacket)
+                        registry.getPacketSchemaRegistry()
+                                .get("TEST_PACKET")
+                                .instantiator
+                                .newInstance();
+
+        assertThat(schema.instantiator).isNotInstanceOf(ReflectiveInstantiator.class);
+        for (FieldSchema fieldSchema : schema.fields) {
+            assertThat(fieldSchema.accessor).isNotInstanceOf(ReflectiveFieldAccessor.class);
+        }
+
+        FieldSchema number = registry.getPacketSchemaRegistry().get("TEST_PACKET").fields.get(1);
+        number.accessor.set(packet, 42);
+        assertThat(number.accessor.get(packet)).isEqualTo(42);
+        assertThat(packet.number).isEqualTo(42);
+    }
+
+    @Test
+    void shouldSerializeAndDeserializePacket() throws ReflectiveOperationException {
+        TestPacket originalPacket = new TestPacket("Hello, Chirp!", 42);
+        UUID packetId = UUID.randomUUID();
+        String origin = "test-server";
+
+        JsonObject json =
+                PacketSerializer.serialize(
+                        originalPacket,
+                        packetId,
+                        origin,
+                        false,
+                        null,
+                        false,
+                        System.currentTimeMillis(),
+                        registry);
+        TestPacket deserializedPacket = (TestPacket) PacketSerializer.deserialize(json, registry);
+
+        assertThat(deserializedPacket)
+                .isNotNull()
+                .isInstanceOf(TestPacket.class)
+                .usingRecursiveComparison()
+                .isEqualTo(originalPacket);
+    }
+}
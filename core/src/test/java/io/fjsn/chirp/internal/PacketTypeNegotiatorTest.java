@@ -0,0 +1,90 @@
+package io.fjsn.chirp.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.annotation.ChirpField;
+import io.fjsn.chirp.annotation.ChirpPacket;
+import io.fjsn.chirp.internal.redis.PacketTypeNegotiator;
+import io.fjsn.chirp.internal.schema.PacketSchema;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import redis.clients.jedis.Jedis;
+
+import java.util.List;
+
+class PacketTypeNegotiatorTest {
+
+    private ChirpRegistry registry;
+    private Jedis jedis;
+    private PacketTypeNegotiator negotiator;
+
+    @ChirpPacket
+    public static class ScorePacket {
+
+        @ChirpField private int score;
+
+        public ScorePacket() {}
+    }
+
+    @BeforeEach
+    void setUp() {
+        registry = new ChirpRegistry();
+        registry.registerDefaultConverters();
+        registry.registerPacket(ScorePacket.class);
+        jedis = mock(Jedis.class);
+        negotiator = new PacketTypeNegotiator(registry, "chirp:test", "lobby-1");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void heartbeatShouldPublishFingerprintsBeforeAssigningIds() {
+        PacketSchema schema = registry.getPacketSchema(ScorePacket.class);
+        String entry = "SCORE_PACKET#" + registry.getPacketFingerprint(schema);
+        when(jedis.eval(anyString(), anyList(), anyList())).thenReturn(List.of());
+        when(jedis.eval(anyString(), anyInt(), eq("chirp:test:packet-types"), eq(entry)))
+                .thenReturn(4L, 9L);
+
+        negotiator.negotiate(jedis);
+        assertThat(schema.typeId).isEqualTo(4);
+
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<String>> args = ArgumentCaptor.forClass(List.class);
+        verify(jedis).eval(anyString(), keys.capture(), args.capture());
+        assertThat(keys.getValue())
+                .containsExactly(
+                        "chirp:test:packet-types",
+                        "chirp:test:packet-types:nodes",
+                        "chirp:test:packet-types:node:lobby-1");
+        assertThat(args.getValue())
+                .containsExactly(
+                        "lobby-1",
+                        Long.toString(PacketTypeNegotiator.NODE_TTL_MILLIS),
+                        "chirp:test:packet-types:node:",
+                        "SCORE_PACKET",
+                        registry.getPacketFingerprint(schema));
+
+        // An id pruned while this node was unreachable is picked up again on the next heartbeat.
+        negotiator.negotiate(jedis);
+        assertThat(schema.typeId).isEqualTo(9);
+        assertThat(registry.getPacketSchemaById(9)).isSameAs(schema);
+    }
+
+    @Test
+    void cleanupShouldLeaveTheLiveSet() {
+        negotiator.cleanup(jedis);
+
+        verify(jedis).zrem("chirp:test:packet-types:nodes", "lobby-1");
+        verify(jedis).del("chirp:test:packet-types:node:lobby-1");
+    }
+}
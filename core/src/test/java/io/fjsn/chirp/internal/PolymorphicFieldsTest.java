@@ -0,0 +1,107 @@
+package io.fjsn.chirp.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.annotation.ChirpField;
+import io.fjsn.chirp.annotation.ChirpPacket;
+import io.fjsn.chirp.internal.serialization.BinaryPacketSerializer;
+import io.fjsn.chirp.internal.serialization.PacketSerializer;
+import io.fjsn.chirp.internal.serialization.StreamingPacketSerializer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+class PolymorphicFieldsTest {
+
+    private ChirpRegistry registry;
+
+    public sealed interface Action permits Move, Chat {}
+
+    public record Move(double x, double y) implements Action {}
+
+    public record Chat(String message) implements Action {}
+
+    public abstract static class Reward {}
+
+    public static class Coins extends Reward {
+
+        @ChirpField private int amount;
+    }
+
+    public static class Item extends Reward {
+
+        @ChirpField private String name;
+        @ChirpField private int amount;
+    }
+
+    public static class Trophy extends Reward {}
+
+    @ChirpPacket
+    public static class TurnPacket {
+
+        @ChirpField private List<Action> actions;
+        @ChirpField private Action last;
+        @ChirpField private Reward reward;
+    }
+
+    @BeforeEach
+    void setUp() {
+        registry = new ChirpRegistry();
+        registry.registerDefaultConverters();
+    }
+
+    @Test
+    void polymorphicFieldsShouldWriteSubtypeIndexes() throws ReflectiveOperationException {
+        registry.registerSubtypes(Reward.class, Coins.class, Item.class);
+        registry.registerPacket(TurnPacket.class);
+
+        TurnPacket packet = new TurnPacket();
+        packet.actions = new ArrayList<>(Arrays.asList(new Move(1, 2), null, new Chat("gg")));
+        packet.last = new Chat("bye");
+        Item item = new Item();
+        item.amount = 3;
+        item.name = "sword";
+        packet.reward = item;
+        UUID packetId = UUID.randomUUID();
+
+        byte[] bytes =
+                BinaryPacketSerializer.serialize(
+                        packet, packetId, "origin", false, null, false, 1L, registry);
+        assertThat(BinaryPacketSerializer.deserialize(bytes, registry).packet)
+                .usingRecursiveComparison()
+                .isEqualTo(packet);
+
+        String tree =
+                PacketSerializer.toJsonString(
+                        packet, packetId, "origin", false, null, false, 1L, registry);
+        String streamed =
+                StreamingPacketSerializer.toJsonString(
+                        packet, packetId, "origin", false, null, false, 1L, registry);
+        assertThat(streamed)
+                .isEqualTo(tree)
+                .contains("\"actions\":[[0,{\"x\":1.0,\"y\":2.0}],null,[1,{\"message\":\"gg\"}]]")
+                .contains("\"reward\":[1,{\"name\":\"sword\",\"amount\":3}]");
+        assertThat(StreamingPacketSerializer.fromJsonString(streamed, registry).packet)
+                .usingRecursiveComparison()
+                .isEqualTo(packet);
+        assertThat(PacketSerializer.fromJsonString(tree, registry))
+                .usingRecursiveComparison()
+                .isEqualTo(packet);
+
+        packet.reward = new Trophy();
+        assertThatThrownBy(
+                        () ->
+                                BinaryPacketSerializer.serialize(
+                                        packet, packetId, "origin", false, null, false, 1L,
+                                        registry))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Trophy is not a registered subtype");
+    }
+}
@@ -0,0 +1,139 @@
+package io.fjsn.chirp.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.annotation.ChirpField;
+import io.fjsn.chirp.annotation.ChirpPacket;
+import io.fjsn.chirp.converter.FieldCodec;
+import io.fjsn.chirp.converter.FieldReader;
+import io.fjsn.chirp.converter.FieldWriter;
+import io.fjsn.chirp.converter.StreamingFieldConverter;
+import io.fjsn.chirp.internal.serialization.BinaryPacketSerializer;
+import io.fjsn.chirp.internal.serialization.PacketSerializer;
+import io.fjsn.chirp.internal.serialization.StreamingPacketSerializer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+class StreamingConverterTest {
+
+    private ChirpRegistry registry;
+
+    public record Location(String world, double x, double y, double z) {}
+
+    public record Labeled<T>(String label, T value) {}
+
+    public static class LocationConverter implements StreamingFieldConverter<Location> {
+
+        @Override
+        public void write(Location value, FieldCodec codec, FieldWriter writer) throws IOException {
+            writer.beginObject();
+            writer.name("world");
+            writer.writeString(value.world());
+            writer.name("x");
+            writer.writeDouble(value.x());
+            writer.name("y");
+            writer.writeDouble(value.y());
+            writer.name("z");
+            writer.writeDouble(value.z());
+            writer.endObject();
+        }
+
+        @Override
+        public Location read(FieldCodec codec, FieldReader reader) throws IOException {
+            reader.beginObject();
+            reader.name("world");
+            String world = reader.readString();
+            reader.name("x");
+            double x = reader.readDouble();
+            reader.name("y");
+            double y = reader.readDouble();
+            reader.name("z");
+            double z = reader.readDouble();
+            reader.endObject();
+            return new Location(world, x, y, z);
+        }
+    }
+
+    public static class LabeledConverter implements StreamingFieldConverter<Labeled<?>> {
+
+        @Override
+        public void write(Labeled<?> value, FieldCodec codec, FieldWriter writer)
+                throws IOException {
+            writer.beginArray(2);
+            writer.writeString(value.label());
+            writer.writeValue(value.value(), codec.argument(0));
+            writer.endArray();
+        }
+
+        @Override
+        public Labeled<?> read(FieldCodec codec, FieldReader reader) throws IOException {
+            reader.beginArray();
+            reader.hasNext();
+            String label = reader.readString();
+            reader.hasNext();
+            Object value = reader.readValue(codec.argument(0));
+            reader.hasNext();
+            reader.endArray();
+            return new Labeled<>(label, value);
+        }
+    }
+
+    @ChirpPacket
+    public static class WaypointPacket {
+
+        @ChirpField private Location spawn;
+        @ChirpField private Labeled<Location> home;
+        @ChirpField private List<Labeled<Integer>> scores;
+        @ChirpField private Labeled<String> missing;
+
+        public WaypointPacket() {}
+    }
+
+    @BeforeEach
+    void setUp() {
+        registry = new ChirpRegistry();
+        registry.registerDefaultConverters();
+    }
+
+    @Test
+    void streamingConvertersShouldWriteEveryFormat() throws ReflectiveOperationException {
+        registry.registerConverter(Location.class, new LocationConverter());
+        registry.registerConverter(Labeled.class, new LabeledConverter());
+        registry.registerPacket(WaypointPacket.class);
+
+        WaypointPacket packet = new WaypointPacket();
+        packet.spawn = new Location("world", 0.5, 64, -0.5);
+        packet.home = new Labeled<>("base", new Location("nether", 12, 70.25, -3));
+        packet.scores = new ArrayList<>(Arrays.asList(new Labeled<>("fred", 3), null));
+        UUID packetId = UUID.randomUUID();
+
+        byte[] bytes =
+                BinaryPacketSerializer.serialize(
+                        packet, packetId, "origin", false, null, false, 1L, registry);
+        assertThat(BinaryPacketSerializer.deserialize(bytes, registry).packet)
+                .usingRecursiveComparison()
+                .isEqualTo(packet);
+
+        String tree =
+                PacketSerializer.toJsonString(
+                        packet, packetId, "origin", false, null, false, 1L, registry);
+        String streamed =
+                StreamingPacketSerializer.toJsonString(
+                        packet, packetId, "origin", false, null, false, 1L, registry);
+        assertThat(streamed).isEqualTo(tree).contains("[\"base\",{\"world\":\"nether\"");
+        assertThat(StreamingPacketSerializer.fromJsonString(streamed, registry).packet)
+                .usingRecursiveComparison()
+                .isEqualTo(packet);
+        assertThat(PacketSerializer.fromJsonString(tree, registry))
+                .usingRecursiveComparison()
+                .isEqualTo(packet);
+    }
+}
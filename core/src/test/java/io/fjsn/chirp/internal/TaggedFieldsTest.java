@@ -0,0 +1,176 @@
+package io.fjsn.chirp.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.annotation.ChirpField;
+import io.fjsn.chirp.annotation.ChirpPacket;
+import io.fjsn.chirp.internal.serialization.BinaryPacketSerializer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+class TaggedFieldsTest {
+
+    public static class Position {
+
+        @ChirpField private double x;
+        @ChirpField private double y;
+
+        public Position() {}
+
+        public Position(double x, double y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    public static class V1 {
+
+        @ChirpPacket
+        public static class ProfilePacket {
+
+            @ChirpField(tag = 1)
+            private String name;
+
+            @ChirpField(tag = 2)
+            private int level;
+
+            @ChirpField(tag = 3)
+            private List<String> badges;
+
+            public ProfilePacket() {}
+        }
+    }
+
+    public static class V2 {
+
+        @ChirpPacket
+        public static class ProfilePacket {
+
+            @ChirpField(tag = 3)
+            private List<String> badges;
+
+            @ChirpField(tag = 1)
+            private String name;
+
+            @ChirpField(tag = 4)
+            private Position home;
+
+            public ProfilePacket() {}
+        }
+    }
+
+    public static class V3 {
+
+        @ChirpPacket
+        public static class ProfilePacket {
+
+            @ChirpField(tag = 1)
+            private String name = "default";
+
+            @ChirpField(tag = 2)
+            private int level;
+
+            @ChirpField(tag = 3)
+            private List<String> badges;
+
+            @ChirpField(tag = 5)
+            private String title = "novice";
+
+            public ProfilePacket() {}
+        }
+    }
+
+    @Test
+    void taggedPacketsShouldSkipFieldsTheReceiverDoesNotKnow() throws Exception {
+        ChirpRegistry older = new ChirpRegistry();
+        older.registerDefaultConverters();
+        older.registerPacket(V1.ProfilePacket.class);
+        ChirpRegistry newer = new ChirpRegistry();
+        newer.registerDefaultConverters();
+        newer.registerPacket(V2.ProfilePacket.class);
+
+        assertThat(newer.getPacketFingerprint(newer.getPacketSchema(V2.ProfilePacket.class)))
+                .isEqualTo(
+                        older.getPacketFingerprint(older.getPacketSchema(V1.ProfilePacket.class)));
+
+        V2.ProfilePacket current = new V2.ProfilePacket();
+        current.name = "fred";
+        current.home = new Position(4, 2);
+        current.badges = new ArrayList<>();
+        for (int i = 0; i < 40; i++) current.badges.add("badge-" + i);
+
+        byte[] bytes =
+                BinaryPacketSerializer.serialize(
+                        current, UUID.randomUUID(), "origin", false, null, false, 1L, newer);
+        V1.ProfilePacket decoded =
+                (V1.ProfilePacket) BinaryPacketSerializer.deserialize(bytes, older).packet;
+        assertThat(decoded.name).isEqualTo("fred");
+        assertThat(decoded.level).isZero();
+        assertThat(decoded.badges).isEqualTo(current.badges);
+
+        decoded.level = 7;
+        byte[] back =
+                BinaryPacketSerializer.serialize(
+                        decoded, UUID.randomUUID(), "origin", false, null, false, 1L, older);
+        assertThat(BinaryPacketSerializer.deserialize(back, newer).packet)
+                .usingRecursiveComparison()
+                .isEqualTo(withoutHome(current));
+    }
+
+    @Test
+    void nullTaggedFieldsShouldReplaceTheConstructedValue() throws Exception {
+        ChirpRegistry registry = new ChirpRegistry();
+        registry.registerDefaultConverters();
+        registry.registerPacket(V3.ProfilePacket.class);
+
+        V3.ProfilePacket packet = new V3.ProfilePacket();
+        packet.name = null;
+        packet.level = 3;
+        packet.title = null;
+
+        byte[] bytes =
+                BinaryPacketSerializer.serialize(
+                        packet, UUID.randomUUID(), "origin", false, null, false, 1L, registry);
+        V3.ProfilePacket decoded =
+                (V3.ProfilePacket) BinaryPacketSerializer.deserialize(bytes, registry).packet;
+        assertThat(decoded.name).isNull();
+        assertThat(decoded.level).isEqualTo(3);
+        assertThat(decoded.badges).isNull();
+        assertThat(decoded.title).isNull();
+    }
+
+    @Test
+    void missingTagsShouldKeepTheConstructedValue() throws Exception {
+        ChirpRegistry older = new ChirpRegistry();
+        older.registerDefaultConverters();
+        older.registerPacket(V1.ProfilePacket.class);
+        ChirpRegistry newer = new ChirpRegistry();
+        newer.registerDefaultConverters();
+        newer.registerPacket(V3.ProfilePacket.class);
+
+        V1.ProfilePacket packet = new V1.ProfilePacket();
+        packet.level = 9;
+
+        byte[] bytes =
+                BinaryPacketSerializer.serialize(
+                        packet, UUID.randomUUID(), "origin", false, null, false, 1L, older);
+        V3.ProfilePacket decoded =
+                (V3.ProfilePacket) BinaryPacketSerializer.deserialize(bytes, newer).packet;
+        // Tag 1 was sent as null, tag 5 was not sent at all.
+        assertThat(decoded.name).isNull();
+        assertThat(decoded.level).isEqualTo(9);
+        assertThat(decoded.title).isEqualTo("novice");
+    }
+
+    private static V2.ProfilePacket withoutHome(V2.ProfilePacket packet) {
+        V2.ProfilePacket copy = new V2.ProfilePacket();
+        copy.name = packet.name;
+        copy.badges = packet.badges;
+        return copy;
+    }
+}
@@ -0,0 +1,446 @@
+package io.fjsn.chirp.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+
+// Generates a <Class>$ChirpCodec next to every packet and @ChirpField holder, and a
+// <Listener>$ChirpDispatcher next to every listener, which Chirp's runtime prefers over the
+// accessors and method handles it would otherwise spin up. Also writes META-INF/chirp.index, which
+// the scanner reads instead of searching the classpath. Only names are referenced here, so the
+// processor does not depend on the chirp artifact it generates code for.
+@SupportedAnnotationTypes({
+    ChirpProcessor.PACKET,
+    ChirpProcessor.FIELD,
+    ChirpProcessor.LISTENER,
+    ChirpProcessor.HANDLER,
+    ChirpProcessor.CONVERTER
+})
+public class ChirpProcessor extends AbstractProcessor {
+
+    static final String PACKET = "io.fjsn.chirp.annotation.ChirpPacket";
+    static final String FIELD = "io.fjsn.chirp.annotation.ChirpField";
+    static final String LISTENER = "io.fjsn.chirp.annotation.ChirpListener";
+    static final String HANDLER = "io.fjsn.chirp.annotation.ChirpHandler";
+    static final String CONVERTER = "io.fjsn.chirp.annotation.ChirpConverter";
+
+    static final String INDEX = "META-INF/chirp.index";
+
+    static final String CODEC_SUFFIX = "$ChirpCodec";
+    static final String DISPATCHER_SUFFIX = "$ChirpDispatcher";
+
+    private static final String PACKET_EVENT = "io.fjsn.chirp.ChirpPacketEvent";
+    private static final String SCHEMA_PACKAGE = "io.fjsn.chirp.internal.schema.";
+    private static final String HANDLER_PACKAGE = "io.fjsn.chirp.internal.handler.";
+
+    private final Set<String> generated = new HashSet<>();
+
+    // Kind and binary name of every class the runtime scanner would find, written once the last
+    // round is over.
+    private final Set<String> index = new TreeSet<>();
+    private boolean indexRead;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (!indexRead) {
+            readIndex();
+            indexRead = true;
+        }
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+
+        Set<TypeElement> codecTypes = new LinkedHashSet<>();
+        Set<TypeElement> listenerTypes = new LinkedHashSet<>();
+
+        for (TypeElement annotation : annotations) {
+            String name = annotation.getQualifiedName().toString();
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                Element owner = element.getEnclosingElement();
+                String kind = indexKind(name);
+                if (kind != null && element instanceof TypeElement type) {
+                    index.add(kind + " " + processingEnv.getElementUtils().getBinaryName(type));
+                }
+
+                switch (name) {
+                    case PACKET -> addClass(codecTypes, element);
+                    case FIELD -> {
+                        if (element.getKind() == ElementKind.FIELD) addClass(codecTypes, owner);
+                    }
+                    case LISTENER -> addClass(listenerTypes, element);
+                    case HANDLER -> addClass(listenerTypes, owner);
+                    default -> {}
+                }
+            }
+        }
+
+        for (TypeElement type : codecTypes) {
+            if (isReachable(type)) write(type, CODEC_SUFFIX, codecSource(type));
+        }
+        for (TypeElement type : listenerTypes) {
+            if (isReachable(type)) write(type, DISPATCHER_SUFFIX, dispatcherSource(type));
+        }
+
+        // Other processors may also want these annotations.
+        return false;
+    }
+
+    private static String indexKind(String annotation) {
+        return switch (annotation) {
+            case PACKET -> "packet";
+            case CONVERTER -> "converter";
+            case LISTENER -> "listener";
+            default -> null;
+        };
+    }
+
+    // Incremental builds only hand the processor the classes that changed, so entries from the
+    // previous index are kept as long as their class still carries the annotation.
+    private void readIndex() {
+        Filer filer = processingEnv.getFiler();
+        try (BufferedReader reader =
+                new BufferedReader(
+                        filer.getResource(StandardLocation.CLASS_OUTPUT, "", INDEX)
+                                .openReader(true))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int space = line.indexOf(' ');
+                if (line.startsWith("#") || space < 0) continue;
+
+                String kind = line.substring(0, space);
+                TypeElement type =
+                        processingEnv
+                                .getElementUtils()
+                                .getTypeElement(line.substring(space + 1).replace('$', '.'));
+                if (type != null && hasAnnotation(type, annotationOf(kind))) index.add(line);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // There is no previous index on a clean build.
+        }
+    }
+
+    private static String annotationOf(String kind) {
+        return switch (kind) {
+            case "packet" -> PACKET;
+            case "converter" -> CONVERTER;
+            case "listener" -> LISTENER;
+            default -> "";
+        };
+    }
+
+    private void writeIndex() {
+        if (index.isEmpty()) return;
+        try (Writer writer =
+                processingEnv
+                        .getFiler()
+                        .createResource(StandardLocation.CLASS_OUTPUT, "", INDEX)
+                        .openWriter()) {
+            writer.write("# Generated by chirp-processor, do not edit.\n");
+            for (String entry : index) writer.write(entry + "\n");
+        } catch (IOException e) {
+            processingEnv
+                    .getMessager()
+                    .printMessage(
+                            Diagnostic.Kind.ERROR,
+                            "Failed to write " + INDEX + ": " + e.getMessage());
+        }
+    }
+
+    private static void addClass(Set<TypeElement> types, Element element) {
+        if (element.getKind() == ElementKind.CLASS) types.add((TypeElement) element);
+    }
+
+    private String codecSource(TypeElement type) {
+        String typeName = sourceName(type.asType());
+        StringBuilder source = header(type, CODEC_SUFFIX, SCHEMA_PACKAGE + "GeneratedCodec");
+
+        source.append("    @Override\n")
+                .append("    public ")
+                .append(SCHEMA_PACKAGE)
+                .append("Instantiator instantiator() {\n");
+        if (hasReachableNoArgConstructor(type)) {
+            source.append("        return ").append(typeName).append("::new;\n");
+        } else {
+            source.append("        return null;\n");
+        }
+        source.append("    }\n\n");
+
+        source.append("    @Override\n")
+                .append("    public ")
+                .append(SCHEMA_PACKAGE)
+                .append("FieldAccessor accessor(String fieldName) {\n")
+                .append("        switch (fieldName) {\n");
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (!hasAnnotation(field, FIELD) || !isAccessible(field)) continue;
+            appendAccessor(source, typeName, field);
+        }
+        source.append("            default:\n")
+                .append("                return null;\n")
+                .append("        }\n")
+                .append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    private void appendAccessor(StringBuilder source, String typeName, VariableElement field) {
+        String name = field.getSimpleName().toString();
+        TypeMirror fieldType = field.asType();
+        String target = "((" + typeName + ") instance)." + name;
+
+        source.append("            case \"")
+                .append(name)
+                .append("\":\n")
+                .append("                return new ")
+                .append(SCHEMA_PACKAGE)
+                .append("FieldAccessor() {\n");
+
+        source.append("                    @Override\n")
+                .append("                    public Object get(Object instance) {\n")
+                .append("                        return ")
+                .append(target)
+                .append(";\n")
+                .append("                    }\n\n");
+
+        String castType =
+                fieldType instanceof PrimitiveType primitiveType
+                        ? processingEnv
+                                .getTypeUtils()
+                                .boxedClass(primitiveType)
+                                .getQualifiedName()
+                                .toString()
+                        : sourceName(fieldType);
+        source.append("                    @Override\n")
+                .append("                    public void set(Object instance, Object value) {\n")
+                .append("                        ")
+                .append(target)
+                .append(" = (")
+                .append(castType)
+                .append(") value;\n")
+                .append("                    }\n");
+
+        // Primitive fields also get the unboxed accessors the binary serializer calls.
+        if (fieldType.getKind().isPrimitive()) {
+            String primitive = fieldType.getKind().name().toLowerCase();
+            String suffix = Character.toUpperCase(primitive.charAt(0)) + primitive.substring(1);
+            source.append("\n")
+                    .append("                    @Override\n")
+                    .append("                    public ")
+                    .append(primitive)
+                    .append(" get")
+                    .append(suffix)
+                    .append("(Object instance) {\n")
+                    .append("                        return ")
+                    .append(target)
+                    .append(";\n")
+                    .append("                    }\n\n")
+                    .append("                    @Override\n")
+                    .append("                    public void set")
+                    .append(suffix)
+                    .append("(Object instance, ")
+                    .append(primitive)
+                    .append(" value) {\n")
+                    .append("                        ")
+                    .append(target)
+                    .append(" = value;\n")
+                    .append("                    }\n");
+        }
+        source.append("                };\n");
+    }
+
+    private String dispatcherSource(TypeElement type) {
+        String typeName = sourceName(type.asType());
+        StringBuilder source =
+                header(type, DISPATCHER_SUFFIX, HANDLER_PACKAGE + "GeneratedDispatcher");
+
+        source.append("    @Override\n")
+                .append("    public ")
+                .append(HANDLER_PACKAGE)
+                .append("HandlerInvoker invoker(String methodName, Class<?> packetClass) {\n")
+                .append("        switch (methodName + \"(\" + packetClass.getName() + \")\") {\n");
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (!hasAnnotation(method, HANDLER)) continue;
+            if (method.getModifiers().contains(Modifier.PRIVATE)
+                    || method.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+
+            TypeElement packet = handledPacket(method);
+            if (packet == null || !isReachable(packet)) continue;
+
+            String packetName = sourceName(packet.asType());
+            source.append("            case \"")
+                    .append(method.getSimpleName())
+                    .append("(")
+                    .append(processingEnv.getElementUtils().getBinaryName(packet))
+                    .append(")\":\n")
+                    .append("                return (listener, event) -> ((")
+                    .append(typeName)
+                    .append(") listener).")
+                    .append(method.getSimpleName())
+                    .append("((")
+                    .append(PACKET_EVENT)
+                    .append("<")
+                    .append(packetName)
+                    .append(">) event);\n");
+        }
+        source.append("            default:\n")
+                .append("                return null;\n")
+                .append("        }\n")
+                .append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    // Returns the packet class of a well-formed handler, leaving malformed ones to be reported by
+    // the runtime exactly as they are today.
+    private static TypeElement handledPacket(ExecutableElement method) {
+        if (method.getParameters().size() != 1) return null;
+        if (!(method.getParameters().get(0).asType() instanceof DeclaredType parameter)) {
+            return null;
+        }
+        if (!((TypeElement) parameter.asElement()).getQualifiedName().contentEquals(PACKET_EVENT)
+                || parameter.getTypeArguments().size() != 1
+                || !(parameter.getTypeArguments().get(0) instanceof DeclaredType packet)) {
+            return null;
+        }
+        return (TypeElement) packet.asElement();
+    }
+
+    private StringBuilder header(TypeElement type, String suffix, String implemented) {
+        String packageName =
+                processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        StringBuilder source = new StringBuilder();
+        source.append("// Generated by chirp-processor from ")
+                .append(type.getQualifiedName())
+                .append(", do not edit.\n");
+        if (!packageName.isEmpty()) source.append("package ").append(packageName).append(";\n");
+        source.append("\n")
+                .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public final class ")
+                .append(generatedSimpleName(type, suffix))
+                .append(" implements ")
+                .append(implemented)
+                .append(" {\n\n");
+        return source;
+    }
+
+    private void write(TypeElement type, String suffix, String source) {
+        String packageName =
+                processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String simpleName = generatedSimpleName(type, suffix);
+        String name = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        if (!generated.add(name)) return;
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(name, type).openWriter()) {
+            writer.write(source);
+        } catch (IOException e) {
+            processingEnv
+                    .getMessager()
+                    .printMessage(
+                            Diagnostic.Kind.ERROR,
+                            "Failed to generate " + name + ": " + e.getMessage(),
+                            type);
+        }
+    }
+
+    // The runtime looks generated classes up by the binary name of their owner, so a nested
+    // Outer.Inner gets a top-level Outer$Inner$ChirpCodec.
+    private String generatedSimpleName(TypeElement type, String suffix) {
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        return binaryName.substring(binaryName.lastIndexOf('.') + 1) + suffix;
+    }
+
+    private String sourceName(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private boolean hasReachableNoArgConstructor(TypeElement type) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) return false;
+        if (type.getNestingKind().isNested() && !type.getModifiers().contains(Modifier.STATIC)) {
+            return false;
+        }
+        for (ExecutableElement constructor :
+                ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty()) {
+                return !constructor.getModifiers().contains(Modifier.PRIVATE);
+            }
+        }
+        return false;
+    }
+
+    private boolean isAccessible(VariableElement field) {
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE)
+                || modifiers.contains(Modifier.STATIC)
+                || modifiers.contains(Modifier.FINAL)) {
+            return false;
+        }
+        return isReachable(field.asType());
+    }
+
+    private boolean isReachable(TypeMirror type) {
+        if (type.getKind().isPrimitive()) return true;
+        if (type.getKind() == TypeKind.ARRAY) {
+            return isReachable(((ArrayType) type).getComponentType());
+        }
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        if (erased instanceof DeclaredType declared) {
+            return isReachable((TypeElement) declared.asElement());
+        }
+        return false;
+    }
+
+    // Generated code lives in the owner's package, so it can reach anything not private.
+    private static boolean isReachable(TypeElement type) {
+        if (type.getNestingKind() != NestingKind.TOP_LEVEL
+                && type.getNestingKind() != NestingKind.MEMBER) {
+            return false;
+        }
+        for (Element element = type;
+                element instanceof TypeElement;
+                element = element.getEnclosingElement()) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) return false;
+        }
+        return true;
+    }
+
+    private static boolean hasAnnotation(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(annotation)) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,115 @@
+package io.fjsn.chirp.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.fjsn.chirp.ChirpPacketEvent;
+import io.fjsn.chirp.ChirpRegistry;
+import io.fjsn.chirp.internal.handler.GeneratedDispatcher;
+import io.fjsn.chirp.internal.handler.HandlerInvoker;
+import io.fjsn.chirp.internal.schema.GeneratedCodec;
+import io.fjsn.chirp.internal.serialization.BinaryPacketSerializer;
+import io.fjsn.chirp.internal.util.GeneratedClasses;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+// Compiles a source file against the real chirp library, the way a user's build would, and
+// checks that chirp picks up and uses what the processor generated.
+class ChirpProcessorSourceTest {
+
+    @TempDir Path directory;
+
+    @Test
+    void generatedClassesShouldBeUsedByTheRuntime() throws Throwable {
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+        compile(source("game/Lobby.java"), classes);
+        assertThat(classes.resolve("game/Lobby$LobbyPacket$ChirpCodec.class")).exists();
+        assertThat(classes.resolve("game/Lobby$LobbyListener$ChirpDispatcher.class")).exists();
+        assertThat(classes.resolve("META-INF/chirp.index")).exists();
+
+        try (URLClassLoader loader =
+                new URLClassLoader(
+                        new URL[] {classes.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> packetClass = loader.loadClass("game.Lobby$LobbyPacket");
+            Class<?> listenerClass = loader.loadClass("game.Lobby$LobbyListener");
+            GeneratedCodec codec = GeneratedClasses.codec(packetClass);
+            GeneratedDispatcher dispatcher = GeneratedClasses.dispatcher(listenerClass);
+            assertThat(codec).isNotNull();
+            assertThat(dispatcher).isNotNull();
+
+            ChirpRegistry registry = new ChirpRegistry();
+            registry.registerDefaultConverters();
+            registry.registerPacket(packetClass);
+
+            Object packet = codec.instantiator().newInstance();
+            codec.accessor("name").set(packet, "lobby-1");
+            codec.accessor("players").set(packet, 12);
+            codec.accessor("tags").set(packet, List.of("eu", "ranked"));
+            Object decoded =
+                    BinaryPacketSerializer.deserialize(
+                                    BinaryPacketSerializer.serialize(
+                                            packet,
+                                            UUID.randomUUID(),
+                                            "origin",
+                                            false,
+                                            null,
+                                            false,
+                                            1L,
+                                            registry),
+                                    registry)
+                            .packet;
+            assertThat(decoded).usingRecursiveComparison().isEqualTo(packet);
+
+            Object listener = listenerClass.getConstructor().newInstance();
+            HandlerInvoker invoker = dispatcher.invoker("onLobby", packetClass);
+            invoker.invoke(
+                    listener,
+                    new ChirpPacketEvent<>(
+                            null, UUID.randomUUID(), decoded, "origin", false, null, false, 0, 1));
+            assertThat(listenerClass.getField("players").getInt(listener)).isEqualTo(12);
+        }
+    }
+
+    private static Path source(String name) throws URISyntaxException {
+        return Path.of(ChirpProcessorSourceTest.class.getResource("/" + name).toURI());
+    }
+
+    private static void compile(Path source, Path classes) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager =
+                compiler.getStandardFileManager(diagnostics, null, null)) {
+            List<String> options =
+                    List.of(
+                            "-d",
+                            classes.toString(),
+                            "-cp",
+                            System.getProperty("java.class.path") + File.pathSeparator + classes);
+            JavaCompiler.CompilationTask task =
+                    compiler.getTask(
+                            null,
+                            fileManager,
+                            diagnostics,
+                            options,
+                            null,
+                            fileManager.getJavaFileObjectsFromPaths(List.of(source)));
+            task.setProcessors(List.of(new ChirpProcessor()));
+            assertThat(task.call()).as(diagnostics.getDiagnostics().toString()).isTrue();
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package io.fjsn.chirp.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+class ChirpProcessorTest {
+
+    // Just enough of chirp's annotations and runtime interfaces for generated code to compile.
+    private static final Map<String, String> RUNTIME =
+            Map.ofEntries(
+                    Map.entry(
+                            "io/fjsn/chirp/annotation/ChirpPacket.java",
+                            "package io.fjsn.chirp.annotation; public @interface ChirpPacket {}"),
+                    Map.entry(
+                            "io/fjsn/chirp/annotation/ChirpField.java",
+                            "package io.fjsn.chirp.annotation; public @interface ChirpField {}"),
+                    Map.entry(
+                            "io/fjsn/chirp/annotation/ChirpListener.java",
+                            "package io.fjsn.chirp.annotation; public @interface ChirpListener {}"),
+                    Map.entry(
+                            "io/fjsn/chirp/annotation/ChirpHandler.java",
+                            "package io.fjsn.chirp.annotation; public @interface ChirpHandler {}"),
+                    Map.entry(
+                            "io/fjsn/chirp/annotation/ChirpConverter.java",
+                            "package io.fjsn.chirp.annotation; public @interface ChirpConverter"
+                                    + " {}"),
+                    Map.entry(
+                            "io/fjsn/chirp/ChirpPacketEvent.java",
+                            "package io.fjsn.chirp; public class ChirpPacketEvent<T> { public final"
+                                    + " T packet; public ChirpPacketEvent(T packet) { this.packet ="
+                                    + " packet; } }"),
+                    Map.entry(
+                            "io/fjsn/chirp/internal/schema/FieldAccessor.java",
+                            "package io.fjsn.chirp.internal.schema; public interface FieldAccessor"
+                                + " { Object get(Object instance); void set(Object instance, Object"
+                                + " value); default int getInt(Object instance) { return (Integer)"
+                                + " get(instance); } default void setInt(Object instance, int"
+                                + " value) { set(instance, value); } }"),
+                    Map.entry(
+                            "io/fjsn/chirp/internal/schema/Instantiator.java",
+                            "package io.fjsn.chirp.internal.schema; public interface Instantiator {"
+                                    + " Object newInstance(); }"),
+                    Map.entry(
+                            "io/fjsn/chirp/internal/schema/GeneratedCodec.java",
+                            "package io.fjsn.chirp.internal.schema; public interface GeneratedCodec"
+                                + " { Instantiator instantiator(); FieldAccessor accessor(String"
+                                + " fieldName); }"),
+                    Map.entry(
+                            "io/fjsn/chirp/internal/handler/HandlerInvoker.java",
+                            "package io.fjsn.chirp.internal.handler; public interface"
+                                + " HandlerInvoker { void invoke(Object listener,"
+                                + " io.fjsn.chirp.ChirpPacketEvent<?> event) throws Throwable; }"),
+                    Map.entry(
+                            "io/fjsn/chirp/internal/handler/GeneratedDispatcher.java",
+                            "package io.fjsn.chirp.internal.handler; public interface"
+                                + " GeneratedDispatcher { HandlerInvoker invoker(String methodName,"
+                                + " Class<?> packetClass); }"));
+
+    private static final String PACKETS =
+            """
+            package game;
+
+            import io.fjsn.chirp.ChirpPacketEvent;
+            import io.fjsn.chirp.annotation.*;
+            import java.util.List;
+
+            public class Packets {
+
+                @ChirpPacket
+                public static class ScorePacket {
+                    @ChirpField int points;
+                    @ChirpField List<String> names;
+                    @ChirpField private String secret;
+                    @ChirpField final long created = 1L;
+                }
+
+                @ChirpPacket
+                public static class SealedPacket {
+                    @ChirpField String reason;
+
+                    private SealedPacket() {}
+                }
+
+                @ChirpConverter
+                public static class NameConverter {}
+
+                @ChirpListener
+                public static class ScoreListener {
+                    public int total;
+
+                    @ChirpHandler
+                    void onScore(ChirpPacketEvent<ScorePacket> event) {
+                        total += event.packet.points;
+                    }
+
+                    @ChirpHandler
+                    private void onSealed(ChirpPacketEvent<SealedPacket> event) {}
+                }
+            }
+            """;
+
+    @TempDir Path directory;
+
+    private URLClassLoader loader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (Map.Entry<String, String> entry : RUNTIME.entrySet()) {
+            files.add(write(directory.resolve("src").resolve(entry.getKey()), entry.getValue()));
+        }
+        files.add(write(directory.resolve("src/game/Packets.java"), PACKETS));
+        compile(files);
+
+        // The real library is on the test classpath too, so it must not shadow the stubs.
+        loader =
+                new URLClassLoader(
+                        new URL[] {classes().toUri().toURL()},
+                        ClassLoader.getPlatformClassLoader());
+    }
+
+    @Test
+    void shouldIndexAnnotatedClassesAcrossIncrementalBuilds() throws IOException {
+        Path index = classes().resolve(ChirpProcessor.INDEX);
+        assertThat(Files.readAllLines(index))
+                .containsExactly(
+                        "# Generated by chirp-processor, do not edit.",
+                        "converter game.Packets$NameConverter",
+                        "listener game.Packets$ScoreListener",
+                        "packet game.Packets$ScorePacket",
+                        "packet game.Packets$SealedPacket");
+
+        // Only the changed file is recompiled, the rest of the index must survive.
+        compile(
+                List.of(
+                        write(
+                                directory.resolve("src/game/Extra.java"),
+                                "package game; @io.fjsn.chirp.annotation.ChirpPacket"
+                                        + " public class Extra {}")));
+        assertThat(Files.readAllLines(index))
+                .contains("packet game.Extra", "packet game.Packets$ScorePacket")
+                .hasSize(6);
+    }
+
+    @Test
+    void shouldGenerateAccessorsForReachableFields() throws Exception {
+        Object codec = generated("game.Packets$ScorePacket$ChirpCodec");
+        Object packet = call(call(codec, "instantiator"), "newInstance");
+        assertThat(packet.getClass().getName()).isEqualTo("game.Packets$ScorePacket");
+
+        Object points = call(codec, "accessor", "points");
+        call(points, "setInt", new Class<?>[] {Object.class, int.class}, packet, 42);
+        assertThat(call(points, "get", new Class<?>[] {Object.class}, packet)).isEqualTo(42);
+
+        Object names = call(codec, "accessor", "names");
+        call(names, "set", new Class<?>[] {Object.class, Object.class}, packet, List.of("fred"));
+        assertThat(call(names, "get", new Class<?>[] {Object.class}, packet))
+                .isEqualTo(List.of("fred"));
+
+        assertThat(call(codec, "accessor", "secret")).isNull();
+        assertThat(call(codec, "accessor", "created")).isNull();
+        assertThat(call(generated("game.Packets$SealedPacket$ChirpCodec"), "instantiator"))
+                .isNull();
+    }
+
+    @Test
+    void shouldGenerateInvokersForReachableHandlers() throws Exception {
+        Object dispatcher = generated("game.Packets$ScoreListener$ChirpDispatcher");
+        Class<?> scorePacket = loader.loadClass("game.Packets$ScorePacket");
+        Class<?> sealedPacket = loader.loadClass("game.Packets$SealedPacket");
+
+        Object listener =
+                loader.loadClass("game.Packets$ScoreListener").getConstructor().newInstance();
+        Object packet = scorePacket.getDeclaredConstructor().newInstance();
+        Object event =
+                loader.loadClass("io.fjsn.chirp.ChirpPacketEvent")
+                        .getConstructor(Object.class)
+                        .newInstance(packet);
+        Object points =
+                call(generated("game.Packets$ScorePacket$ChirpCodec"), "accessor", "points");
+        call(points, "setInt", new Class<?>[] {Object.class, int.class}, packet, 7);
+
+        Class<?>[] invokerParameters = {String.class, Class.class};
+        Object invoker = call(dispatcher, "invoker", invokerParameters, "onScore", scorePacket);
+        call(invoker, "invoke", new Class<?>[] {Object.class, event.getClass()}, listener, event);
+
+        assertThat(listener.getClass().getField("total").getInt(listener)).isEqualTo(7);
+        assertThat(call(dispatcher, "invoker", invokerParameters, "onScore", sealedPacket))
+                .isNull();
+        assertThat(call(dispatcher, "invoker", invokerParameters, "onSealed", sealedPacket))
+                .isNull();
+    }
+
+    private void compile(List<Path> files) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager =
+                compiler.getStandardFileManager(diagnostics, null, null)) {
+            List<String> options =
+                    List.of(
+                            "-d",
+                            classes().toString(),
+                            "-cp",
+                            classes().toString(),
+                            "-s",
+                            Files.createDirectories(directory.resolve("generated")).toString());
+            JavaCompiler.CompilationTask task =
+                    compiler.getTask(
+                            null,
+                            fileManager,
+                            diagnostics,
+                            options,
+                            null,
+                            fileManager.getJavaFileObjectsFromPaths(files));
+            task.setProcessors(List.of(new ChirpProcessor()));
+            assertThat(task.call()).as(diagnostics.getDiagnostics().toString()).isTrue();
+        }
+    }
+
+    private Path classes() throws IOException {
+        return Files.createDirectories(directory.resolve("classes"));
+    }
+
+    private static Path write(Path path, String source) throws IOException {
+        Files.createDirectories(path.getParent());
+        return Files.writeString(path, source);
+    }
+
+    private Object generated(String name) throws ReflectiveOperationException {
+        return loader.loadClass(name).getConstructor().newInstance();
+    }
+
+    private Object call(Object target, String method, Object... arguments)
+            throws ReflectiveOperationException {
+        Class<?>[] parameters = new Class<?>[arguments.length];
+        for (int i = 0; i < arguments.length; i++) parameters[i] = arguments[i].getClass();
+        return call(target, method, parameters, arguments);
+    }
+
+    // Generated classes are only visible through the test's class loader, so they are called
+    // through the interfaces they implement.
+    private Object call(Object target, String name, Class<?>[] parameters, Object... arguments)
+            throws ReflectiveOperationException {
+        for (Class<?> type : target.getClass().getInterfaces()) {
+            try {
+                Method method = type.getMethod(name, parameters);
+                return method.invoke(target, arguments);
+            } catch (NoSuchMethodException e) {
+                // Try the next interface.
+            }
+        }
+        throw new NoSuchMethodException(target.getClass().getName() + "#" + name);
+    }
+}
@@ -0,0 +1,33 @@
+package game;
+
+import io.fjsn.chirp.ChirpPacketEvent;
+import io.fjsn.chirp.annotation.ChirpField;
+import io.fjsn.chirp.annotation.ChirpHandler;
+import io.fjsn.chirp.annotation.ChirpListener;
+import io.fjsn.chirp.annotation.ChirpPacket;
+
+import java.util.List;
+
+public class Lobby {
+
+    @ChirpPacket
+    public static class LobbyPacket {
+
+        @ChirpField String name;
+        @ChirpField int players;
+        @ChirpField List<String> tags;
+
+        public LobbyPacket() {}
+    }
+
+    @ChirpListener(scan = false)
+    public static class LobbyListener {
+
+        public int players;
+
+        @ChirpHandler
+        public void onLobby(ChirpPacketEvent<LobbyPacket> event) {
+            players += event.getPacket().players;
+        }
+    }
+}
@@ -1,7 +0,0 @@
-package io.fjsn.chirp.annotation;
-
-import java.lang.annotation.*;
-
-@Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.FIELD)
-public @interface ChirpField {}
@@ -1,34 +0,0 @@
-package io.fjsn.chirp.converter.impl;
-
-import com.google.gson.JsonElement;
-import com.google.gson.JsonPrimitive;
-
-import io.fjsn.chirp.ChirpRegistry;
-import io.fjsn.chirp.annotation.ChirpConverter;
-import io.fjsn.chirp.converter.FieldConverter;
-
-import java.lang.reflect.Type;
-
-@ChirpConverter
-public class LongConverter implements FieldConverter<Long> {
-    @Override
-    public JsonElement serialize(Long value, Type type, ChirpRegistry registry) {
-        if (value == null) {
-            return null;
-        }
-        return new JsonPrimitive(value);
-    }
-
-    @Override
-    public Long deserialize(JsonElement json, Type type, ChirpRegistry registry) {
-        if (json == null || json.isJsonNull()) {
-            return null;
-        }
-        if (!json.isJsonPrimitive() || !json.getAsJsonPrimitive().isNumber()) {
-            throw new IllegalArgumentException(
-                    "Expected JSON number primitive for Long, got: "
-                            + json.getClass().getSimpleName());
-        }
-        return json.getAsLong();
-    }
-}